@@ -146,7 +146,10 @@ public final class NBTConstants {
     public static final String PUBLIC_FREQUENCY = "publicFreq";
     public static final String PULL = "pull";
     public static final String PULSE = "pulse";
+    public static final String QIO_ITEM_COUNTS = "qioItemCounts";
+    public static final String QIO_ITEM_FORMAT = "qioItemFormat";
     public static final String QIO_ITEM_MAP = "qioItemMap";
+    public static final String QIO_ITEM_TYPES = "qioItemTypes";
     public static final String QIO_META_COUNT = "qioMetaCount";
     public static final String QIO_META_TYPES = "qioMetaTypes";
     public static final String RADIATION = "radiation";
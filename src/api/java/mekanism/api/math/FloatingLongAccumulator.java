@@ -0,0 +1,526 @@
+package mekanism.api.math;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import mcp.MethodsReturnNonnullByDefault;
+
+/**
+ * A mutable, primitive backed accumulator that follows the same semantics as {@link FloatingLong}, but never allocates while performing operations. This allows
+ * chaining a set of operations together (for example multiply then divide then clamp) and only creating a {@link FloatingLong} once the final result is known.
+ *
+ * @apiNote Results are bit for bit identical to performing the same operations on a mutable {@link FloatingLong}. Instances of this class are not thread safe, and
+ * are intended to be reused by the owner rather than shared.
+ */
+@ParametersAreNonnullByDefault
+@MethodsReturnNonnullByDefault
+public final class FloatingLongAccumulator implements Comparable<FloatingLongAccumulator> {
+
+    /**
+     * The maximum value we can represent as a decimal
+     */
+    private static final short MAX_DECIMAL = 9_999;
+    /**
+     * The value which represents 1.0, this is one more than the value of {@link #MAX_DECIMAL}
+     */
+    private static final short SINGLE_UNIT = MAX_DECIMAL + 1;
+    /**
+     * The maximum value where the decimal can be eliminated without {@link #value} overflowing, want to be able to shift twice
+     */
+    private static final long MAX_LONG_SHIFT = Long.divideUnsigned(Long.divideUnsigned(-1L, SINGLE_UNIT), SINGLE_UNIT);
+
+    private long value;
+    private short decimal;
+
+    /**
+     * Creates a new accumulator with a value of zero.
+     */
+    public FloatingLongAccumulator() {
+    }
+
+    /**
+     * Creates a new accumulator with the same value as the given {@link FloatingLong}.
+     *
+     * @param initial The initial value.
+     */
+    public FloatingLongAccumulator(FloatingLong initial) {
+        set(initial);
+    }
+
+    /**
+     * @return the unsigned long representing the whole number value of this accumulator
+     */
+    public long getValue() {
+        return value;
+    }
+
+    /**
+     * @return the short representing the decimal value of this accumulator
+     */
+    public short getDecimal() {
+        return decimal;
+    }
+
+    /**
+     * Checks if this accumulator is zero.
+     *
+     * @return {@code true} if this accumulator should be treated as zero, {@code false} otherwise.
+     */
+    public boolean isZero() {
+        return value == 0 && decimal <= 0;
+    }
+
+    /**
+     * Sets this accumulator to zero.
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator setZero() {
+        value = 0;
+        decimal = 0;
+        return this;
+    }
+
+    /**
+     * Sets this accumulator to the value of the given {@link FloatingLong}.
+     *
+     * @param other The value to copy.
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator set(FloatingLong other) {
+        value = other.getValue();
+        decimal = other.getDecimal();
+        return this;
+    }
+
+    /**
+     * Sets this accumulator to the value of the given accumulator.
+     *
+     * @param other The value to copy.
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator set(FloatingLongAccumulator other) {
+        value = other.value;
+        decimal = other.decimal;
+        return this;
+    }
+
+    /**
+     * Sets this accumulator to the given unsigned long and decimal, clamping the decimal to the valid range.
+     *
+     * @param value   The whole number value to set
+     * @param decimal The decimal value to set
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator set(long value, short decimal) {
+        return setAndClampValues(value, decimal);
+    }
+
+    private FloatingLongAccumulator setAndClampValues(long value, short decimal) {
+        if (decimal < 0) {
+            decimal = 0;
+        } else if (decimal > MAX_DECIMAL) {
+            decimal = MAX_DECIMAL;
+        }
+        this.value = value;
+        this.decimal = decimal;
+        return this;
+    }
+
+    private FloatingLongAccumulator setMax() {
+        value = -1;
+        decimal = MAX_DECIMAL;
+        return this;
+    }
+
+    /**
+     * Adds the given {@link FloatingLong} to this accumulator. This gets clamped at the upper bound of {@link FloatingLong#MAX_VALUE} rather than overflowing.
+     *
+     * @param toAdd The {@link FloatingLong} to add.
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator plusEqual(FloatingLong toAdd) {
+        return plusEqual(toAdd.getValue(), toAdd.getDecimal());
+    }
+
+    /**
+     * Adds the given accumulator to this accumulator. This gets clamped at the upper bound of {@link FloatingLong#MAX_VALUE} rather than overflowing.
+     *
+     * @param toAdd The accumulator to add.
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator plusEqual(FloatingLongAccumulator toAdd) {
+        return plusEqual(toAdd.value, toAdd.decimal);
+    }
+
+    /**
+     * Adds the given unsigned long and decimal to this accumulator. This gets clamped at the upper bound of {@link FloatingLong#MAX_VALUE} rather than overflowing.
+     *
+     * @param toAddValue   The whole number portion to add represented as an unsigned long.
+     * @param toAddDecimal The decimal portion to add.
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator plusEqual(long toAddValue, short toAddDecimal) {
+        if ((value < 0 && toAddValue < 0) || ((value < 0 || toAddValue < 0) && (value + toAddValue >= 0))) {
+            return setMax();
+        }
+        long newValue = value + toAddValue;
+        short newDecimal = (short) (decimal + toAddDecimal);
+        if (newDecimal > MAX_DECIMAL) {
+            if (newValue == -1) {
+                newDecimal = MAX_DECIMAL;
+            } else {
+                newDecimal -= SINGLE_UNIT;
+                newValue++;
+            }
+        }
+        return setAndClampValues(newValue, newDecimal);
+    }
+
+    /**
+     * Subtracts the given {@link FloatingLong} from this accumulator. This gets clamped at the lower bound of {@link FloatingLong#ZERO} rather than becoming negative.
+     *
+     * @param toSubtract The {@link FloatingLong} to subtract.
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator minusEqual(FloatingLong toSubtract) {
+        return minusEqual(toSubtract.getValue(), toSubtract.getDecimal());
+    }
+
+    /**
+     * Subtracts the given accumulator from this accumulator. This gets clamped at the lower bound of {@link FloatingLong#ZERO} rather than becoming negative.
+     *
+     * @param toSubtract The accumulator to subtract.
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator minusEqual(FloatingLongAccumulator toSubtract) {
+        return minusEqual(toSubtract.value, toSubtract.decimal);
+    }
+
+    /**
+     * Subtracts the given unsigned long and decimal from this accumulator. This gets clamped at the lower bound of {@link FloatingLong#ZERO} rather than becoming
+     * negative.
+     *
+     * @param toSubtractValue   The whole number portion to subtract represented as an unsigned long.
+     * @param toSubtractDecimal The decimal portion to subtract.
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator minusEqual(long toSubtractValue, short toSubtractDecimal) {
+        if (compare(value, decimal, toSubtractValue, toSubtractDecimal) < 0) {
+            //Clamp the result at zero as floating longs cannot become negative
+            return setZero();
+        }
+        long newValue = value - toSubtractValue;
+        short newDecimal = (short) (decimal - toSubtractDecimal);
+        if (newDecimal < 0) {
+            newDecimal += SINGLE_UNIT;
+            newValue--;
+        }
+        return setAndClampValues(newValue, newDecimal);
+    }
+
+    /**
+     * Multiplies this accumulator by the given {@link FloatingLong}. This gets clamped at the upper bound of {@link FloatingLong#MAX_VALUE} rather than overflowing.
+     *
+     * @param toMultiply The {@link FloatingLong} to multiply by.
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator timesEqual(FloatingLong toMultiply) {
+        return timesEqual(toMultiply.getValue(), toMultiply.getDecimal());
+    }
+
+    /**
+     * Multiplies this accumulator by the given unsigned long and decimal. This gets clamped at the upper bound of {@link FloatingLong#MAX_VALUE} rather than
+     * overflowing.
+     *
+     * @param toMultiplyValue   The whole number portion to multiply by represented as an unsigned long.
+     * @param toMultiplyDecimal The decimal portion to multiply by.
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator timesEqual(long toMultiplyValue, short toMultiplyDecimal) {
+        //(a+b)*(c+d) where numbers represent decimal, numbers represent value
+        if (multiplyLongsWillOverFlow(value, toMultiplyValue)) {
+            return setMax();
+        }
+        long a = value;
+        short b = decimal;
+        set(multiplyLongs(a, toMultiplyValue), (short) 0);//a * c
+        plusLongTimesDecimal(a, toMultiplyDecimal);//a * d
+        plusLongTimesDecimal(toMultiplyValue, b);//b * c
+        //b * d
+        //Note: If we instead wanted to round here, just get modulus and add if >= 0.5*SINGLE_UNIT
+        return plusEqual(0, (short) ((long) b * (long) toMultiplyDecimal / SINGLE_UNIT));
+    }
+
+    /**
+     * Divides this accumulator by the given {@link FloatingLong}. Rounds to the nearest 0.0001
+     *
+     * @param toDivide The {@link FloatingLong} to divide by.
+     *
+     * @return this accumulator
+     *
+     * @throws ArithmeticException if {@code toDivide} is zero.
+     * @implNote Dividing by a value that has a decimal portion falls back to {@link FloatingLong#divideEquals(FloatingLong)} and will allocate. Dividing by whole
+     * numbers never allocates.
+     */
+    public FloatingLongAccumulator divideEquals(FloatingLong toDivide) {
+        if (toDivide.isZero()) {
+            throw new ArithmeticException("Division by zero");
+        } else if (isZero()) {
+            return setZero();
+        } else if (toDivide.getDecimal() == 0) {
+            return divideEquals(toDivide.getValue());
+        }
+        return set(toFloatingLong().divideEquals(toDivide));
+    }
+
+    /**
+     * Divides this accumulator by the given unsigned long primitive. Rounds to the nearest 0.0001
+     *
+     * @param toDivide The value to divide by represented as an unsigned long.
+     *
+     * @return this accumulator
+     *
+     * @throws ArithmeticException if {@code toDivide} is zero.
+     */
+    public FloatingLongAccumulator divideEquals(long toDivide) {
+        if (toDivide == 0) {
+            throw new ArithmeticException("Division by zero");
+        } else if (isZero()) {
+            return setZero();
+        }
+        long val = Long.divideUnsigned(value, toDivide);
+        long rem = Long.remainderUnsigned(value, toDivide);
+        long dec;
+        if (Long.compareUnsigned(rem, MAX_LONG_SHIFT / 10) >= 0) {
+            //if that'll overflow, then toDivide also has to be big. let's just lose some denominator precision and use that
+            dec = Long.divideUnsigned(rem, Long.divideUnsigned(toDivide, SINGLE_UNIT * 10L));
+        } else {
+            dec = Long.divideUnsigned(rem * SINGLE_UNIT * 10L, toDivide);
+            dec += Long.divideUnsigned(decimal * 10L, toDivide);
+        }
+        //usually will expect to round to nearest, so we have to do that here
+        if (Long.remainderUnsigned(dec, 10) >= 5) {
+            dec += 10;
+            if (dec >= SINGLE_UNIT * 10) {
+                val++;
+                dec -= SINGLE_UNIT * 10;
+            }
+        }
+        dec /= 10;
+        return setAndClampValues(val, (short) dec);
+    }
+
+    /**
+     * Multiplies this accumulator by {@code toMultiply} and then divides it by {@code toDivide} as a single operation.
+     *
+     * @param toMultiply The {@link FloatingLong} to multiply by.
+     * @param toDivide   The {@link FloatingLong} to divide by.
+     *
+     * @return this accumulator
+     *
+     * @throws ArithmeticException if {@code toDivide} is zero.
+     */
+    public FloatingLongAccumulator timesDivideEquals(FloatingLong toMultiply, FloatingLong toDivide) {
+        return timesEqual(toMultiply).divideEquals(toDivide);
+    }
+
+    /**
+     * Multiplies this accumulator by {@code toMultiply}, divides it by {@code toDivide} and then clamps it so that it is at most {@code max} as a single operation.
+     *
+     * @param toMultiply The {@link FloatingLong} to multiply by.
+     * @param toDivide   The {@link FloatingLong} to divide by.
+     * @param max        The upper bound to clamp the result to.
+     *
+     * @return this accumulator
+     *
+     * @throws ArithmeticException if {@code toDivide} is zero.
+     */
+    public FloatingLongAccumulator timesDivideEquals(FloatingLong toMultiply, FloatingLong toDivide, FloatingLong max) {
+        return timesDivideEquals(toMultiply, toDivide).minEqual(max);
+    }
+
+    /**
+     * Clamps this accumulator so that it is at most the given {@link FloatingLong}.
+     *
+     * @param other The upper bound.
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator minEqual(FloatingLong other) {
+        return greaterThan(other) ? set(other) : this;
+    }
+
+    /**
+     * Clamps this accumulator so that it is at least the given {@link FloatingLong}.
+     *
+     * @param other The lower bound.
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator maxEqual(FloatingLong other) {
+        return smallerThan(other) ? set(other) : this;
+    }
+
+    /**
+     * Helper method to check if this accumulator is smaller than the given {@link FloatingLong}
+     */
+    public boolean smallerThan(FloatingLong toCompare) {
+        return compareTo(toCompare) < 0;
+    }
+
+    /**
+     * Helper method to check if this accumulator is smaller than or equal to the given {@link FloatingLong}
+     */
+    public boolean smallerOrEqual(FloatingLong toCompare) {
+        return compareTo(toCompare) <= 0;
+    }
+
+    /**
+     * Helper method to check if this accumulator is greater than the given {@link FloatingLong}
+     */
+    public boolean greaterThan(FloatingLong toCompare) {
+        return compareTo(toCompare) > 0;
+    }
+
+    /**
+     * Helper method to check if this accumulator is greater than or equal to the given {@link FloatingLong}
+     */
+    public boolean greaterOrEqual(FloatingLong toCompare) {
+        return compareTo(toCompare) >= 0;
+    }
+
+    /**
+     * Compares this accumulator to the given {@link FloatingLong} using the same contract as {@link FloatingLong#compareTo(FloatingLong)}.
+     */
+    public int compareTo(FloatingLong toCompare) {
+        return compare(value, decimal, toCompare.getValue(), toCompare.getDecimal());
+    }
+
+    @Override
+    public int compareTo(FloatingLongAccumulator toCompare) {
+        return compare(value, decimal, toCompare.value, toCompare.decimal);
+    }
+
+    /**
+     * Checks if this accumulator is equal in value to the given {@link FloatingLong}
+     *
+     * @param other The {@link FloatingLong} to compare to
+     *
+     * @return {@code true} if this accumulator is equal in value to the given {@link FloatingLong}, {@code false} otherwise.
+     */
+    public boolean valueEquals(FloatingLong other) {
+        return value == other.getValue() && decimal == other.getDecimal();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        } else if (other instanceof FloatingLongAccumulator) {
+            FloatingLongAccumulator o = (FloatingLongAccumulator) other;
+            return value == o.value && decimal == o.decimal;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(value) + decimal;
+    }
+
+    /**
+     * @return A new mutable {@link FloatingLong} representing the current value of this accumulator.
+     */
+    public FloatingLong toFloatingLong() {
+        return FloatingLong.create(value, decimal);
+    }
+
+    /**
+     * @return A new constant {@link FloatingLong} representing the current value of this accumulator.
+     */
+    public FloatingLong toFloatingLongConst() {
+        return FloatingLong.createConst(value, decimal);
+    }
+
+    /**
+     * Same as {@link FloatingLong#longValue()}, clamps the value to MAX_LONG rather than having it overflow into the negatives.
+     */
+    public long longValue() {
+        return MathUtils.clampUnsignedToLong(value);
+    }
+
+    /**
+     * Same as {@link FloatingLong#doubleValue()}
+     */
+    public double doubleValue() {
+        return MathUtils.unsignedLongToDouble(value) + decimal / (double) SINGLE_UNIT;
+    }
+
+    @Override
+    public String toString() {
+        return toFloatingLong().toString();
+    }
+
+    /**
+     * Internal helper to add the result of multiplying a long by a decimal.
+     */
+    private void plusLongTimesDecimal(long value, short decimal) {
+        //This can't overflow!
+        if (Long.compareUnsigned(value, Long.divideUnsigned(-1, SINGLE_UNIT)) > 0) {
+            plusEqual(Long.divideUnsigned(value, SINGLE_UNIT) * decimal, clampDecimal((short) (value % SINGLE_UNIT * decimal)));
+        } else {
+            plusEqual(Long.divideUnsigned(value * decimal, SINGLE_UNIT), clampDecimal((short) (value * decimal % SINGLE_UNIT)));
+        }
+    }
+
+    private static short clampDecimal(short decimal) {
+        if (decimal < 0) {
+            return 0;
+        } else if (decimal > MAX_DECIMAL) {
+            return MAX_DECIMAL;
+        }
+        return decimal;
+    }
+
+    private static int compare(long value, short decimal, long otherValue, short otherDecimal) {
+        int valueCompare = Long.compareUnsigned(value, otherValue);
+        if (valueCompare == 0) {
+            if (decimal < otherDecimal) {
+                return -2;
+            } else if (decimal > otherDecimal) {
+                return 2;
+            }
+            return 0;
+        }
+        return valueCompare;
+    }
+
+    /**
+     * Internal helper to determine if the result of unsigned long multiplication will overflow.
+     */
+    private static boolean multiplyLongsWillOverFlow(long a, long b) {
+        return (a != 0 && b != 0 && Long.compareUnsigned(b, Long.divideUnsigned(-1, a)) > 0);
+    }
+
+    /**
+     * Internal helper to multiply two longs and clamp if they overflow.
+     */
+    private static long multiplyLongs(long a, long b) {
+        if (a == 0 || b == 0) {
+            return 0;
+        } else if (multiplyLongsWillOverFlow(a, b)) {
+            return -1;
+        }
+        return a * b;
+    }
+}
@@ -0,0 +1,342 @@
+package mekanism.api.math;
+
+import java.math.BigInteger;
+import javax.annotation.ParametersAreNonnullByDefault;
+import mcp.MethodsReturnNonnullByDefault;
+
+/**
+ * A mutable, primitive backed accumulator for sums of {@link FloatingLong}s that may not fit in a {@link FloatingLong}, such as the total energy or capacity of a large
+ * multiblock. The value is stored as a {@link FloatingLong} styled unsigned long and decimal, plus a second unsigned long holding the number of times the whole number
+ * value has overflowed, giving a range of roughly 2^128.
+ * <br>
+ * As long as the value fits in a {@link FloatingLong}, the overflow stays zero and operations only touch the same fields a {@link FloatingLongAccumulator} would.
+ *
+ * @apiNote Results are exact rather than clamped at {@link FloatingLong#MAX_VALUE}, and only get clamped when converting back to a {@link FloatingLong}. Instances of
+ * this class are not thread safe, and are intended to be reused by the owner rather than shared.
+ */
+@ParametersAreNonnullByDefault
+@MethodsReturnNonnullByDefault
+public final class WideFloatingLongAccumulator implements Comparable<WideFloatingLongAccumulator> {
+
+    /**
+     * The maximum value we can represent as a decimal
+     */
+    private static final short MAX_DECIMAL = 9_999;
+    /**
+     * The value which represents 1.0, this is one more than the value of {@link #MAX_DECIMAL}
+     */
+    private static final short SINGLE_UNIT = MAX_DECIMAL + 1;
+    /**
+     * 2^64 represented as a double, the weight of a single unit of {@link #overflow}
+     */
+    private static final double OVERFLOW_UNIT = 0x1p64;
+
+    private long overflow;
+    private long value;
+    private short decimal;
+
+    /**
+     * Creates a new accumulator with a value of zero.
+     */
+    public WideFloatingLongAccumulator() {
+    }
+
+    /**
+     * Creates a new accumulator with the same value as the given {@link FloatingLong}.
+     *
+     * @param initial The initial value.
+     */
+    public WideFloatingLongAccumulator(FloatingLong initial) {
+        set(initial);
+    }
+
+    /**
+     * @return the unsigned long representing how many times the whole number value of this accumulator has overflowed
+     */
+    public long getOverflow() {
+        return overflow;
+    }
+
+    /**
+     * @return the unsigned long representing the whole number value of this accumulator, excluding any overflow
+     */
+    public long getValue() {
+        return value;
+    }
+
+    /**
+     * @return the short representing the decimal value of this accumulator
+     */
+    public short getDecimal() {
+        return decimal;
+    }
+
+    /**
+     * Checks if this accumulator is zero.
+     *
+     * @return {@code true} if this accumulator should be treated as zero, {@code false} otherwise.
+     */
+    public boolean isZero() {
+        return overflow == 0 && value == 0 && decimal <= 0;
+    }
+
+    /**
+     * Checks if the value of this accumulator can be represented by a {@link FloatingLong} without being clamped.
+     *
+     * @return {@code true} if this accumulator is at most {@link FloatingLong#MAX_VALUE}, {@code false} otherwise.
+     */
+    public boolean fitsInFloatingLong() {
+        return overflow == 0;
+    }
+
+    /**
+     * Sets this accumulator to zero.
+     *
+     * @return this accumulator
+     */
+    public WideFloatingLongAccumulator setZero() {
+        overflow = 0;
+        value = 0;
+        decimal = 0;
+        return this;
+    }
+
+    /**
+     * Sets this accumulator to the value of the given {@link FloatingLong}.
+     *
+     * @param other The value to copy.
+     *
+     * @return this accumulator
+     */
+    public WideFloatingLongAccumulator set(FloatingLong other) {
+        overflow = 0;
+        value = other.getValue();
+        decimal = other.getDecimal();
+        return this;
+    }
+
+    /**
+     * Sets this accumulator to the value of the given accumulator.
+     *
+     * @param other The value to copy.
+     *
+     * @return this accumulator
+     */
+    public WideFloatingLongAccumulator set(WideFloatingLongAccumulator other) {
+        overflow = other.overflow;
+        value = other.value;
+        decimal = other.decimal;
+        return this;
+    }
+
+    private WideFloatingLongAccumulator setMax() {
+        overflow = -1;
+        value = -1;
+        decimal = MAX_DECIMAL;
+        return this;
+    }
+
+    /**
+     * Adds the given {@link FloatingLong} to this accumulator.
+     *
+     * @param toAdd The {@link FloatingLong} to add.
+     *
+     * @return this accumulator
+     */
+    public WideFloatingLongAccumulator plusEqual(FloatingLong toAdd) {
+        return plusEqual(0, toAdd.getValue(), toAdd.getDecimal());
+    }
+
+    /**
+     * Adds the given accumulator to this accumulator.
+     *
+     * @param toAdd The accumulator to add.
+     *
+     * @return this accumulator
+     */
+    public WideFloatingLongAccumulator plusEqual(WideFloatingLongAccumulator toAdd) {
+        return plusEqual(toAdd.overflow, toAdd.value, toAdd.decimal);
+    }
+
+    private WideFloatingLongAccumulator plusEqual(long toAddOverflow, long toAddValue, short toAddDecimal) {
+        short newDecimal = (short) (decimal + toAddDecimal);
+        long carry = 0;
+        if (newDecimal > MAX_DECIMAL) {
+            newDecimal -= SINGLE_UNIT;
+            carry = 1;
+        }
+        long newValue = value + toAddValue + carry;
+        //Carry into the overflow if the unsigned addition wrapped around
+        long valueCarry = Long.compareUnsigned(newValue, value) < 0 || (carry == 1 && newValue == value) ? 1 : 0;
+        if (toAddOverflow == 0 && valueCarry == 0) {
+            //Fast path, nothing to add to the overflow
+            value = newValue;
+            decimal = newDecimal;
+            return this;
+        }
+        long newOverflow = overflow + toAddOverflow + valueCarry;
+        if (Long.compareUnsigned(newOverflow, overflow) < 0 || (valueCarry == 1 && newOverflow == overflow)) {
+            //Clamp if even the overflow overflowed
+            return setMax();
+        }
+        overflow = newOverflow;
+        value = newValue;
+        decimal = newDecimal;
+        return this;
+    }
+
+    /**
+     * Subtracts the given {@link FloatingLong} from this accumulator. This gets clamped at the lower bound of zero rather than becoming negative.
+     *
+     * @param toSubtract The {@link FloatingLong} to subtract.
+     *
+     * @return this accumulator
+     */
+    public WideFloatingLongAccumulator minusEqual(FloatingLong toSubtract) {
+        return minusEqual(0, toSubtract.getValue(), toSubtract.getDecimal());
+    }
+
+    /**
+     * Subtracts the given accumulator from this accumulator. This gets clamped at the lower bound of zero rather than becoming negative.
+     *
+     * @param toSubtract The accumulator to subtract.
+     *
+     * @return this accumulator
+     */
+    public WideFloatingLongAccumulator minusEqual(WideFloatingLongAccumulator toSubtract) {
+        return minusEqual(toSubtract.overflow, toSubtract.value, toSubtract.decimal);
+    }
+
+    private WideFloatingLongAccumulator minusEqual(long toSubtractOverflow, long toSubtractValue, short toSubtractDecimal) {
+        if (compare(overflow, value, decimal, toSubtractOverflow, toSubtractValue, toSubtractDecimal) < 0) {
+            //Clamp the result at zero as we cannot become negative
+            return setZero();
+        }
+        short newDecimal = (short) (decimal - toSubtractDecimal);
+        long borrow = 0;
+        if (newDecimal < 0) {
+            newDecimal += SINGLE_UNIT;
+            borrow = 1;
+        }
+        long newValue = value - toSubtractValue - borrow;
+        //Borrow from the overflow if the unsigned subtraction wrapped around
+        long valueBorrow = Long.compareUnsigned(value, toSubtractValue) < 0 || (borrow == 1 && value == toSubtractValue) ? 1 : 0;
+        //Note: We already checked we are at least as large as the value being subtracted so the overflow can't become negative
+        overflow -= toSubtractOverflow + valueBorrow;
+        value = newValue;
+        decimal = newDecimal;
+        return this;
+    }
+
+    /**
+     * Helper method to check if this accumulator is smaller than the given {@link FloatingLong}
+     */
+    public boolean smallerThan(FloatingLong toCompare) {
+        return compareTo(toCompare) < 0;
+    }
+
+    /**
+     * Helper method to check if this accumulator is greater than the given {@link FloatingLong}
+     */
+    public boolean greaterThan(FloatingLong toCompare) {
+        return compareTo(toCompare) > 0;
+    }
+
+    /**
+     * Compares this accumulator to the given {@link FloatingLong} using the same contract as {@link FloatingLong#compareTo(FloatingLong)}.
+     */
+    public int compareTo(FloatingLong toCompare) {
+        return compare(overflow, value, decimal, 0, toCompare.getValue(), toCompare.getDecimal());
+    }
+
+    @Override
+    public int compareTo(WideFloatingLongAccumulator toCompare) {
+        return compare(overflow, value, decimal, toCompare.overflow, toCompare.value, toCompare.decimal);
+    }
+
+    /**
+     * Checks if this accumulator is equal in value to the given {@link FloatingLong}
+     *
+     * @param other The {@link FloatingLong} to compare to
+     *
+     * @return {@code true} if this accumulator is equal in value to the given {@link FloatingLong}, {@code false} otherwise.
+     */
+    public boolean valueEquals(FloatingLong other) {
+        return overflow == 0 && value == other.getValue() && decimal == other.getDecimal();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        } else if (other instanceof WideFloatingLongAccumulator) {
+            WideFloatingLongAccumulator o = (WideFloatingLongAccumulator) other;
+            return overflow == o.overflow && value == o.value && decimal == o.decimal;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Long.hashCode(overflow) + Long.hashCode(value)) + decimal;
+    }
+
+    /**
+     * @return A new mutable {@link FloatingLong} representing the current value of this accumulator, clamped to {@link FloatingLong#MAX_VALUE}.
+     */
+    public FloatingLong toFloatingLong() {
+        return overflow == 0 ? FloatingLong.create(value, decimal) : FloatingLong.create(-1, MAX_DECIMAL);
+    }
+
+    /**
+     * @return A new constant {@link FloatingLong} representing the current value of this accumulator, clamped to {@link FloatingLong#MAX_VALUE}.
+     */
+    public FloatingLong toFloatingLongConst() {
+        return overflow == 0 ? FloatingLong.createConst(value, decimal) : FloatingLong.MAX_VALUE;
+    }
+
+    /**
+     * Same as {@link FloatingLong#longValue()}, clamps the value to MAX_LONG rather than having it overflow into the negatives.
+     */
+    public long longValue() {
+        return overflow == 0 ? MathUtils.clampUnsignedToLong(value) : Long.MAX_VALUE;
+    }
+
+    /**
+     * Same as {@link FloatingLong#doubleValue()}
+     */
+    public double doubleValue() {
+        double whole = MathUtils.unsignedLongToDouble(value);
+        if (overflow != 0) {
+            whole += MathUtils.unsignedLongToDouble(overflow) * OVERFLOW_UNIT;
+        }
+        return whole + decimal / (double) SINGLE_UNIT;
+    }
+
+    @Override
+    public String toString() {
+        if (overflow == 0) {
+            return FloatingLong.create(value, decimal).toString();
+        }
+        String whole = new BigInteger(Long.toUnsignedString(overflow)).shiftLeft(Long.SIZE).add(new BigInteger(Long.toUnsignedString(value))).toString();
+        //Reuse FloatingLong's formatting of the decimal, skipping the leading zero
+        return decimal == 0 ? whole : whole + FloatingLong.create(0, decimal).toString().substring(1);
+    }
+
+    private static int compare(long overflow, long value, short decimal, long otherOverflow, long otherValue, short otherDecimal) {
+        int overflowCompare = Long.compareUnsigned(overflow, otherOverflow);
+        if (overflowCompare != 0) {
+            return overflowCompare;
+        }
+        int valueCompare = Long.compareUnsigned(value, otherValue);
+        if (valueCompare == 0) {
+            if (decimal < otherDecimal) {
+                return -2;
+            } else if (decimal > otherDecimal) {
+                return 2;
+            }
+            return 0;
+        }
+        return valueCompare;
+    }
+}
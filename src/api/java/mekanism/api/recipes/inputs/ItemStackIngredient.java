@@ -6,6 +6,7 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import javax.annotation.Nonnull;
@@ -183,6 +184,14 @@ public abstract class ItemStackIngredient implements InputIngredient<@NonNull It
             return representations;
         }
 
+        /**
+         * @return The vanilla ingredient that determines what items this ingredient accepts.
+         */
+        @Nonnull
+        public Ingredient getInputRaw() {
+            return ingredient;
+        }
+
         @Override
         public void write(PacketBuffer buffer) {
             buffer.writeEnumValue(IngredientType.SINGLE);
@@ -257,6 +266,14 @@ public abstract class ItemStackIngredient implements InputIngredient<@NonNull It
             return representations;
         }
 
+        /**
+         * @return An unmodifiable view of the ingredients this ingredient is made up of.
+         */
+        @Nonnull
+        public List<ItemStackIngredient> getIngredients() {
+            return Collections.unmodifiableList(Arrays.asList(ingredients));
+        }
+
         @Override
         public void write(PacketBuffer buffer) {
             buffer.writeEnumValue(IngredientType.MULTI);
@@ -597,6 +597,12 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.COMMAND_CHUNK_LOADED, "Loaded chunk (%s).");
         add(MekanismLang.COMMAND_CHUNK_UNLOADED, "Unloaded chunk (%s).");
         add(MekanismLang.COMMAND_DEBUG, "Toggled debug mode: %s.");
+        add(MekanismLang.COMMAND_DEBUG_MINER_SEARCH, "Digital Miner searches: %s finished in %s ms total, %s ms slowest; %s sections searched, %s sections skipped.");
+        add(MekanismLang.COMMAND_DEBUG_PATH_CACHE, "Transporter path cache: %s paths, %s hits, %s misses, %s evictions.");
+        add(MekanismLang.COMMAND_DEBUG_QIO_SYNC, "QIO viewer sync: %s bytes sent to %s viewers.");
+        add(MekanismLang.COMMAND_DEBUG_QIO_VIEWER, "%s: %s item types waiting to be sent, %s packets, %s item types and %s count changes sent.");
+        add(MekanismLang.COMMAND_DEBUG_RECIPE_INPUTS, "Recipe input cache: %s remembered inputs, %s hits, %s misses.");
+        add(MekanismLang.COMMAND_DEBUG_TILE_UPDATES, "Tile updates: %s full, %s partial, %s skipped; %s bytes full, %s bytes partial.");
         add(MekanismLang.COMMAND_TEST_RULES, "Enabled keepInventory, and disabled doMobSpawning, doDaylightCycle, doWeatherCycle and mobGriefing!");
         add(MekanismLang.COMMAND_TP, "Teleported to (%s) - saved last position on stack.");
         add(MekanismLang.COMMAND_TPOP, "Returned to (%s); %s positions on stack.");
@@ -2,7 +2,6 @@ package mekanism.generators.common.content.fission;
 
 import java.util.Arrays;
 import java.util.LinkedHashSet;
-import java.util.List;
 import java.util.Set;
 import mekanism.api.Action;
 import mekanism.api.Coord4D;
@@ -19,7 +18,6 @@ import mekanism.common.Mekanism;
 import mekanism.common.capabilities.chemical.multiblock.MultiblockChemicalTankBuilder;
 import mekanism.common.capabilities.fluid.MultiblockFluidTank;
 import mekanism.common.capabilities.heat.MultiblockHeatCapacitor;
-import mekanism.common.config.MekanismConfig;
 import mekanism.common.inventory.container.sync.dynamic.ContainerSync;
 import mekanism.common.lib.multiblock.IValveHandler;
 import mekanism.common.lib.multiblock.MultiblockData;
@@ -30,7 +28,6 @@ import mekanism.common.util.NBTUtils;
 import mekanism.generators.common.config.MekanismGeneratorsConfig;
 import mekanism.generators.common.content.fission.FissionReactorValidator.FormedAssembly;
 import mekanism.generators.common.tile.fission.TileEntityFissionReactorCasing;
-import net.minecraft.entity.LivingEntity;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.tags.FluidTags;
@@ -287,18 +284,16 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
     }
 
     private void radiateEntities(World world) {
-        if (MekanismConfig.general.radiationEnabled.get() && isBurning() && world.getRandom().nextInt() % 20 == 0) {
-            List<LivingEntity> entitiesToRadiate = getWorld().getEntitiesWithinAABB(LivingEntity.class, hotZone);
-            for (LivingEntity entity : entitiesToRadiate) {
-                double wasteRadiation = 0;
-                if (wasteTank.getStored() > 0) {
-                    Radiation r = wasteTank.getType().get(Radiation.class);
-                    if (r != null) {
-                        wasteRadiation = r.getRadioactivity() * wasteTank.getStored() / 3_600F; // divide down to Sv/s
-                    }
+        if (isBurning()) {
+            double wasteRadiation = 0;
+            if (wasteTank.getStored() > 0) {
+                Radiation r = wasteTank.getType().get(Radiation.class);
+                if (r != null) {
+                    wasteRadiation = r.getRadioactivity() * wasteTank.getStored() / 3_600F; // divide down to Sv/s
                 }
-                Mekanism.radiationManager.radiate(entity, lastBurnRate + wasteRadiation);
             }
+            //Entities in the hot zone get radiated when the radiation manager's pass for the world reaches them
+            Mekanism.radiationManager.radiateArea(world, hotZone, lastBurnRate + wasteRadiation);
         }
     }
 
@@ -36,9 +36,12 @@ import mekanism.common.content.evaporation.EvaporationValidator;
 import mekanism.common.content.gear.Modules;
 import mekanism.common.content.matrix.MatrixMultiblockData;
 import mekanism.common.content.matrix.MatrixValidator;
+import mekanism.common.content.miner.ThreadMinerSearch;
 import mekanism.common.content.network.BoxedChemicalNetwork.ChemicalTransferEvent;
 import mekanism.common.content.network.EnergyNetwork.EnergyTransferEvent;
 import mekanism.common.content.network.FluidNetwork.FluidTransferEvent;
+import mekanism.common.content.network.HeatNetwork;
+import mekanism.common.content.qio.QIOViewerSession;
 import mekanism.common.content.sps.SPSCache;
 import mekanism.common.content.sps.SPSMultiblockData;
 import mekanism.common.content.sps.SPSValidator;
@@ -60,6 +63,7 @@ import mekanism.common.lib.radiation.RadiationManager;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
 import mekanism.common.network.PacketHandler;
 import mekanism.common.network.PacketTransmitterUpdate;
+import mekanism.common.network.TileUpdateTracker;
 import mekanism.common.recipe.MekanismRecipeType;
 import mekanism.common.recipe.bin.BinInsertRecipe;
 import mekanism.common.recipe.condition.ModVersionLoadedCondition;
@@ -189,6 +193,15 @@ public class Mekanism {
         MinecraftForge.EVENT_BUS.addListener(this::onVanillaTagsReload);
         MinecraftForge.EVENT_BUS.addListener(this::onCustomTagsReload);
         MinecraftForge.EVENT_BUS.addListener(EventPriority.HIGH, GenHandler::onBiomeLoad);
+        MinecraftForge.EVENT_BUS.addListener(TileUpdateTracker::onChunkUnwatch);
+        MinecraftForge.EVENT_BUS.addListener(TileUpdateTracker::onChunkUnload);
+        MinecraftForge.EVENT_BUS.addListener(TileUpdateTracker::onWorldUnload);
+        MinecraftForge.EVENT_BUS.addListener(TileUpdateTracker::onPlayerLogout);
+        MinecraftForge.EVENT_BUS.addListener(TileUpdateTracker::onPlayerChangedDimension);
+        //Flush queued updates after everything else has ticked
+        MinecraftForge.EVENT_BUS.addListener(EventPriority.LOWEST, packetHandler::flushQueuedUpdates);
+        MinecraftForge.EVENT_BUS.addListener(packetHandler::onChunkUnwatch);
+        MinecraftForge.EVENT_BUS.addListener(packetHandler::onPlayerChangedDimension);
         IEventBus modEventBus = FMLJavaModLoadingContext.get().getModEventBus();
         modEventBus.addListener(this::commonSetup);
         modEventBus.addListener(this::onConfigLoad);
@@ -291,7 +304,12 @@ public class Mekanism {
         FrequencyManager.reset();
         TransporterManager.reset();
         PathfinderCache.reset();
+        QIOViewerSession.reset();
         TransmitterNetworkRegistry.reset();
+        HeatNetwork.shutdownSolverPool();
+        TileUpdateTracker.reset();
+        ThreadMinerSearch.resetStats();
+        packetHandler.reset();
     }
 
     private void imcQueue(InterModEnqueueEvent event) {
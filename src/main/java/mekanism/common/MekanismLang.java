@@ -125,6 +125,12 @@ public enum MekanismLang implements ILangEntry {
     COMMAND_CHUNK_LOADED("command", "chunk.loaded"),
     COMMAND_CHUNK_UNLOADED("command", "chunk.unloaded"),
     COMMAND_DEBUG("command", "debug"),
+    COMMAND_DEBUG_MINER_SEARCH("command", "debug.miner_search"),
+    COMMAND_DEBUG_PATH_CACHE("command", "debug.path_cache"),
+    COMMAND_DEBUG_QIO_SYNC("command", "debug.qio_sync"),
+    COMMAND_DEBUG_QIO_VIEWER("command", "debug.qio_viewer"),
+    COMMAND_DEBUG_RECIPE_INPUTS("command", "debug.recipe_inputs"),
+    COMMAND_DEBUG_TILE_UPDATES("command", "debug.tile_updates"),
     COMMAND_TEST_RULES("command", "testrules"),
     COMMAND_TP("command", "tp"),
     COMMAND_TPOP("command", "tpop"),
@@ -5,8 +5,12 @@ import mekanism.api.text.ILangEntry;
 import mekanism.common.MekanismLang;
 import mekanism.common.block.BlockMekanism;
 import mekanism.common.block.interfaces.IHasDescription;
+import mekanism.common.tile.TileEntityTeleporter;
 import net.minecraft.block.AbstractBlock;
+import net.minecraft.block.BlockState;
 import net.minecraft.block.material.Material;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
 
 public class BlockTeleporterFrame extends BlockMekanism implements IHasDescription {
 
@@ -19,4 +23,22 @@ public class BlockTeleporterFrame extends BlockMekanism implements IHasDescripti
     public ILangEntry getDescription() {
         return MekanismLang.DESCRIPTION_TELEPORTER_FRAME;
     }
+
+    @Override
+    @Deprecated
+    public void onBlockAdded(BlockState state, @Nonnull World world, @Nonnull BlockPos pos, @Nonnull BlockState oldState, boolean isMoving) {
+        super.onBlockAdded(state, world, pos, oldState, isMoving);
+        if (!world.isRemote() && !oldState.isIn(this)) {
+            TileEntityTeleporter.onFrameChanged(world, pos);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void onReplaced(BlockState state, @Nonnull World world, @Nonnull BlockPos pos, @Nonnull BlockState newState, boolean isMoving) {
+        super.onReplaced(state, world, pos, newState, isMoving);
+        if (!world.isRemote() && !newState.isIn(this)) {
+            TileEntityTeleporter.onFrameChanged(world, pos);
+        }
+    }
 }
\ No newline at end of file
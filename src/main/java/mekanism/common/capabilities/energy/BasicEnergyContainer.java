@@ -13,6 +13,7 @@ import mekanism.api.annotations.NonNull;
 import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.inventory.AutomationType;
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLongAccumulator;
 import mekanism.common.util.NBTUtils;
 import net.minecraft.nbt.CompoundNBT;
 
@@ -51,6 +52,7 @@ public class BasicEnergyContainer implements IEnergyContainer {
     }
 
     private FloatingLong stored = FloatingLong.ZERO;
+    private final FloatingLongAccumulator scratch = new FloatingLongAccumulator();
     protected final Predicate<@NonNull AutomationType> canExtract;
     protected final Predicate<@NonNull AutomationType> canInsert;
     private final FloatingLong maxEnergy;
@@ -105,13 +107,23 @@ public class BasicEnergyContainer implements IEnergyContainer {
         if (amount.isZero() || !canInsert.test(automationType)) {
             return amount;
         }
-        FloatingLong needed = getRate(automationType).min(getNeeded());
+        //Calculate the amount we can accept using our scratch accumulator so that we don't have to create intermediary objects
+        FloatingLongAccumulator needed = scratch.set(getMaxEnergy()).minusEqual(stored).minEqual(getRate(automationType));
         if (needed.isZero()) {
             //Fail if we are a full container or our rate is zero
             return amount;
+        } else if (needed.greaterOrEqual(amount)) {
+            //We can accept all of it
+            if (action.execute()) {
+                //If we want to actually insert the energy, then update the current energy
+                // Note: this also will mark that the contents changed
+                stored = stored.plusEqual(amount);
+                onContentsChanged();
+            }
+            return FloatingLong.ZERO;
         }
-        FloatingLong toAdd = amount.min(needed);
-        if (!toAdd.isZero() && action.execute()) {
+        FloatingLong toAdd = needed.toFloatingLong();
+        if (action.execute()) {
             //If we want to actually insert the energy, then update the current energy
             // Note: this also will mark that the contents changed
             stored = stored.plusEqual(toAdd);
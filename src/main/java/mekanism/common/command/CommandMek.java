@@ -6,12 +6,20 @@ import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.Stack;
 import java.util.UUID;
 import mekanism.api.MekanismAPI;
 import mekanism.api.text.EnumColor;
 import mekanism.common.MekanismLang;
 import mekanism.common.command.builders.BuildCommand;
+import mekanism.common.content.miner.ThreadMinerSearch;
+import mekanism.common.content.qio.QIOViewerSession;
+import mekanism.common.content.transporter.PathfinderCache;
+import mekanism.common.network.PacketQIOItemViewerGuiSync;
+import mekanism.common.network.PacketUpdateTile;
+import mekanism.common.network.TileUpdateTracker;
+import mekanism.common.recipe.lookup.InputValidityCache;
 import mekanism.common.util.text.BooleanStateDisplay.OnOff;
 import net.minecraft.command.CommandSource;
 import net.minecraft.command.Commands;
@@ -52,7 +60,45 @@ public class CommandMek {
                       MekanismAPI.debug = !MekanismAPI.debug;
                       ctx.getSource().sendFeedback(MekanismLang.COMMAND_DEBUG.translateColored(EnumColor.GRAY, OnOff.of(MekanismAPI.debug, true)), true);
                       return 0;
-                  });
+                  }).then(Commands.literal("miners")
+                        .executes(ctx -> {
+                            ctx.getSource().sendFeedback(MekanismLang.COMMAND_DEBUG_MINER_SEARCH.translateColored(EnumColor.GRAY, ThreadMinerSearch.getFinishedSearches(),
+                                  ThreadMinerSearch.getTotalSearchTime() / 1_000_000, ThreadMinerSearch.getSlowestSearchTime() / 1_000_000,
+                                  ThreadMinerSearch.getSearchedSections(), ThreadMinerSearch.getSkippedSections()), true);
+                            return 0;
+                        })
+                  ).then(Commands.literal("pathcache")
+                        .executes(ctx -> {
+                            ctx.getSource().sendFeedback(MekanismLang.COMMAND_DEBUG_PATH_CACHE.translateColored(EnumColor.GRAY, PathfinderCache.getSize(),
+                                  PathfinderCache.getHits(), PathfinderCache.getMisses(), PathfinderCache.getEvictions()), true);
+                            return 0;
+                        })
+                  ).then(Commands.literal("qio")
+                        .executes(ctx -> {
+                            CommandSource source = ctx.getSource();
+                            Set<QIOViewerSession> sessions = QIOViewerSession.getActiveSessions();
+                            source.sendFeedback(MekanismLang.COMMAND_DEBUG_QIO_SYNC.translateColored(EnumColor.GRAY, PacketQIOItemViewerGuiSync.getBytesSent(),
+                                  sessions.size()), true);
+                            for (QIOViewerSession session : sessions) {
+                                source.sendFeedback(MekanismLang.COMMAND_DEBUG_QIO_VIEWER.translateColored(EnumColor.GRAY, session.getPlayer().getDisplayName(),
+                                      session.getBacklog(), session.getPacketsSent(), session.getTypesSent(), session.getDeltasSent()), true);
+                            }
+                            return 0;
+                        })
+                  ).then(Commands.literal("recipes")
+                        .executes(ctx -> {
+                            ctx.getSource().sendFeedback(MekanismLang.COMMAND_DEBUG_RECIPE_INPUTS.translateColored(EnumColor.GRAY, InputValidityCache.getSize(),
+                                  InputValidityCache.getHits(), InputValidityCache.getMisses()), true);
+                            return 0;
+                        })
+                  ).then(Commands.literal("tiles")
+                        .executes(ctx -> {
+                            ctx.getSource().sendFeedback(MekanismLang.COMMAND_DEBUG_TILE_UPDATES.translateColored(EnumColor.GRAY, TileUpdateTracker.getFullUpdates(),
+                                  TileUpdateTracker.getDeltaUpdates(), TileUpdateTracker.getSkippedUpdates(), PacketUpdateTile.getFullBytesSent(),
+                                  PacketUpdateTile.getDeltaBytesSent()), true);
+                            return 0;
+                        })
+                  );
         }
     }
 
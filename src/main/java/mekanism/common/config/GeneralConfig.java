@@ -34,10 +34,13 @@ public class GeneralConfig extends BaseMekanismConfig {
     private static final String RADIATION_CATEGORY = "radiation";
     private static final String PREFILLED_CATEGORY = "prefilled";
     private static final String NUTRITIONAL_PASTE_CATEGORY = "nutritional_paste";
+    private static final String TRANSMITTER_CATEGORY = "transmitters";
+    private static final String QIO_CATEGORY = "qio";
 
     private final ForgeConfigSpec configSpec;
 
     public final CachedBooleanValue logPackets;
+    public final CachedIntValue maxUpdatesPerTick;
     public final CachedBooleanValue allowChunkloading;
     public final CachedIntValue blockDeactivationDelay;
     public final CachedConfigValue<List<String>> cardboardModBlacklist;
@@ -49,6 +52,12 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedDoubleValue superheatingHeatTransfer;
     public final CachedEnumValue<TempType> tempUnit;
     public final CachedIntValue maxSolarNeutronActivatorRate;
+    //Transmitters
+    public final CachedIntValue transporterPathCacheSize;
+    public final CachedIntValue energyMaxFullAcceptorSkip;
+    public final CachedBooleanValue packedHeatSolver;
+    public final CachedBooleanValue parallelHeatSolver;
+    public final CachedIntValue heatSolverParallelism;
     //Auto eject
     public final CachedIntValue fluidAutoEjectRate;
     public final CachedLongValue chemicalAutoEjectRate;
@@ -73,6 +82,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     //Radiation
     public final CachedBooleanValue radiationEnabled;
     public final CachedIntValue radiationChunkCheckRadius;
+    public final CachedIntValue radiationFieldResolution;
     public final CachedDoubleValue radiationSourceDecayRate;
     public final CachedDoubleValue radiationTargetDecayRate;
     public final CachedDoubleValue radiationNegativeEffectsMinSeverity;
@@ -83,6 +93,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue minerSilkMultiplier;
     public final CachedIntValue minerMaxRadius;
     public final CachedIntValue minerTicksPerMine;
+    public final CachedIntValue minerSearchParallelism;
     //Laser
     public final CachedBooleanValue aestheticWorldDamage;
     public final CachedIntValue laserRange;
@@ -110,6 +121,8 @@ public class GeneralConfig extends BaseMekanismConfig {
     //SPS
     public final CachedIntValue spsInputPerAntimatter;
     public final CachedFloatingLongValue spsEnergyPerInput;
+    //QIO
+    public final CachedIntValue qioViewerSyncPageSize;
 
     GeneralConfig() {
         ForgeConfigSpec.Builder builder = new ForgeConfigSpec.Builder();
@@ -117,6 +130,8 @@ public class GeneralConfig extends BaseMekanismConfig {
 
         logPackets = CachedBooleanValue.wrap(this, builder.comment("Log Mekanism packet names. Debug setting.")
               .define("logPackets", false));
+        maxUpdatesPerTick = CachedIntValue.wrap(this, builder.comment("Maximum number of tile and transporter updates sent to each player per tick. Once it is reached, or while the player's connection is backed up, items moving through transporters are synced in later ticks instead. Set to 0 to only hold back updates while the connection is backed up.")
+              .defineInRange("maxUpdatesPerTick", 1_024, 0, Integer.MAX_VALUE));
         allowChunkloading = CachedBooleanValue.wrap(this, builder.comment("Disable to make the anchor upgrade not do anything.")
               .define("allowChunkloading", true));
         blockDeactivationDelay = CachedIntValue.wrap(this, builder.comment("How many ticks must pass until a block's active state is synced with the client, if it has been rapidly changing.")
@@ -141,6 +156,19 @@ public class GeneralConfig extends BaseMekanismConfig {
         maxSolarNeutronActivatorRate = CachedIntValue.wrap(this, builder.comment("Peak processing rate for the Solar Neutron Activator. Note: It can go higher than this value in some extreme environments.")
               .define("maxSolarNeutronActivatorRate", 64));
 
+        builder.comment("Transmitter Network Settings").push(TRANSMITTER_CATEGORY);
+        transporterPathCacheSize = CachedIntValue.wrap(this, builder.comment("Maximum number of logistical transporter paths to cache across all networks. The least recently used paths are removed first. Set to 0 to disable caching paths.")
+              .defineInRange("transporterPathCacheSize", 8_192, 0, Integer.MAX_VALUE));
+        energyMaxFullAcceptorSkip = CachedIntValue.wrap(this, builder.comment("Maximum number of ticks in a row energy networks skip offering energy to an acceptor that was full, doubling the wait each time it is still full. Acceptors that drain while being skipped don't receive energy until the wait is over. Set to 0 to offer energy to every acceptor every tick.")
+              .defineInRange("energyMaxFullAcceptorSkip", 0, 0, 20));
+        packedHeatSolver = CachedBooleanValue.wrap(this, builder.comment("Step heat networks by packing the state of their conductors into arrays and updating all of them at once, instead of simulating each conductor on its own. Large networks are stepped in parallel when parallelHeatSolver is enabled.")
+              .define("packedHeatSolver", false));
+        parallelHeatSolver = CachedBooleanValue.wrap(this, builder.comment("Step large heat networks on multiple threads. Only the heat transfer between conductors is done in parallel, transfers into acceptors still happen on the main server thread. Only used when packedHeatSolver is enabled.")
+              .define("parallelHeatSolver", false));
+        heatSolverParallelism = CachedIntValue.wrap(this, builder.comment("Maximum number of threads used to step heat networks when parallelHeatSolver is enabled. Set to 0 to use one less than the number of available processors.")
+              .defineInRange("heatSolverParallelism", 0, 0, 64));
+        builder.pop();
+
         builder.comment("Auto Eject Settings").push(EJECT_CATEGORY);
         fluidAutoEjectRate = CachedIntValue.wrap(this, builder.comment("Rate at which fluid gets auto ejected from tiles.")
               .define("fluid", 1_024));
@@ -194,6 +222,8 @@ public class GeneralConfig extends BaseMekanismConfig {
               .define("radiationEnabled", true));
         radiationChunkCheckRadius = CachedIntValue.wrap(this, builder.comment("The radius of chunks checked when running radiation calculations. The algorithm is efficient, but don't abuse it by making this crazy high.")
               .defineInRange("chunkCheckRadius", 5, 1, 100));
+        radiationFieldResolution = CachedIntValue.wrap(this, builder.comment("Size in blocks of the cells the radiation level entities are exposed to is cached in. Each cell uses the level at its center, so larger cells use less memory and need fewer calculations, but are less accurate close to radiation sources. A size of 1 is exact.")
+              .defineInRange("fieldResolution", 2, 1, 16));
         radiationSourceDecayRate = CachedDoubleValue.wrap(this, builder.comment("Radiation sources are multiplied by this constant roughly once per second to represent their emission decay. At the default rate, it takes roughly 10 days to remove a 1,000 Sv/h (crazy high) source.")
               .define("sourceDecayRate", 0.9995D));
         radiationTargetDecayRate = CachedDoubleValue.wrap(this, builder.comment("Radiated objects and entities are multiplied by this constant roughly once per second to represent their dosage decay.")
@@ -215,6 +245,8 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("maxRadius", 32, 1, Integer.MAX_VALUE));
         minerTicksPerMine = CachedIntValue.wrap(this, builder.comment("Number of ticks required to mine a single block with a Digital Miner (without any upgrades).")
               .defineInRange("ticksPerMine", 80, 1, Integer.MAX_VALUE));
+        minerSearchParallelism = CachedIntValue.wrap(this, builder.comment("Maximum number of threads shared by all Digital Miners to search for blocks to mine. Set to 0 to use one less than the number of available processors.")
+              .defineInRange("searchParallelism", 0, 0, 64));
         builder.pop();
 
         builder.comment("Laser Settings").push(LASER_SETTINGS);
@@ -280,6 +312,11 @@ public class GeneralConfig extends BaseMekanismConfig {
               "energyPerInput", FloatingLong.createConst(1_000_000));
         builder.pop();
 
+        builder.comment("QIO Settings").push(QIO_CATEGORY);
+        qioViewerSyncPageSize = CachedIntValue.wrap(this, builder.comment("Maximum number of new item types sent to a player viewing a QIO frequency each tick. Frequencies with more item types than this are sent over multiple ticks when first opened.")
+              .defineInRange("viewerSyncPageSize", 1_024, 1, Integer.MAX_VALUE));
+        builder.pop();
+
         builder.pop();
         configSpec = builder.build();
     }
@@ -27,6 +27,7 @@ import mekanism.common.inventory.slot.OutputInventorySlot;
 import mekanism.common.lib.multiblock.IValveHandler;
 import mekanism.common.lib.multiblock.MultiblockData;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.RecipeInputs;
 import mekanism.common.tile.interfaces.ITileCachedRecipeHolder;
 import mekanism.common.tile.multiblock.TileEntityThermalEvaporationBlock;
 import mekanism.common.util.CapabilityUtils;
@@ -78,7 +79,7 @@ public class EvaporationMultiblockData extends MultiblockData implements ITileCa
 
     public EvaporationMultiblockData(TileEntityThermalEvaporationBlock tile) {
         super(tile);
-        fluidTanks.add(inputTank = MultiblockFluidTank.input(this, tile, this::getMaxFluid, fluid -> containsRecipe(recipe -> recipe.getInput().testType(fluid))));
+        fluidTanks.add(inputTank = MultiblockFluidTank.input(this, tile, this::getMaxFluid, fluid -> containsRecipe(RecipeInputs.FLUID_TO_FLUID, fluid)));
         fluidTanks.add(outputTank = MultiblockFluidTank.output(this, tile, () -> MAX_OUTPUT, BasicFluidTank.alwaysTrue));
         inputHandler = InputHelper.getInputHandler(inputTank);
         outputHandler = OutputHelper.getOutputHandler(outputTank);
@@ -185,7 +186,7 @@ public class EvaporationMultiblockData extends MultiblockData implements ITileCa
         if (fluid.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(fluid));
+        return findFirstRecipe(RecipeInputs.FLUID_TO_FLUID, fluid, recipe -> recipe.test(fluid));
     }
 
     @Nullable
@@ -2,6 +2,8 @@ package mekanism.common.content.matrix;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -11,6 +13,7 @@ import mekanism.api.annotations.FieldsAreNonnullByDefault;
 import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.inventory.AutomationType;
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.WideFloatingLongAccumulator;
 import mekanism.common.capabilities.energy.MachineEnergyContainer;
 import mekanism.common.tier.InductionProviderTier;
 import mekanism.common.tile.multiblock.TileEntityInductionCell;
@@ -26,17 +29,23 @@ public class MatrixEnergyContainer implements IEnergyContainer {
     private final Map<BlockPos, InductionProviderTier> providers = new Object2ObjectOpenHashMap<>();
     private final Map<BlockPos, IEnergyContainer> cells = new Object2ObjectOpenHashMap<>();
     private final Set<BlockPos> invalidPositions = new ObjectOpenHashSet<>();
+    //Cells sorted by position. Energy gets added starting at the fill index and moving forward, and removed starting at the fill index and moving backwards,
+    // so that the cells before the fill index stay full and the ones after it stay empty, and each tick only has to touch the cell(s) at the boundary
+    private final List<IEnergyContainer> cellOrder = new ArrayList<>();
+    private boolean cellOrderDirty;
+    private int fillIndex;
 
-    //TODO: Eventually we could look into extending FloatingLong to have a "BigInt" styled implementation that is used by the class
-    // at the very least for keeping track of the cached values and rates
     private FloatingLong queuedOutput = FloatingLong.ZERO;
     private FloatingLong queuedInput = FloatingLong.ZERO;
     private FloatingLong lastOutput = FloatingLong.ZERO;
     private FloatingLong lastInput = FloatingLong.ZERO;
 
-    private FloatingLong cachedTotal = FloatingLong.ZERO;
+    //The total and capacity of all the cells may be larger than a FloatingLong can hold, so keep track of them exactly and only clamp them when exposing them
+    private final WideFloatingLongAccumulator cachedTotal = new WideFloatingLongAccumulator();
+    private final WideFloatingLongAccumulator storageCap = new WideFloatingLongAccumulator();
+    //Scratch accumulator for calculating the energy and needed energy without losing precision in between steps
+    private final WideFloatingLongAccumulator scratch = new WideFloatingLongAccumulator();
     private FloatingLong transferCap = FloatingLong.ZERO;
-    private FloatingLong storageCap = FloatingLong.ZERO;
 
     private final MatrixMultiblockData multiblock;
 
@@ -48,8 +57,9 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         //As we already have the two different variables just pass them instead of accessing world to get tile again
         MachineEnergyContainer<TileEntityInductionCell> energyContainer = cell.getEnergyContainer();
         cells.put(pos, energyContainer);
-        storageCap = storageCap.plusEqual(energyContainer.getMaxEnergy());
-        cachedTotal = cachedTotal.plusEqual(energyContainer.getEnergy());
+        cellOrderDirty = true;
+        storageCap.plusEqual(energyContainer.getMaxEnergy());
+        cachedTotal.plusEqual(energyContainer.getEnergy());
     }
 
     public void addProvider(BlockPos pos, TileEntityInductionProvider provider) {
@@ -71,8 +81,8 @@ public class MatrixEnergyContainer implements IEnergyContainer {
                 //TODO: Handle this better, as I believe we *technically* could have this cause the cached total to become negative
                 // It may work better if we just flush the buffer writing immediately, and then recalculate the cached totals/caps
                 IEnergyContainer cellContainer = cells.get(pos);
-                storageCap = storageCap.plusEqual(cellContainer.getMaxEnergy());
-                cachedTotal = cachedTotal.minusEqual(cellContainer.getEnergy());
+                storageCap.minusEqual(cellContainer.getMaxEnergy());
+                cachedTotal.minusEqual(cellContainer.getEnergy());
             }
         }
     }
@@ -82,24 +92,32 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         tick();
         //And reset everything
         cells.clear();
+        cellOrder.clear();
+        cellOrderDirty = false;
+        fillIndex = 0;
         providers.clear();
         queuedOutput = FloatingLong.ZERO;
         queuedInput = FloatingLong.ZERO;
         lastOutput = FloatingLong.ZERO;
         lastInput = FloatingLong.ZERO;
-        cachedTotal = FloatingLong.ZERO;
+        cachedTotal.setZero();
         transferCap = FloatingLong.ZERO;
-        storageCap = FloatingLong.ZERO;
+        storageCap.setZero();
     }
 
     public void tick() {
         if (!invalidPositions.isEmpty()) {
             for (BlockPos invalidPosition : invalidPositions) {
-                cells.remove(invalidPosition);
+                if (cells.remove(invalidPosition) != null) {
+                    cellOrderDirty = true;
+                }
                 providers.remove(invalidPosition);
             }
             invalidPositions.clear();
         }
+        if (cellOrderDirty) {
+            updateCellOrder();
+        }
         int compare = queuedInput.compareTo(queuedOutput);
         if (compare < 0) {
             //queuedInput is smaller - we are removing energy
@@ -114,13 +132,37 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         queuedOutput = FloatingLong.ZERO;
     }
 
+    private void updateCellOrder() {
+        cellOrderDirty = false;
+        List<BlockPos> positions = new ArrayList<>(cells.keySet());
+        positions.sort(null);
+        cellOrder.clear();
+        fillIndex = -1;
+        for (BlockPos position : positions) {
+            IEnergyContainer container = cells.get(position);
+            if (fillIndex == -1 && !container.getNeeded().isZero()) {
+                //Start at the first cell that isn't full
+                fillIndex = cellOrder.size();
+            }
+            cellOrder.add(container);
+        }
+        if (fillIndex == -1) {
+            //All the cells are full
+            fillIndex = Math.max(0, cellOrder.size() - 1);
+        }
+    }
+
     private void addEnergy(FloatingLong energy) {
-        cachedTotal = cachedTotal.plusEqual(energy);
-        for (IEnergyContainer container : cells.values()) {
+        cachedTotal.plusEqual(energy);
+        int size = cellOrder.size();
+        //Note: We wrap around to the start in case the cells before the fill index are not all full, such as when the matrix was filled before cells were ordered
+        for (int i = 0; i < size; i++) {
+            int index = (fillIndex + i) % size;
             //Note: inserting into the cell's energy container handles marking the cell for saving if it changes
-            FloatingLong remainder = container.insert(energy, Action.EXECUTE, AutomationType.INTERNAL);
+            FloatingLong remainder = cellOrder.get(index).insert(energy, Action.EXECUTE, AutomationType.INTERNAL);
             if (remainder.smallerThan(energy)) {
                 //Our cell accepted at least some energy
+                fillIndex = index;
                 if (remainder.isZero()) {
                     //Check less than equal rather than just equal in case something went wrong
                     // and break if we don't have any energy left to add
@@ -132,11 +174,15 @@ public class MatrixEnergyContainer implements IEnergyContainer {
     }
 
     private void removeEnergy(FloatingLong energy) {
-        cachedTotal = cachedTotal.minusEqual(energy);
-        for (IEnergyContainer container : cells.values()) {
+        cachedTotal.minusEqual(energy);
+        int size = cellOrder.size();
+        //Note: We wrap around to the end in case the cells after the fill index are not all empty, such as when the matrix was filled before cells were ordered
+        for (int i = 0; i < size; i++) {
+            int index = (fillIndex - i + size) % size;
             //Note: extracting from the cell's energy container handles marking the cell for saving if it changes
-            FloatingLong extracted = container.extract(energy, Action.EXECUTE, AutomationType.INTERNAL);
+            FloatingLong extracted = cellOrder.get(index).extract(energy, Action.EXECUTE, AutomationType.INTERNAL);
             if (!extracted.isZero()) {
+                fillIndex = index;
                 energy = energy.minusEqual(extracted);
                 if (energy.isZero()) {
                     //Check less than equal rather than just equal in case something went wrong
@@ -154,7 +200,7 @@ public class MatrixEnergyContainer implements IEnergyContainer {
      */
     @Override
     public FloatingLong getEnergy() {
-        return cachedTotal.add(queuedInput).subtract(queuedOutput);
+        return scratch.set(cachedTotal).plusEqual(queuedInput).minusEqual(queuedOutput).toFloatingLong();
     }
 
     @Override
@@ -201,7 +247,13 @@ public class MatrixEnergyContainer implements IEnergyContainer {
 
     @Override
     public FloatingLong getMaxEnergy() {
-        return storageCap;
+        return storageCap.toFloatingLong();
+    }
+
+    @Override
+    public FloatingLong getNeeded() {
+        //Calculate this from the exact values so that a matrix holding more than a FloatingLong can represent still knows how much room it has left
+        return scratch.set(storageCap).plusEqual(queuedOutput).minusEqual(cachedTotal).minusEqual(queuedInput).toFloatingLong();
     }
 
     @Override
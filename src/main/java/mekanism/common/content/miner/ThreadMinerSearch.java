@@ -4,120 +4,293 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import mekanism.api.math.MathUtils;
 import mekanism.api.text.IHasTextComponent;
 import mekanism.api.text.ILangEntry;
+import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
-import mekanism.common.tile.TileEntityBoundingBlock;
+import mekanism.common.block.BlockBounding;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.lib.WorkerPool;
 import mekanism.common.tile.machine.TileEntityDigitalMiner;
-import mekanism.common.util.WorldUtils;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.FlowingFluidBlock;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.text.ITextComponent;
-import net.minecraft.world.Region;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
 import net.minecraftforge.fluids.IFluidBlock;
 
-public class ThreadMinerSearch extends Thread {
+/**
+ * Searches the area of a Digital Miner for blocks to mine. The area gets split up by chunk section and the sections get searched in parallel on a pool that is shared by
+ * all miners. Sections whose block state palette doesn't contain anything the miner would mine get skipped without looking at any of their blocks.
+ */
+public class ThreadMinerSearch {
+
+    private static final WorkerPool SEARCH_POOL = new WorkerPool("Mekanism Miner Search", () -> MekanismConfig.general.minerSearchParallelism.get());
+
+    private static final AtomicLong finishedSearches = new AtomicLong();
+    private static final AtomicLong searchedSections = new AtomicLong();
+    private static final AtomicLong skippedSections = new AtomicLong();
+    private static final AtomicLong totalSearchTime = new AtomicLong();
+    private static final AtomicLong slowestSearchTime = new AtomicLong();
 
     private final TileEntityDigitalMiner tile;
 
-    public State state = State.IDLE;
+    public volatile State state = State.IDLE;
 
-    private final Long2ObjectMap<BitSet> oresToMine = new Long2ObjectOpenHashMap<>();
-    private final Int2ObjectMap<MinerFilter<?>> replaceMap = new Int2ObjectOpenHashMap<>();
-    private final Map<Block, MinerFilter<?>> acceptedItems = new Object2ObjectOpenHashMap<>();
-    private Region chunkCache;
+    //Whether each block should be mined, and by which filter, looked up the first time the block is found in the palette of a section or in the world
+    private final Map<Block, Target> targets = new ConcurrentHashMap<>();
+    private final AtomicInteger found = new AtomicInteger();
+    private volatile boolean cancelled;
 
-    public int found = 0;
+    //Copies of the miner's settings at the time the search was started
+    private List<MinerFilter<?>> filters;
+    private boolean inverse;
+    private BlockPos startingPos;
+    private int diameter;
+    private int height;
 
     public ThreadMinerSearch(TileEntityDigitalMiner tile) {
         this.tile = tile;
     }
 
-    public void setChunkCache(Region cache) {
-        this.chunkCache = cache;
-    }
-
-    @Override
-    public void run() {
+    /**
+     * Starts searching the miner's area, must be called from the main thread.
+     */
+    public void start() {
+        World world = tile.getWorld();
+        if (world == null) {
+            return;
+        }
         state = State.SEARCHING;
-        List<MinerFilter<?>> filters = tile.getFilters();
-        if (!tile.inverse && filters.isEmpty()) {
+        filters = new ArrayList<>(tile.getFilters());
+        inverse = tile.inverse;
+        if (!inverse && filters.isEmpty()) {
             state = State.FINISHED;
             return;
         }
-        BlockPos pos = tile.getStartingPos();
-        int diameter = tile.getDiameter();
-        int size = tile.getTotalSize();
-        Block info;
-        BlockPos minerPos = tile.getPos();
-        for (int i = 0; i < size; i++) {
-            if (tile.isRemoved()) {
-                //Make sure the miner is still valid and something hasn't gone wrong
-                return;
-            }
-            BlockPos testPos = pos.add(i % diameter, i / diameter / diameter, (i / diameter) % diameter);
-            if (minerPos.equals(testPos) || WorldUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos) != null) {
-                //Skip the miner itself, and also skip any bounding blocks
-                continue;
-            }
-            BlockState state = chunkCache.getBlockState(testPos);
-            if (state.isAir(chunkCache, testPos) || state.getBlockHardness(chunkCache, testPos) < 0) {
-                //Skip air and unbreakable blocks
-                continue;
-            }
-            info = state.getBlock();
-            if (info instanceof FlowingFluidBlock || info instanceof IFluidBlock) {
-                //Skip liquids
-                continue;
-            }
-            MinerFilter<?> filterFound = null;
-            if (acceptedItems.containsKey(info)) {
-                filterFound = acceptedItems.get(info);
-            } else {
-                ItemStack stack = new ItemStack(info);
-                if (tile.isReplaceStack(stack)) {
-                    continue;
-                }
-                for (MinerFilter<?> filter : filters) {
-                    if (filter.canFilter(state)) {
-                        filterFound = filter;
-                        break;
-                    }
+        startingPos = tile.getStartingPos();
+        diameter = tile.getDiameter();
+        height = tile.getMaxY() - tile.getMinY() + 1;
+        int maxX = startingPos.getX() + diameter - 1;
+        int maxY = startingPos.getY() + height - 1;
+        int maxZ = startingPos.getZ() + diameter - 1;
+        List<SectionSearch> sections = new ArrayList<>();
+        for (int chunkX = startingPos.getX() >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = startingPos.getZ() >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                //Note: Get the chunks here as the search itself runs off thread, this also loads any of them that aren't loaded
+                Chunk chunk = world.getChunk(chunkX, chunkZ);
+                ChunkSection[] chunkSections = chunk.getSections();
+                int minSection = Math.max(0, startingPos.getY() >> 4);
+                int maxSection = Math.min(chunkSections.length - 1, maxY >> 4);
+                for (int sectionY = minSection; sectionY <= maxSection; sectionY++) {
+                    sections.add(new SectionSearch(chunk, chunkSections[sectionY], sectionY));
                 }
-                acceptedItems.put(info, filterFound);
             }
-            if (tile.inverse == (filterFound == null)) {
-                set(i, testPos);
-                replaceMap.put(i, filterFound);
-                found++;
+        }
+        SEARCH_POOL.get().execute(() -> search(sections));
+    }
+
+    /**
+     * Stops the search if it is still running, without updating the miner.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    private boolean isCancelled() {
+        //Make sure the miner is still valid and something hasn't gone wrong
+        return cancelled || tile.isRemoved();
+    }
+
+    private void search(List<SectionSearch> sections) {
+        long start = System.nanoTime();
+        List<SectionResult> results = sections.parallelStream().map(this::searchSection).collect(Collectors.toList());
+        if (isCancelled()) {
+            return;
+        }
+        Long2ObjectMap<BitSet> oresToMine = new Long2ObjectOpenHashMap<>();
+        Int2ObjectMap<MinerFilter<?>> replaceMap = new Int2ObjectOpenHashMap<>();
+        for (SectionResult result : results) {
+            if (result != null) {
+                oresToMine.computeIfAbsent(result.chunk, k -> new BitSet()).or(result.toMine);
+                replaceMap.putAll(result.replaceMap);
             }
         }
+        long searchTime = System.nanoTime() - start;
+        finishedSearches.incrementAndGet();
+        totalSearchTime.addAndGet(searchTime);
+        slowestSearchTime.accumulateAndGet(searchTime, Math::max);
+        Mekanism.logger.debug("Digital Miner at {} found {} blocks to mine in {} ms.", tile.getPos(), found.get(), searchTime / 1_000_000);
 
         state = State.FINISHED;
         tile.oresToMine = oresToMine;
         tile.replaceMap = replaceMap;
-        chunkCache = null;
         tile.markDirty(false);
-        tile.cachedToMine = found;
+        tile.cachedToMine = found.get();
     }
 
-    public void set(int i, BlockPos pos) {
-        long chunk = WorldUtils.getChunkPosAsLong(pos);
-        oresToMine.computeIfAbsent(chunk, k -> new BitSet());
-        oresToMine.get(chunk).set(i);
+    @Nullable
+    private SectionResult searchSection(SectionSearch search) {
+        if (isCancelled()) {
+            return null;
+        }
+        ChunkSection section = search.section;
+        //Skip sections that are entirely air, or whose palette doesn't contain any blocks we would mine (func_235962_a_ checks the states in the palette)
+        if (ChunkSection.isEmpty(section) || !section.func_235962_a_(state -> !state.isAir() && getTarget(state).mine)) {
+            skippedSections.incrementAndGet();
+            return null;
+        }
+        searchedSections.incrementAndGet();
+        Chunk chunk = search.chunk;
+        ChunkPos chunkPos = chunk.getPos();
+        int minX = Math.max(startingPos.getX(), chunkPos.getXStart());
+        int maxX = Math.min(startingPos.getX() + diameter - 1, chunkPos.getXEnd());
+        int minY = Math.max(startingPos.getY(), search.sectionY << 4);
+        int maxY = Math.min(startingPos.getY() + height - 1, (search.sectionY << 4) + 15);
+        int minZ = Math.max(startingPos.getZ(), chunkPos.getZStart());
+        int maxZ = Math.min(startingPos.getZ() + diameter - 1, chunkPos.getZEnd());
+        BlockPos minerPos = tile.getPos();
+        BlockPos.Mutable testPos = new BlockPos.Mutable();
+        SectionResult result = new SectionResult(chunkPos.asLong());
+        for (int y = minY; y <= maxY; y++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int x = minX; x <= maxX; x++) {
+                    BlockState state = section.getBlockState(x & 15, y & 15, z & 15);
+                    testPos.setPos(x, y, z);
+                    if (state.isAir(chunk, testPos) || minerPos.equals(testPos)) {
+                        //Skip air, and the miner itself
+                        continue;
+                    }
+                    Target target = getTarget(state);
+                    if (target.mine && state.getBlockHardness(chunk, testPos) >= 0) {
+                        //Skip unbreakable blocks
+                        int index = (x - startingPos.getX()) + (z - startingPos.getZ()) * diameter + (y - startingPos.getY()) * diameter * diameter;
+                        result.toMine.set(index);
+                        result.replaceMap.put(index, target.filter);
+                        found.incrementAndGet();
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private Target getTarget(BlockState state) {
+        return targets.computeIfAbsent(state.getBlock(), block -> {
+            if (block instanceof BlockBounding || block instanceof FlowingFluidBlock || block instanceof IFluidBlock) {
+                //Skip bounding blocks and liquids
+                return Target.SKIP;
+            }
+            ItemStack stack = new ItemStack(block);
+            for (MinerFilter<?> filter : filters) {
+                if (filter.replaceStackMatches(stack)) {
+                    return Target.SKIP;
+                }
+            }
+            MinerFilter<?> filterFound = null;
+            for (MinerFilter<?> filter : filters) {
+                if (filter.canFilter(state)) {
+                    filterFound = filter;
+                    break;
+                }
+            }
+            return inverse == (filterFound == null) ? new Target(filterFound) : Target.SKIP;
+        });
+    }
+
+    public int getFound() {
+        return found.get();
     }
 
     public void reset() {
+        cancel();
         state = State.IDLE;
-        chunkCache = null;
+    }
+
+    public static long getFinishedSearches() {
+        return finishedSearches.get();
+    }
+
+    public static long getSearchedSections() {
+        return searchedSections.get();
+    }
+
+    public static long getSkippedSections() {
+        return skippedSections.get();
+    }
+
+    public static long getTotalSearchTime() {
+        return totalSearchTime.get();
+    }
+
+    public static long getSlowestSearchTime() {
+        return slowestSearchTime.get();
+    }
+
+    public static void resetStats() {
+        finishedSearches.set(0);
+        searchedSections.set(0);
+        skippedSections.set(0);
+        totalSearchTime.set(0);
+        slowestSearchTime.set(0);
+    }
+
+    private static class SectionSearch {
+
+        private final Chunk chunk;
+        @Nullable
+        private final ChunkSection section;
+        private final int sectionY;
+
+        private SectionSearch(Chunk chunk, @Nullable ChunkSection section, int sectionY) {
+            this.chunk = chunk;
+            this.section = section;
+            this.sectionY = sectionY;
+        }
+    }
+
+    private static class SectionResult {
+
+        private final long chunk;
+        private final BitSet toMine = new BitSet();
+        private final Int2ObjectMap<MinerFilter<?>> replaceMap = new Int2ObjectOpenHashMap<>();
+
+        private SectionResult(long chunk) {
+            this.chunk = chunk;
+        }
+    }
+
+    private static class Target {
+
+        private static final Target SKIP = new Target(null, false);
+
+        @Nullable
+        private final MinerFilter<?> filter;
+        private final boolean mine;
+
+        private Target(@Nullable MinerFilter<?> filter) {
+            this(filter, true);
+        }
+
+        private Target(@Nullable MinerFilter<?> filter, boolean mine) {
+            this.filter = filter;
+            this.mine = mine;
+        }
     }
 
     public enum State implements IHasTextComponent {
@@ -143,4 +316,4 @@ public class ThreadMinerSearch extends Thread {
             return MathUtils.getByIndexMod(MODES, index);
         }
     }
-}
\ No newline at end of file
+}
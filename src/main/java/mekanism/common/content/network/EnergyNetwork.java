@@ -1,6 +1,8 @@
 package mekanism.common.content.network;
 
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -16,14 +18,17 @@ import mekanism.api.energy.IMekanismStrictEnergyHandler;
 import mekanism.api.energy.IStrictEnergyHandler;
 import mekanism.api.inventory.AutomationType;
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLongAccumulator;
 import mekanism.common.MekanismLang;
 import mekanism.common.capabilities.energy.BasicEnergyContainer;
 import mekanism.common.capabilities.energy.VariableCapacityEnergyContainer;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.distribution.EnergyAcceptorTarget;
 import mekanism.common.content.network.distribution.EnergyTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.UniversalCable;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import mekanism.common.util.EmitUtils;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.text.EnergyDisplay;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
@@ -37,6 +42,16 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     public final VariableCapacityEnergyContainer energyContainer;
     private FloatingLong prevTransferAmount = FloatingLong.ZERO;
     private FloatingLong floatingLongCapacity = FloatingLong.ZERO;
+    private final FloatingLongAccumulator capacitySum = new FloatingLongAccumulator();
+    /**
+     * Persistent targets for each acceptor position, only rebuilt when {@link #acceptorCache} changes.
+     */
+    private final List<CachedAcceptorTarget> emitTargets = new ArrayList<>();
+    /**
+     * Targets that want energy this tick, reused between ticks to avoid creating new collections.
+     */
+    private final List<CachedAcceptorTarget> hungryTargets = new ArrayList<>();
+    private int emitTargetsVersion = -1;
 
     public EnergyNetwork() {
         energyContainer = VariableCapacityEnergyContainer.create(this::getCapacityAsFloatingLong, BasicEnergyContainer.alwaysTrue, BasicEnergyContainer.alwaysTrue, this);
@@ -111,12 +126,12 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
 
     @Override
     public synchronized void updateCapacity() {
-        FloatingLong sum = FloatingLong.ZERO;
+        capacitySum.setZero();
         for (UniversalCable transmitter : transmitters) {
-            sum = sum.plusEqual(transmitter.getCapacityAsFloatingLong());
+            capacitySum.plusEqual(transmitter.getCapacityAsFloatingLong());
         }
-        if (!floatingLongCapacity.equals(sum)) {
-            floatingLongCapacity = sum;
+        if (!capacitySum.valueEquals(floatingLongCapacity)) {
+            floatingLongCapacity = capacitySum.toFloatingLong();
             capacity = floatingLongCapacity.longValue();
         }
     }
@@ -146,23 +161,44 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
         }
     }
 
+    /**
+     * Rebuilds the persistent emission targets if the acceptor cache has changed since the last time we built them. Existing target objects are reused so that
+     * steady state emission does not create any new targets.
+     */
+    private void updateEmitTargets() {
+        int version = acceptorCache.getVersion();
+        if (emitTargetsVersion != version) {
+            emitTargetsVersion = version;
+            int index = 0;
+            for (Entry<BlockPos, Map<Direction, LazyOptional<IStrictEnergyHandler>>> entry : acceptorCache.getAcceptorEntrySet()) {
+                CachedAcceptorTarget target;
+                if (index < emitTargets.size()) {
+                    target = emitTargets.get(index);
+                } else {
+                    target = new CachedAcceptorTarget();
+                    emitTargets.add(target);
+                }
+                target.setAcceptors(entry.getValue());
+                index++;
+            }
+            //Remove any excess targets that no longer correspond to an acceptor position
+            emitTargets.subList(index, emitTargets.size()).clear();
+        }
+    }
+
     private FloatingLong tickEmit(FloatingLong energyToSend) {
-        Set<EnergyAcceptorTarget> targets = new ObjectOpenHashSet<>();
+        updateEmitTargets();
+        hungryTargets.clear();
         int totalHandlers = 0;
-        for (Entry<BlockPos, Map<Direction, LazyOptional<IStrictEnergyHandler>>> entry : acceptorCache.getAcceptorEntrySet()) {
-            EnergyAcceptorTarget target = new EnergyAcceptorTarget();
-            entry.getValue().forEach((side, lazyAcceptor) -> lazyAcceptor.ifPresent(acceptor -> {
-                if (acceptor.insertEnergy(energyToSend, Action.SIMULATE).smallerThan(energyToSend)) {
-                    target.addHandler(side, acceptor);
-                }
-            }));
-            int curHandlers = target.getHandlers().size();
+        int maxFullSkip = MekanismConfig.general.energyMaxFullAcceptorSkip.get();
+        for (CachedAcceptorTarget target : emitTargets) {
+            int curHandlers = target.gatherHandlers(energyToSend, maxFullSkip);
             if (curHandlers > 0) {
-                targets.add(target);
+                hungryTargets.add(target);
                 totalHandlers += curHandlers;
             }
         }
-        return EmitUtils.sendToAcceptors(targets, totalHandlers, energyToSend.copy());
+        return EmitUtils.sendToAcceptors(hungryTargets, totalHandlers, energyToSend.copy());
     }
 
     @Override
@@ -233,6 +269,62 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
         markDirty();
     }
 
+    private static class CachedAcceptorTarget extends EnergyAcceptorTarget {
+
+        private Map<Direction, LazyOptional<IStrictEnergyHandler>> acceptors = Collections.emptyMap();
+        //Acceptor each side resolved to the last time we checked it, so that we notice when the capability changes
+        private final IStrictEnergyHandler[] lastAcceptors = new IStrictEnergyHandler[EnumUtils.DIRECTIONS.length];
+        //Number of ticks the acceptor on each side will not be checked for as it was full, and how many ticks we skipped the last time it was full
+        private final int[] skipTicks = new int[EnumUtils.DIRECTIONS.length];
+        private final int[] lastSkip = new int[EnumUtils.DIRECTIONS.length];
+
+        private void setAcceptors(Map<Direction, LazyOptional<IStrictEnergyHandler>> acceptors) {
+            this.acceptors = acceptors;
+            //The target may now be for a different position, so forget which acceptors were full
+            Arrays.fill(lastAcceptors, null);
+            Arrays.fill(skipTicks, 0);
+            Arrays.fill(lastSkip, 0);
+        }
+
+        /**
+         * Resets this target and adds all the handlers that are able to accept some of the given energy. If skipping full acceptors is enabled, acceptors that were full
+         * recently are skipped without checking them again, for twice as long each time they are still full up to the given max, until their capability changes.
+         *
+         * @param maxFullSkip Max number of ticks in a row to skip checking an acceptor for after finding it full, or zero to check every acceptor every tick.
+         *
+         * @return The number of handlers that want energy.
+         */
+        private int gatherHandlers(FloatingLong energyToSend, int maxFullSkip) {
+            clear();
+            for (int i = 0; i < EnumUtils.DIRECTIONS.length; i++) {
+                Direction side = EnumUtils.DIRECTIONS[i];
+                LazyOptional<IStrictEnergyHandler> lazyAcceptor = acceptors.get(side);
+                if (lazyAcceptor != null) {
+                    IStrictEnergyHandler acceptor = lazyAcceptor.orElse(null);
+                    if (acceptor != lastAcceptors[i]) {
+                        //Capability changed, check the new one right away
+                        lastAcceptors[i] = acceptor;
+                        skipTicks[i] = 0;
+                        lastSkip[i] = 0;
+                    }
+                    if (acceptor != null) {
+                        if (maxFullSkip > 0 && skipTicks[i] > 0) {
+                            skipTicks[i]--;
+                        } else if (acceptor.insertEnergy(energyToSend, Action.SIMULATE).smallerThan(energyToSend)) {
+                            lastSkip[i] = 0;
+                            addHandler(side, acceptor);
+                        } else if (maxFullSkip > 0) {
+                            //Full, back off from checking it every tick
+                            lastSkip[i] = lastSkip[i] == 0 ? 1 : Math.min(2 * lastSkip[i], maxFullSkip);
+                            skipTicks[i] = lastSkip[i];
+                        }
+                    }
+                }
+            }
+            return handlers.size();
+        }
+    }
+
     public static class EnergyTransferEvent extends TransferEvent<EnergyNetwork> {
 
         public EnergyTransferEvent(EnergyNetwork network) {
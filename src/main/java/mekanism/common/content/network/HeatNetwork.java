@@ -1,26 +1,56 @@
 package mekanism.common.content.network;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import java.util.Collection;
 import java.util.UUID;
+import javax.annotation.Nullable;
 import mekanism.api.heat.HeatAPI;
 import mekanism.api.heat.HeatAPI.HeatTransfer;
 import mekanism.api.heat.IHeatHandler;
 import mekanism.common.MekanismLang;
+import mekanism.common.capabilities.heat.BasicHeatCapacitor;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.transmitter.ThermodynamicConductor;
+import mekanism.common.content.network.transmitter.Transmitter;
+import mekanism.common.lib.WorkerPool;
 import mekanism.common.lib.transmitter.DynamicNetwork;
+import mekanism.common.tile.transmitter.TileEntityTransmitter;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.UnitDisplayUtils.TemperatureUnit;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.util.Direction;
 import net.minecraft.util.text.ITextComponent;
 
 public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, ThermodynamicConductor> {
 
+    //Minimum number of conductors before the packed solver solves them in parallel
+    private static final int PARALLEL_THRESHOLD = 4_096;
+    private static final WorkerPool SOLVER_POOL = new WorkerPool("Mekanism Heat Solver", () -> MekanismConfig.general.heatSolverParallelism.get());
+
     private double meanTemp = HeatAPI.AMBIENT_TEMP;
     private double heatLost;
     private double heatTransferred;
 
+    //State for the packed solver, rebuilt whenever the conductors in the network or their connections change
+    @Nullable
+    private PackedHeatSolver solver;
+    private ThermodynamicConductor[] conductors;
+    private byte[] connections;
+    private byte[] transmitterConnections;
+    //Conductor index * 6 + side of each connection to something other than a conductor in this network
+    private int[] externalLinks;
+
     public HeatNetwork() {
     }
 
+    public static void shutdownSolverPool() {
+        SOLVER_POOL.shutdown();
+    }
+
     public HeatNetwork(UUID networkID) {
         super(networkID);
     }
@@ -46,6 +76,16 @@ public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, Therm
     @Override
     public void onUpdate() {
         super.onUpdate();
+        if (MekanismConfig.general.packedHeatSolver.get()) {
+            updatePacked();
+        } else {
+            solver = null;
+            conductors = null;
+            updateSerial();
+        }
+    }
+
+    private void updateSerial() {
         double newSumTemp = 0, newHeatLost = 0, newHeatTransferred = 0;
         for (ThermodynamicConductor transmitter : transmitters) {
             // change this when we re-integrate with multipart
@@ -60,6 +100,103 @@ public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, Therm
         meanTemp = newSumTemp / transmitters.size();
     }
 
+    private void updatePacked() {
+        if (solver == null || hasTopologyChanged()) {
+            rebuildSolver();
+        }
+        for (int i = 0; i < conductors.length; i++) {
+            BasicHeatCapacitor buffer = conductors[i].buffer;
+            solver.setHeat(i, buffer.getHeat(), buffer.getHeatCapacity());
+        }
+        boolean parallel = conductors.length >= PARALLEL_THRESHOLD && MekanismConfig.general.parallelHeatSolver.get();
+        solver.step(parallel ? SOLVER_POOL.get() : null);
+        //Note: The serial solver counts transfers between conductors as adjacent transfers as well, as the handlers it transfers to are capability proxies
+        double newHeatTransferred = solver.getLinkTransfer();
+        double newHeatLost = solver.getEnvironmentTransfer();
+        //Transfers to acceptors have to go through their heat handlers, so they are done the same way as the serial solver does them
+        for (int link : externalLinks) {
+            ThermodynamicConductor conductor = conductors[link / EnumUtils.DIRECTIONS.length];
+            Direction side = EnumUtils.DIRECTIONS[link % EnumUtils.DIRECTIONS.length];
+            IHeatHandler sink = conductor.getAdjacent(side);
+            if (sink != null) {
+                double heatCapacity = conductor.getTotalHeatCapacity(side);
+                double invConduction = sink.getTotalInverseConduction() + conductor.getTotalInverseConductionCoefficient(side);
+                double tempToTransfer = (conductor.getTotalTemperature(side) - HeatAPI.AMBIENT_TEMP) / invConduction;
+                conductor.handleHeat(-tempToTransfer * heatCapacity, side);
+                sink.handleHeat(tempToTransfer * heatCapacity);
+                newHeatTransferred += tempToTransfer;
+            }
+        }
+        double newSumTemp = 0;
+        for (int i = 0; i < conductors.length; i++) {
+            ThermodynamicConductor conductor = conductors[i];
+            conductor.buffer.handleHeat(solver.getHeatChange(i));
+            conductor.updateHeatCapacitors(null);
+            newSumTemp += conductor.getTotalTemperature();
+        }
+        heatLost = newHeatLost;
+        heatTransferred = newHeatTransferred;
+        meanTemp = newSumTemp / conductors.length;
+    }
+
+    private boolean hasTopologyChanged() {
+        if (conductors.length != transmitters.size()) {
+            return true;
+        }
+        for (int i = 0; i < conductors.length; i++) {
+            ThermodynamicConductor conductor = conductors[i];
+            if (conductor.getTransmitterNetwork() != this || conductor.getAllCurrentConnections() != connections[i] ||
+                conductor.currentTransmitterConnections != transmitterConnections[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void rebuildSolver() {
+        conductors = transmitters.toArray(new ThermodynamicConductor[0]);
+        int size = conductors.length;
+        Reference2IntMap<Transmitter<?, ?, ?>> indices = new Reference2IntOpenHashMap<>(size);
+        indices.defaultReturnValue(-1);
+        for (int i = 0; i < size; i++) {
+            indices.put(conductors[i], i);
+        }
+        connections = new byte[size];
+        transmitterConnections = new byte[size];
+        double[] inverseConduction = new double[size];
+        double[] inverseInsulation = new double[size];
+        int[][] neighbors = new int[size][];
+        IntList external = new IntArrayList();
+        IntList adjacent = new IntArrayList(EnumUtils.DIRECTIONS.length);
+        for (int i = 0; i < size; i++) {
+            ThermodynamicConductor conductor = conductors[i];
+            connections[i] = conductor.getAllCurrentConnections();
+            transmitterConnections[i] = conductor.currentTransmitterConnections;
+            inverseConduction[i] = conductor.buffer.getInverseConduction();
+            inverseInsulation[i] = conductor.buffer.getInverseInsulation();
+            adjacent.clear();
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if (Transmitter.connectionMapContainsSide(connections[i], side)) {
+                    int neighbor = -1;
+                    if (Transmitter.connectionMapContainsSide(transmitterConnections[i], side)) {
+                        TileEntityTransmitter tile = WorldUtils.getTileEntity(TileEntityTransmitter.class, conductor.getTileWorld(), conductor.getTilePos().offset(side));
+                        if (tile != null) {
+                            neighbor = indices.getInt(tile.getTransmitter());
+                        }
+                    }
+                    if (neighbor == -1) {
+                        external.add(i * EnumUtils.DIRECTIONS.length + side.ordinal());
+                    } else {
+                        adjacent.add(neighbor);
+                    }
+                }
+            }
+            neighbors[i] = adjacent.toIntArray();
+        }
+        externalLinks = external.toIntArray();
+        solver = new PackedHeatSolver(inverseConduction, inverseInsulation, neighbors);
+    }
+
     @Override
     public String toString() {
         return "[HeatNetwork] " + transmitters.size() + " transmitters, " + getAcceptorCount() + " acceptors.";
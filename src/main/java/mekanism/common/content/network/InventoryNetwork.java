@@ -16,6 +16,8 @@ import mekanism.api.text.EnumColor;
 import mekanism.common.MekanismLang;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.PathfinderCache;
+import mekanism.common.content.transporter.TransporterGraph;
+import mekanism.common.content.transporter.TransporterGraph.NodeChange;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.content.transporter.TransporterStack;
 import mekanism.common.lib.inventory.TransitRequest;
@@ -33,6 +35,8 @@ import net.minecraftforge.items.IItemHandler;
 
 public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetwork, LogisticalTransporterBase> {
 
+    private final TransporterGraph graph = new TransporterGraph();
+
     public InventoryNetwork() {
     }
 
@@ -88,15 +92,61 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
     }
 
     @Override
-    public void commit() {
-        super.commit();
-        // update the cache when the network has been changed (called when transmitters are added)
+    protected void addTransmitterFromCommit(LogisticalTransporterBase transmitter) {
+        super.addTransmitterFromCommit(transmitter);
+        graph.add(transmitter);
+        // forget all our paths, as the new transporter may create a shorter route between any two points of the network
         PathfinderCache.onChanged(this);
     }
 
+    @Override
+    public List<LogisticalTransporterBase> adoptTransmittersAndAcceptorsFrom(InventoryNetwork net) {
+        List<LogisticalTransporterBase> transmittersToUpdate = super.adoptTransmittersAndAcceptorsFrom(net);
+        for (LogisticalTransporterBase transmitter : net.getTransmitters()) {
+            graph.add(transmitter);
+        }
+        return transmittersToUpdate;
+    }
+
+    /**
+     * Called when one of our transporters refreshed its connections, to update what we know about how stacks can move through it.
+     */
+    public void transporterChanged(LogisticalTransporterBase transmitter) {
+        NodeChange change = graph.update(transmitter);
+        if (change == NodeChange.WIDENED) {
+            // a shorter route may have opened up for paths anywhere in the network
+            PathfinderCache.onChanged(this);
+        } else if (change == NodeChange.NARROWED) {
+            // only the paths that pass through or next to the transporter may no longer be valid
+            PathfinderCache.onNeighborChanged(this, transmitter.getTilePos());
+        }
+    }
+
+    public TransporterGraph getGraph() {
+        return graph;
+    }
+
+    @Override
+    public void acceptorChanged(LogisticalTransporterBase transmitter, Direction side) {
+        super.acceptorChanged(transmitter, side);
+        // forget the paths that pass through the transporter whose acceptor changed
+        PathfinderCache.onChanged(this, transmitter.getTilePos());
+    }
+
+    @Override
+    protected void transmittersRemoved(List<LogisticalTransporterBase> removed) {
+        super.transmittersRemoved(removed);
+        // only forget the paths that went through transporters that are no longer part of the network
+        for (LogisticalTransporterBase transporter : removed) {
+            graph.remove(transporter);
+            PathfinderCache.onChanged(this, transporter.getTilePos());
+        }
+    }
+
     @Override
     public void deregister() {
         super.deregister();
+        graph.clear();
         // update the cache when the network has been removed (when transmitters are removed)
         PathfinderCache.onChanged(this);
     }
@@ -0,0 +1,144 @@
+package mekanism.common.content.network;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import javax.annotation.Nullable;
+import mekanism.api.heat.HeatAPI;
+
+/**
+ * Steps the heat transfers between the conductors of a heat network and from them to the environment, using flat arrays of the conductors' state and a precomputed
+ * adjacency list instead of going through each conductor's heat handler.
+ * <br>
+ * The transfers match the ones {@link mekanism.common.capabilities.heat.ITileHeatHandler#simulate()} calculates: each conductor pushes heat to each connected
+ * conductor and to the environment on every side based on how far above ambient temperature it is. All transfers are calculated from the heat the conductors had at
+ * the start of the step, so the result does not depend on the order of the conductors, and conductors can be solved in parallel.
+ *
+ * @implNote Transfers to acceptors that are not conductors of the network are not handled by the solver, as they need to go through the acceptor's heat handler.
+ */
+public class PackedHeatSolver {
+
+    //Conductors lose heat to the environment on every side, regardless of what they are connected to
+    private static final int SIDES = 6;
+
+    private final int size;
+    //Heat capacity and heat above ambient temperature of each conductor
+    private final double[] capacity;
+    private final double[] excessHeat;
+    //Fraction of the excess temperature of each conductor that gets lost to the environment per side
+    private final double[] environmentWeight;
+    //Adjacency list, the conductors connected to conductor i are links[linkStart[i]] to links[linkStart[i + 1] - 1]
+    private final int[] linkStart;
+    private final int[] links;
+    //Fraction of the excess heat that gets pushed along each link
+    private final double[] linkWeight;
+
+    private final double[] heatChange;
+    private final double[] environmentTransfer;
+    private final double[] linkTransfer;
+
+    /**
+     * @param inverseConduction Inverse conduction coefficient of each conductor.
+     * @param inverseInsulation Inverse insulation coefficient of each conductor.
+     * @param neighbors         Indices of the conductors each conductor is connected to. Connections are expected to be symmetric.
+     */
+    public PackedHeatSolver(double[] inverseConduction, double[] inverseInsulation, int[][] neighbors) {
+        size = neighbors.length;
+        capacity = new double[size];
+        excessHeat = new double[size];
+        environmentWeight = new double[size];
+        linkStart = new int[size + 1];
+        int linkCount = 0;
+        for (int i = 0; i < size; i++) {
+            environmentWeight[i] = 1 / (HeatAPI.AIR_INVERSE_COEFFICIENT + inverseInsulation[i] + inverseConduction[i]);
+            linkStart[i] = linkCount;
+            linkCount += neighbors[i].length;
+        }
+        linkStart[size] = linkCount;
+        links = new int[linkCount];
+        linkWeight = new double[linkCount];
+        for (int i = 0; i < size; i++) {
+            int start = linkStart[i];
+            for (int n = 0; n < neighbors[i].length; n++) {
+                int neighbor = neighbors[i][n];
+                links[start + n] = neighbor;
+                linkWeight[start + n] = 1 / (inverseConduction[i] + inverseConduction[neighbor]);
+            }
+        }
+        heatChange = new double[size];
+        environmentTransfer = new double[size];
+        linkTransfer = new double[size];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sets the current state of a conductor, must be called for each conductor before stepping.
+     */
+    public void setHeat(int conductor, double heat, double heatCapacity) {
+        capacity[conductor] = heatCapacity;
+        excessHeat[conductor] = heat - heatCapacity * HeatAPI.AMBIENT_TEMP;
+    }
+
+    /**
+     * Calculates the heat change of every conductor.
+     *
+     * @param pool Pool to solve the conductors in parallel on, or {@code null} to solve them on the calling thread.
+     */
+    public void step(@Nullable ForkJoinPool pool) {
+        if (pool == null) {
+            for (int i = 0; i < size; i++) {
+                solve(i);
+            }
+        } else {
+            pool.submit(() -> IntStream.range(0, size).parallel().forEach(this::solve)).join();
+        }
+    }
+
+    private void solve(int i) {
+        double excess = excessHeat[i];
+        double environment = SIDES * excess * environmentWeight[i];
+        double change = -environment;
+        double pushed = 0;
+        for (int link = linkStart[i], end = linkStart[i + 1]; link < end; link++) {
+            double weight = linkWeight[link];
+            pushed += excess * weight;
+            change += excessHeat[links[link]] * weight;
+        }
+        change -= pushed;
+        heatChange[i] = change;
+        //Transfers are tracked as temperatures, same as in ITileHeatHandler
+        environmentTransfer[i] = environment / capacity[i];
+        linkTransfer[i] = pushed / capacity[i];
+    }
+
+    /**
+     * Gets the heat the given conductor gained or lost (if negative) in the last step.
+     */
+    public double getHeatChange(int conductor) {
+        return heatChange[conductor];
+    }
+
+    /**
+     * Gets the total temperature that was transferred to the environment in the last step.
+     */
+    public double getEnvironmentTransfer() {
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += environmentTransfer[i];
+        }
+        return total;
+    }
+
+    /**
+     * Gets the total temperature that was transferred between conductors in the last step.
+     */
+    public double getLinkTransfer() {
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += linkTransfer[i];
+        }
+        return total;
+    }
+}
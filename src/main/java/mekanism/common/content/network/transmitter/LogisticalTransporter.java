@@ -7,7 +7,6 @@ import mekanism.api.providers.IBlockProvider;
 import mekanism.api.text.EnumColor;
 import mekanism.common.MekanismLang;
 import mekanism.common.block.attribute.Attribute;
-import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.tier.TransporterTier;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.upgrade.transmitter.LogisticalTransporterUpgradeData;
@@ -40,12 +39,15 @@ public class LogisticalTransporter extends LogisticalTransporterBase implements
 
     public void setColor(EnumColor c) {
         color = c;
+        if (!isRemote() && hasTransmitterNetwork()) {
+            //Let the network know so that stacks don't get routed based on our old color
+            getTransmitterNetwork().transporterChanged(this);
+        }
     }
 
     @Override
     public ActionResultType onConfigure(PlayerEntity player, Direction side) {
         TransporterUtils.incrementColor(this);
-        PathfinderCache.onChanged(getTransmitterNetwork());
         getTransmitterTile().sendUpdatePacket();
         EnumColor color = getColor();
         player.sendMessage(MekanismLang.LOG_FORMAT.translateColored(EnumColor.DARK_BLUE, MekanismLang.MEKANISM, EnumColor.GRAY,
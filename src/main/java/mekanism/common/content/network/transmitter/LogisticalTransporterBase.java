@@ -22,6 +22,7 @@ import mekanism.common.lib.transmitter.ConnectionType;
 import mekanism.common.lib.transmitter.TransmissionType;
 import mekanism.common.lib.transmitter.acceptor.AcceptorCache;
 import mekanism.common.network.PacketTransporterUpdate;
+import mekanism.common.network.PacketUpdateBatch.EncodedUpdate;
 import mekanism.common.tier.TransporterTier;
 import mekanism.common.tile.TileEntityLogisticalSorter;
 import mekanism.common.tile.transmitter.TileEntityLogisticalTransporterBase;
@@ -90,6 +91,25 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
         return false;
     }
 
+    @Override
+    public void refreshConnections() {
+        super.refreshConnections();
+        updateNetworkGraph();
+    }
+
+    @Override
+    public void refreshConnections(Direction side) {
+        super.refreshConnections(side);
+        updateNetworkGraph();
+    }
+
+    private void updateNetworkGraph() {
+        //Any change to which sides we can connect on, be it from redstone or a connection type change, goes through a refresh. Color changes update the graph directly
+        if (!isRemote() && hasTransmitterNetwork()) {
+            getTransmitterNetwork().transporterChanged(this);
+        }
+    }
+
     @Override
     public boolean isValidAcceptor(TileEntity tile, Direction side) {
         return super.isValidAcceptor(tile, side) && getAcceptorCache().isAcceptorAndListen(tile, side, CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
@@ -219,8 +239,8 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
             }
 
             if (!deletes.isEmpty() || !needsSync.isEmpty()) {
-                //Notify clients, so that we send the information before we start clearing our lists
-                Mekanism.packetHandler.sendToAllTracking(new PacketTransporterUpdate(this, needsSync, deletes), getTransmitterTile());
+                //Notify clients, so that we encode the information before we start clearing our lists
+                Mekanism.packetHandler.queueToAllTracking(EncodedUpdate.transporter(new PacketTransporterUpdate(this, needsSync, deletes)), getTransmitterTile());
                 // Now remove any entries from transit that have been deleted
                 deletes.forEach((IntConsumer) (this::deleteStack));
 
@@ -415,7 +435,7 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
             if (doEmit) {
                 int stackId = nextId++;
                 addStack(stackId, stack);
-                Mekanism.packetHandler.sendToAllTracking(new PacketTransporterUpdate(this, stackId, stack), getTransmitterTile());
+                Mekanism.packetHandler.queueToAllTracking(EncodedUpdate.transporter(new PacketTransporterUpdate(this, stackId, stack)), getTransmitterTile());
                 WorldUtils.saveChunk(getTransmitterTile());
             }
         }
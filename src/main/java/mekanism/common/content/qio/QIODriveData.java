@@ -4,6 +4,7 @@ import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import mekanism.common.Mekanism;
 import mekanism.common.content.qio.IQIODriveItem.DriveMetadata;
+import mekanism.common.content.qio.QIODriveFormat.SavedTypes;
 import mekanism.common.lib.inventory.HashedItem;
 import net.minecraft.item.ItemStack;
 
@@ -13,7 +14,10 @@ public class QIODriveData {
     private final long countCapacity;
     private final int typeCapacity;
     private final Object2LongMap<HashedItem> itemMap = new Object2LongOpenHashMap<>();
+    private final SavedTypes savedTypes = new SavedTypes();
     private long itemCount;
+    //Order in which this drive was added to its frequency, used to fill drives in a consistent order
+    long addedIndex;
 
     public QIODriveData(QIODriveKey key) {
         this.key = key;
@@ -58,6 +62,13 @@ public class QIODriveData {
         return ret;
     }
 
+    /**
+     * @return {@code true} if this drive has room to store an item type it does not already contain.
+     */
+    public boolean hasTypeSpace() {
+        return itemCount < countCapacity && itemMap.size() < typeCapacity;
+    }
+
     public long getStored(HashedItem type) {
         return itemMap.getOrDefault(type, 0L);
     }
@@ -66,6 +77,10 @@ public class QIODriveData {
         return itemMap;
     }
 
+    public SavedTypes getSavedTypes() {
+        return savedTypes;
+    }
+
     public QIODriveKey getKey() {
         return key;
     }
@@ -0,0 +1,242 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap.Entry;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nullable;
+import mekanism.api.NBTConstants;
+import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.util.ItemDataUtils;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.ListNBT;
+import net.minecraftforge.common.util.Constants.NBT;
+
+/**
+ * Reads and writes the items stored on a QIO drive. Drives store a table of the item types they contain, with each type written once, and a separate byte array with
+ * the amount stored of each type encoded as variable length integers in the same order as the table.
+ *
+ * @implNote When a drive is saved again, only the byte array of amounts is rewritten. New types are appended to the existing table, and types that are no longer stored
+ * are left in the table with an amount of zero until enough of them build up that it is worth rewriting the table. Drives saved in the old format, a list with a
+ * compound per type, are read transparently and get converted the next time they are saved. Drives saved in a format we don't know about, most likely by a newer version,
+ * are never read or written so that their contents don't get lost.
+ */
+public final class QIODriveFormat {
+
+    private QIODriveFormat() {
+    }
+
+    public static final int VERSION = 1;
+
+    public static boolean hasStoredItems(ItemStack stack) {
+        return !isKnownFormat(stack) || ItemDataUtils.hasData(stack, NBTConstants.QIO_ITEM_TYPES, NBT.TAG_LIST) || ItemDataUtils.hasData(stack, NBTConstants.QIO_ITEM_MAP, NBT.TAG_LIST);
+    }
+
+    /**
+     * Checks if the items stored on the given drive are in a format we can read and write. Drives that aren't should be treated as read only.
+     */
+    public static boolean isKnownFormat(ItemStack stack) {
+        return isKnownFormat(ItemDataUtils.getDataMapIfPresentNN(stack));
+    }
+
+    static boolean isKnownFormat(CompoundNBT dataMap) {
+        if (dataMap.contains(NBTConstants.QIO_ITEM_FORMAT) || dataMap.contains(NBTConstants.QIO_ITEM_TYPES)) {
+            return dataMap.getInt(NBTConstants.QIO_ITEM_FORMAT) == VERSION;
+        }
+        //No stored items, or stored in the legacy format
+        return true;
+    }
+
+    /**
+     * Reads the items stored on the given drive into the given map. Nothing is read if the drive is not in a {@link #isKnownFormat(ItemStack) known format}.
+     *
+     * @param savedTypes If not {@code null}, gets filled with the layout of the type table so that later saves can be done incrementally.
+     */
+    public static void read(ItemStack stack, Object2LongMap<HashedItem> itemMap, @Nullable SavedTypes savedTypes) {
+        if (!isKnownFormat(stack)) {
+            //Unknown format, most likely from a newer version. Don't try to read it
+            return;
+        }
+        if (ItemDataUtils.hasData(stack, NBTConstants.QIO_ITEM_TYPES, NBT.TAG_LIST)) {
+            ListNBT types = ItemDataUtils.getList(stack, NBTConstants.QIO_ITEM_TYPES);
+            long[] counts = decodeCounts(ItemDataUtils.getByteArray(stack, NBTConstants.QIO_ITEM_COUNTS), types.size());
+            for (int i = 0; i < types.size(); i++) {
+                ItemStack itemType = ItemStack.read(types.getCompound(i));
+                HashedItem type = null;
+                if (!itemType.isEmpty()) {
+                    //Only add the item if the item could be read. If it can't that means the mod adding the item was probably removed
+                    type = HashedItem.create(itemType);
+                    if (counts[i] > 0) {
+                        itemMap.put(type, counts[i]);
+                    }
+                }
+                if (savedTypes != null) {
+                    savedTypes.add(type, counts[i]);
+                }
+            }
+        } else if (ItemDataUtils.hasData(stack, NBTConstants.QIO_ITEM_MAP, NBT.TAG_LIST)) {
+            //Legacy format
+            ListNBT list = ItemDataUtils.getList(stack, NBTConstants.QIO_ITEM_MAP);
+            for (int i = 0; i < list.size(); i++) {
+                CompoundNBT tag = list.getCompound(i);
+                ItemStack itemType = ItemStack.read(tag.getCompound(NBTConstants.ITEM));
+                if (!itemType.isEmpty()) {
+                    //TODO: Eventually we may want to keep the NBT so that if the mod gets added back it exists again
+                    itemMap.put(HashedItem.create(itemType), tag.getLong(NBTConstants.AMOUNT));
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the given items to the drive, only rewriting the parts of the type table that changed since it was last read or written if possible. Nothing is written if the
+     * drive is not in a {@link #isKnownFormat(ItemStack) known format}.
+     *
+     * @param savedTypes Layout of the type table currently on the drive, or {@code null} to always rewrite the full table.
+     */
+    public static void write(ItemStack stack, Object2LongMap<HashedItem> itemMap, @Nullable SavedTypes savedTypes) {
+        if (!isKnownFormat(stack)) {
+            //Never write over data we weren't able to read, as it would delete the drive's contents
+            return;
+        }
+        if (savedTypes == null || !savedTypes.canAppendTo(stack, itemMap)) {
+            writeFull(stack, itemMap, savedTypes);
+            return;
+        }
+        ListNBT types = ItemDataUtils.getList(stack, NBTConstants.QIO_ITEM_TYPES);
+        for (Entry<HashedItem> entry : itemMap.object2LongEntrySet()) {
+            if (entry.getLongValue() > 0 && !savedTypes.contains(entry.getKey())) {
+                types.add(entry.getKey().getStack().write(new CompoundNBT()));
+                savedTypes.add(entry.getKey(), 0);
+            }
+        }
+        //Note: We set the list again in case getting it returned a copy because the stack had no data
+        ItemDataUtils.setList(stack, NBTConstants.QIO_ITEM_TYPES, types);
+        ItemDataUtils.setByteArray(stack, NBTConstants.QIO_ITEM_COUNTS, encodeCounts(savedTypes.getCounts(itemMap)));
+    }
+
+    private static void writeFull(ItemStack stack, Object2LongMap<HashedItem> itemMap, @Nullable SavedTypes savedTypes) {
+        if (savedTypes != null) {
+            savedTypes.clear();
+        }
+        ListNBT types = new ListNBT();
+        long[] counts = new long[itemMap.size()];
+        int index = 0;
+        for (Entry<HashedItem> entry : itemMap.object2LongEntrySet()) {
+            if (entry.getLongValue() > 0) {
+                types.add(entry.getKey().getStack().write(new CompoundNBT()));
+                counts[index++] = entry.getLongValue();
+                if (savedTypes != null) {
+                    savedTypes.add(entry.getKey(), entry.getLongValue());
+                }
+            }
+        }
+        if (index < counts.length) {
+            long[] trimmed = new long[index];
+            System.arraycopy(counts, 0, trimmed, 0, index);
+            counts = trimmed;
+        }
+        ItemDataUtils.setInt(stack, NBTConstants.QIO_ITEM_FORMAT, VERSION);
+        ItemDataUtils.setList(stack, NBTConstants.QIO_ITEM_TYPES, types);
+        ItemDataUtils.setByteArray(stack, NBTConstants.QIO_ITEM_COUNTS, encodeCounts(counts));
+        //Remove the data in the legacy format if there was any
+        ItemDataUtils.removeData(stack, NBTConstants.QIO_ITEM_MAP);
+    }
+
+    /**
+     * Encodes the given non negative amounts as a sequence of variable length integers, using seven bits per byte and the high bit to mark that more bytes follow.
+     */
+    public static byte[] encodeCounts(long[] counts) {
+        ByteArrayList bytes = new ByteArrayList(counts.length * 2);
+        for (long count : counts) {
+            long value = count;
+            while ((value & ~0x7FL) != 0) {
+                bytes.add((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            bytes.add((byte) value);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes the given number of amounts encoded by {@link #encodeCounts(long[])}. If there are not enough amounts encoded the remaining ones are zero.
+     */
+    public static long[] decodeCounts(byte[] bytes, int size) {
+        long[] counts = new long[size];
+        int index = 0;
+        for (int i = 0; i < size && index < bytes.length; i++) {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[index++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0 && index < bytes.length && shift < Long.SIZE);
+            counts[i] = value;
+        }
+        return counts;
+    }
+
+    /**
+     * Layout of the type table stored on a drive.
+     */
+    public static class SavedTypes {
+
+        private final List<HashedItem> types = new ArrayList<>();
+        private final Object2IntMap<HashedItem> indices = new Object2IntOpenHashMap<>();
+        //Amounts of types that could not be read, so that we can keep writing them while the table stays the same
+        private final Int2LongMap unreadableCounts = new Int2LongOpenHashMap();
+
+        private void add(@Nullable HashedItem type, long count) {
+            if (type == null) {
+                unreadableCounts.put(types.size(), count);
+            } else {
+                indices.put(type, types.size());
+            }
+            types.add(type);
+        }
+
+        private boolean contains(HashedItem type) {
+            return indices.containsKey(type);
+        }
+
+        private void clear() {
+            types.clear();
+            indices.clear();
+            unreadableCounts.clear();
+        }
+
+        private boolean canAppendTo(ItemStack stack, Object2LongMap<HashedItem> itemMap) {
+            if (types.isEmpty() || ItemDataUtils.getInt(stack, NBTConstants.QIO_ITEM_FORMAT) != VERSION ||
+                ItemDataUtils.getList(stack, NBTConstants.QIO_ITEM_TYPES).size() != types.size()) {
+                //Nothing to append to, or the drive's data is not what we last read or wrote
+                return false;
+            }
+            //Rewrite the table once more of it is taken up by types we no longer store than by types we do
+            int unused = unreadableCounts.size();
+            for (HashedItem type : indices.keySet()) {
+                if (itemMap.getLong(type) == 0) {
+                    unused++;
+                }
+            }
+            return unused <= types.size() / 2;
+        }
+
+        private long[] getCounts(Object2LongMap<HashedItem> itemMap) {
+            long[] counts = new long[types.size()];
+            for (int i = 0; i < counts.length; i++) {
+                HashedItem type = types.get(i);
+                counts[i] = type == null ? unreadableCounts.get(i) : itemMap.getLong(type);
+            }
+            return counts;
+        }
+    }
+}
@@ -6,6 +6,11 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.SetMultimap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectAVLTreeSet;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectSortedSet;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -26,7 +31,6 @@ import mekanism.common.lib.WildcardMatcher;
 import mekanism.common.lib.frequency.Frequency;
 import mekanism.common.lib.frequency.FrequencyType;
 import mekanism.common.lib.inventory.HashedItem;
-import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.network.PacketQIOItemViewerGuiSync;
 import mekanism.common.util.NBTUtils;
 import net.minecraft.entity.player.ServerPlayerEntity;
@@ -40,6 +44,9 @@ public class QIOFrequency extends Frequency {
     private static final Random rand = new Random();
 
     private final Map<QIODriveKey, QIODriveData> driveMap = new LinkedHashMap<>();
+    // drives that can still accept item types they don't already contain, in the order they were added, so finding space for new items doesn't scan every drive
+    private final ObjectSortedSet<QIODriveData> drivesWithTypeSpace = new ObjectAVLTreeSet<>(Comparator.comparingLong(data -> data.addedIndex));
+    private long drivesAdded;
     private final Map<HashedItem, QIOItemTypeData> itemDataMap = new LinkedHashMap<>();
     private final Set<IQIODriveHolder> driveHolders = new HashSet<>();
     // efficiently keep track of the tags utilized by the items stored
@@ -49,8 +56,8 @@ public class QIOFrequency extends Frequency {
     // a sensitive cache for wildcard tag lookups (wildcard -> [matching tags])
     private final SetMultimap<String, String> tagWildcardCache = HashMultimap.create();
 
-    private final Set<UUIDAwareHashedItem> updatedItems = new HashSet<>();
-    private final Set<ServerPlayerEntity> playersViewingItems = new HashSet<>();
+    private final Set<HashedItem> updatedItems = new HashSet<>();
+    private final Map<ServerPlayerEntity, QIOViewerSession> playersViewingItems = new HashMap<>();
 
     /** If we need to send a packet to viewing clients with changed item data. */
     private boolean needsUpdate;
@@ -173,14 +180,18 @@ public class QIOFrequency extends Frequency {
     }
 
     public void openItemViewer(ServerPlayerEntity player) {
-        playersViewingItems.add(player);
-        Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>();
-        itemDataMap.values().forEach(d -> map.put(new UUIDAwareHashedItem(d.itemType, getUUIDForType(d.itemType)), d.count));
-        Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.batch(map, totalCountCapacity, totalTypeCapacity), player);
+        // the session sends the first page of item types, and the rest get sent over the following ticks
+        QIOViewerSession previous = playersViewingItems.put(player, new QIOViewerSession(this, player, itemDataMap.keySet()));
+        if (previous != null) {
+            previous.close();
+        }
     }
 
     public void closeItemViewer(ServerPlayerEntity player) {
-        playersViewingItems.remove(player);
+        QIOViewerSession session = playersViewingItems.remove(player);
+        if (session != null) {
+            session.close();
+        }
     }
 
     public EnumColor getColor() {
@@ -220,18 +231,20 @@ public class QIOFrequency extends Frequency {
     @Override
     public void tick() {
         super.tick();
-        if (!updatedItems.isEmpty() || needsUpdate) {
-            Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>();
-            updatedItems.forEach(type -> {
-                QIOItemTypeData data = itemDataMap.get(type);
-                map.put(type, data == null ? 0 : data.count);
-            });
+        if (!playersViewingItems.isEmpty()) {
             // flush players that somehow didn't send a container close packet
-            playersViewingItems.removeIf(player -> !(player.openContainer instanceof QIOItemViewerContainer));
-            playersViewingItems.forEach(player -> Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.update(map, totalCountCapacity, totalTypeCapacity), player));
-            updatedItems.clear();
-            needsUpdate = false;
+            playersViewingItems.values().removeIf(session -> {
+                if (session.getPlayer().openContainer instanceof QIOItemViewerContainer) {
+                    return false;
+                }
+                session.close();
+                return true;
+            });
+            // send viewing players any changed items, and the next page of items they haven't been sent yet
+            playersViewingItems.values().forEach(session -> session.update(updatedItems, needsUpdate));
         }
+        updatedItems.clear();
+        needsUpdate = false;
         // if something has changed, we'll subsequently randomly run a save operation in the next 100 ticks.
         // the random factor helps us avoid bogging down the CPU by saving all QIO frequencies at once
         // this isn't a fully necessary operation, but it'll help avoid all item data getting lost if the server
@@ -280,7 +293,11 @@ public class QIOFrequency extends Frequency {
         Set<QIODriveKey> keys = new HashSet<>(driveMap.keySet());
         keys.forEach(key -> removeDrive(key, false));
         driveMap.clear();
-        playersViewingItems.forEach(player -> Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.kill(), player));
+        playersViewingItems.forEach((player, session) -> {
+            Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.kill(), player);
+            session.close();
+        });
+        playersViewingItems.clear();
     }
 
     @Override
@@ -332,11 +349,17 @@ public class QIOFrequency extends Frequency {
             if (driveMap.containsKey(key)) {
                 removeDrive(key, true);
             }
+            if (!QIODriveFormat.isKnownFormat(key.getDriveStack())) {
+                // the drive was saved in a format we can't read, leave it out of the system so it stays read only and its contents don't get overwritten
+                return;
+            }
             // add drive and capacity info to core tracking
             QIODriveData data = new QIODriveData(key);
+            data.addedIndex = drivesAdded++;
             totalCountCapacity += data.getCountCapacity();
             totalTypeCapacity += data.getTypeCapacity();
             driveMap.put(key, data);
+            updateTypeSpace(data);
             data.getItemMap().forEach((storedKey, value) -> {
                 itemDataMap.computeIfAbsent(storedKey, e -> {
                     tagWildcardCache.clear();
@@ -344,7 +367,7 @@ public class QIOFrequency extends Frequency {
                     itemTypeLookup.put(e, UUID.randomUUID());
                     return new QIOItemTypeData(e);
                 }).addFromDrive(data, value);
-                updatedItems.add(new UUIDAwareHashedItem(storedKey, getUUIDForType(storedKey)));
+                updatedItems.add(storedKey);
             });
             setNeedsUpdate();
         }
@@ -359,7 +382,7 @@ public class QIOFrequency extends Frequency {
             data.getItemMap().forEach((storedKey, value) -> {
                 QIOItemTypeData itemData = itemDataMap.get(storedKey);
                 if (itemData != null) {
-                    itemData.containingDrives.remove(key);
+                    itemData.containingDrives.remove(data);
                     itemData.count -= value;
                     totalCount -= value;
                     // remove this entry from the item data map if it's now empty
@@ -367,7 +390,7 @@ public class QIOFrequency extends Frequency {
                         itemDataMap.remove(storedKey);
                         tagWildcardCache.clear();
                     }
-                    updatedItems.add(new UUIDAwareHashedItem(storedKey, getUUIDForType(storedKey)));
+                    updatedItems.add(storedKey);
                 }
             });
             setNeedsUpdate();
@@ -376,6 +399,7 @@ public class QIOFrequency extends Frequency {
         totalCountCapacity -= data.getCountCapacity();
         totalTypeCapacity -= data.getTypeCapacity();
         driveMap.remove(key);
+        drivesWithTypeSpace.remove(data);
         // save the item list onto the physical drive
         key.updateMetadata(data);
         key.save(data);
@@ -388,6 +412,14 @@ public class QIOFrequency extends Frequency {
         });
     }
 
+    private void updateTypeSpace(QIODriveData data) {
+        if (data.hasTypeSpace()) {
+            drivesWithTypeSpace.add(data);
+        } else {
+            drivesWithTypeSpace.remove(data);
+        }
+    }
+
     private void addHolder(IQIODriveHolder holder) {
         driveHolders.add(holder);
         for (int i = 0; i < holder.getDriveSlots().size(); i++) {
@@ -399,7 +431,7 @@ public class QIOFrequency extends Frequency {
         needsUpdate = true;
         isDirty = true;
         if (changedItem != null) {
-            updatedItems.add(new UUIDAwareHashedItem(changedItem, getUUIDForType(changedItem)));
+            updatedItems.add(changedItem);
         }
     }
 
@@ -411,7 +443,7 @@ public class QIOFrequency extends Frequency {
 
         private final HashedItem itemType;
         private long count = 0;
-        private final Set<QIODriveKey> containingDrives = new HashSet<>();
+        private final Set<QIODriveData> containingDrives = new ObjectLinkedOpenHashSet<>();
 
         public QIOItemTypeData(HashedItem itemType) {
             this.itemType = itemType;
@@ -420,29 +452,32 @@ public class QIOFrequency extends Frequency {
         private void addFromDrive(QIODriveData data, long toAdd) {
             count += toAdd;
             totalCount += toAdd;
-            containingDrives.add(data.getKey());
+            containingDrives.add(data);
             setNeedsUpdate();
         }
 
         private long add(long amount) {
             long toAdd = amount;
             // first we try to add the items to an already-containing drive
-            for (QIODriveKey key : containingDrives) {
-                toAdd = addItemsToDrive(toAdd, driveMap.get(key));
+            for (QIODriveData data : containingDrives) {
+                toAdd = addItemsToDrive(toAdd, data);
                 if (toAdd == 0) {
                     break;
                 }
             }
-            // next, we add the items to any drive that will take it
-            if (toAdd > 0) {
-                for (QIODriveData data : driveMap.values()) {
-                    if (containingDrives.contains(data.getKey())) {
-                        continue;
-                    }
-                    toAdd = addItemsToDrive(toAdd, data);
-                    if (toAdd == 0) {
-                        break;
+            // next, we add the items to any drive that has room for another type
+            if (toAdd > 0 && !drivesWithTypeSpace.isEmpty()) {
+                // walk the drives by looking up the next one each time, as adding to a drive may remove it from the set
+                QIODriveData data = drivesWithTypeSpace.first();
+                while (data != null) {
+                    QIODriveData next = next(data);
+                    if (!containingDrives.contains(data)) {
+                        toAdd = addItemsToDrive(toAdd, data);
+                        if (toAdd == 0) {
+                            break;
+                        }
                     }
+                    data = next;
                 }
             }
             // update internal/core values and return
@@ -452,18 +487,26 @@ public class QIOFrequency extends Frequency {
             return toAdd;
         }
 
+        @Nullable
+        private QIODriveData next(QIODriveData data) {
+            // iterating from an element starts at the first element after it
+            Iterator<QIODriveData> iter = drivesWithTypeSpace.iterator(data);
+            return iter.hasNext() ? iter.next() : null;
+        }
+
         private long addItemsToDrive(long toAdd, QIODriveData data) {
             long rejects = data.add(itemType, toAdd);
             if (rejects < toAdd) {
-                containingDrives.add(data.getKey());
+                containingDrives.add(data);
+                updateTypeSpace(data);
             }
             return rejects;
         }
 
         private ItemStack remove(int amount) {
             ItemStack ret = ItemStack.EMPTY;
-            for (Iterator<QIODriveKey> iter = containingDrives.iterator(); iter.hasNext(); ) {
-                QIODriveData data = driveMap.get(iter.next());
+            for (Iterator<QIODriveData> iter = containingDrives.iterator(); iter.hasNext(); ) {
+                QIODriveData data = iter.next();
                 ItemStack stack = data.remove(itemType, amount - ret.getCount());
                 if (ret.isEmpty()) {
                     ret = stack;
@@ -474,6 +517,9 @@ public class QIOFrequency extends Frequency {
                 if (data.getStored(itemType) == 0) {
                     iter.remove();
                 }
+                if (!stack.isEmpty()) {
+                    updateTypeSpace(data);
+                }
                 // break early if we found enough items
                 if (ret.getCount() == amount) {
                     break;
@@ -0,0 +1,298 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.annotation.Nullable;
+import mekanism.common.base.TagCache;
+import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
+import mekanism.common.content.qio.SearchQueryParser.QueryType;
+import mekanism.common.content.qio.SearchQueryParser.SearchQuery;
+import mekanism.common.content.qio.SearchQueryParser.SearchQueryList;
+import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.client.util.ITooltipFlag;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.text.ITextComponent;
+
+/**
+ * Index of the item types shown in a QIO Item Viewer, so that searches do not have to evaluate the query against the stack of every item type. Names are indexed by the
+ * trigrams they contain, and mod ids and tags by the item types that have them. Only use on client-side.
+ *
+ * @implNote Item types are indexed by the id the server assigned them for the viewing session, and are added and removed as the server sends updates.
+ */
+public class QIOSearchIndex {
+
+    private static final int NO_ID = -1;
+    //Order to narrow down the candidates in, so that the expensive checks get done against as few item types as possible
+    private static final QueryType[] EVALUATION_ORDER = {QueryType.MOD_ID, QueryType.TAG, QueryType.NAME, QueryType.TOOLTIP};
+
+    private final Int2ObjectMap<IndexedType> entries = new Int2ObjectOpenHashMap<>();
+    private final Object2IntMap<HashedItem> ids = new Object2IntOpenHashMap<>();
+    private final Long2ObjectMap<IntSet> nameTrigrams = new Long2ObjectOpenHashMap<>();
+    private final Map<String, IntSet> modIds = new Object2ObjectOpenHashMap<>();
+    private final Map<String, IntSet> tags = new Object2ObjectOpenHashMap<>();
+
+    public QIOSearchIndex() {
+        ids.defaultReturnValue(NO_ID);
+    }
+
+    public void add(int id, HashedItem type) {
+        remove(id);
+        IndexedType entry = new IndexedType(type);
+        entries.put(id, entry);
+        ids.put(type, id);
+        String name = entry.name;
+        for (int i = 0; i + 3 <= name.length(); i++) {
+            nameTrigrams.computeIfAbsent(trigram(name, i), t -> new IntOpenHashSet()).add(id);
+        }
+        modIds.computeIfAbsent(entry.modId, modId -> new IntOpenHashSet()).add(id);
+        for (String tag : entry.tags) {
+            tags.computeIfAbsent(tag, t -> new IntOpenHashSet()).add(id);
+        }
+    }
+
+    public void remove(int id) {
+        IndexedType entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        ids.removeInt(entry.type);
+        String name = entry.name;
+        for (int i = 0; i + 3 <= name.length(); i++) {
+            long trigram = trigram(name, i);
+            IntSet postings = nameTrigrams.get(trigram);
+            if (postings != null && postings.remove(id) && postings.isEmpty()) {
+                nameTrigrams.remove(trigram);
+            }
+        }
+        removePosting(modIds, entry.modId, id);
+        for (String tag : entry.tags) {
+            removePosting(tags, tag, id);
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+        ids.clear();
+        nameTrigrams.clear();
+        modIds.clear();
+        tags.clear();
+    }
+
+    /**
+     * @return The id the given item type is indexed under, or {@code -1} if it is not indexed.
+     */
+    public int getId(HashedItem type) {
+        return ids.getInt(type);
+    }
+
+    /**
+     * Finds the ids of the item types that match the given query.
+     *
+     * @param within If not {@code null}, only item types with these ids are checked. Used to refine the results of a previous query that is known to match everything
+     *               this query does.
+     */
+    public IntSet search(ISearchQuery query, @Nullable IntSet within) {
+        IntSet base = within == null ? entries.keySet() : within;
+        if (query.isInvalid()) {
+            return new IntOpenHashSet();
+        } else if (!(query instanceof SearchQueryList)) {
+            //Fallback for queries we don't know how to look up in the index
+            IntSet result = new IntOpenHashSet();
+            for (IntIterator iter = base.iterator(); iter.hasNext(); ) {
+                int id = iter.nextInt();
+                IndexedType entry = entries.get(id);
+                if (entry != null && query.matches(entry.stack)) {
+                    result.add(id);
+                }
+            }
+            return result;
+        }
+        List<SearchQuery> queries = ((SearchQueryList) query).getQueries();
+        if (queries.isEmpty()) {
+            return new IntOpenHashSet(base);
+        }
+        IntSet result = new IntOpenHashSet();
+        for (SearchQuery subQuery : queries) {
+            result.addAll(search(subQuery, base));
+        }
+        return result;
+    }
+
+    private IntSet search(SearchQuery query, IntSet base) {
+        IntSet candidates = base;
+        Map<QueryType, List<String>> queryMap = query.getQueryMap();
+        for (QueryType type : EVALUATION_ORDER) {
+            List<String> keys = queryMap.get(type);
+            if (keys != null) {
+                IntSet matches = new IntOpenHashSet();
+                for (String key : keys) {
+                    matches.addAll(search(type, key.toLowerCase(Locale.ROOT), candidates));
+                }
+                candidates = matches;
+                if (candidates.isEmpty()) {
+                    break;
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private IntSet search(QueryType type, String key, IntSet candidates) {
+        IntSet result = new IntOpenHashSet();
+        if (key.isEmpty()) {
+            //Everything contains the empty string
+            result.addAll(candidates);
+            return result;
+        }
+        switch (type) {
+            case MOD_ID:
+                searchPostings(modIds, key, candidates, result);
+                break;
+            case TAG:
+                searchPostings(tags, key, candidates, result);
+                break;
+            case NAME:
+                IntSet toCheck = candidates;
+                if (key.length() >= 3) {
+                    //Only the item types that contain every trigram of the key can contain the key, so only check the ones with the rarest trigram
+                    for (int i = 0; i + 3 <= key.length(); i++) {
+                        IntSet postings = nameTrigrams.get(trigram(key, i));
+                        if (postings == null) {
+                            return result;
+                        } else if (postings.size() < toCheck.size()) {
+                            toCheck = postings;
+                        }
+                    }
+                }
+                for (IntIterator iter = toCheck.iterator(); iter.hasNext(); ) {
+                    int id = iter.nextInt();
+                    IndexedType entry = entries.get(id);
+                    if (entry != null && entry.name.contains(key) && (toCheck == candidates || candidates.contains(id))) {
+                        result.add(id);
+                    }
+                }
+                break;
+            case TOOLTIP:
+                for (IntIterator iter = candidates.iterator(); iter.hasNext(); ) {
+                    int id = iter.nextInt();
+                    IndexedType entry = entries.get(id);
+                    if (entry != null && entry.getTooltip().stream().anyMatch(tooltip -> tooltip.contains(key))) {
+                        result.add(id);
+                    }
+                }
+                break;
+        }
+        return result;
+    }
+
+    private static void searchPostings(Map<String, IntSet> postingsMap, String key, IntSet candidates, IntSet result) {
+        //There are far fewer distinct mod ids and tags than item types, so check each of them instead of each item type
+        for (Map.Entry<String, IntSet> entry : postingsMap.entrySet()) {
+            if (entry.getKey().contains(key)) {
+                IntSet postings = entry.getValue();
+                IntSet smaller = postings.size() < candidates.size() ? postings : candidates;
+                IntSet larger = smaller == postings ? candidates : postings;
+                for (IntIterator iter = smaller.iterator(); iter.hasNext(); ) {
+                    int id = iter.nextInt();
+                    if (larger.contains(id)) {
+                        result.add(id);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void removePosting(Map<String, IntSet> postingsMap, String key, int id) {
+        IntSet postings = postingsMap.get(key);
+        if (postings != null && postings.remove(id) && postings.isEmpty()) {
+            postingsMap.remove(key);
+        }
+    }
+
+    private static long trigram(String text, int start) {
+        return (long) text.charAt(start) << 32 | (long) text.charAt(start + 1) << 16 | text.charAt(start + 2);
+    }
+
+    /**
+     * Checks if every item type that matches the given query also matches the previous query, in which case the query's results can be found by refining the previous
+     * query's results. This is the case when more characters get typed into a key, or more keys get added to a query.
+     */
+    public static boolean isNarrowing(ISearchQuery previous, ISearchQuery query) {
+        if (!(previous instanceof SearchQueryList) || !(query instanceof SearchQueryList)) {
+            return false;
+        }
+        List<SearchQuery> previousQueries = ((SearchQueryList) previous).getQueries();
+        List<SearchQuery> queries = ((SearchQueryList) query).getQueries();
+        if (previousQueries.isEmpty()) {
+            //The previous query matched everything
+            return true;
+        } else if (queries.isEmpty()) {
+            return false;
+        }
+        //Each of the queries that are OR'ed together has to be narrower than one of the previous ones
+        return queries.stream().allMatch(subQuery -> previousQueries.stream().anyMatch(previousSubQuery -> isNarrowing(previousSubQuery, subQuery)));
+    }
+
+    private static boolean isNarrowing(SearchQuery previous, SearchQuery query) {
+        Map<QueryType, List<String>> queryMap = query.getQueryMap();
+        for (Map.Entry<QueryType, List<String>> entry : previous.getQueryMap().entrySet()) {
+            List<String> keys = queryMap.get(entry.getKey());
+            if (keys == null) {
+                return false;
+            }
+            //Any text that contains one of the new keys has to contain one of the previous keys
+            for (String key : keys) {
+                String lowerKey = key.toLowerCase(Locale.ROOT);
+                if (entry.getValue().stream().noneMatch(previousKey -> lowerKey.contains(previousKey.toLowerCase(Locale.ROOT)))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static class IndexedType {
+
+        private final HashedItem type;
+        private final ItemStack stack;
+        private final String name;
+        private final String modId;
+        private final List<String> tags = new ArrayList<>();
+        @Nullable
+        private List<String> tooltip;
+
+        private IndexedType(HashedItem type) {
+            this.type = type;
+            this.stack = type.getStack();
+            name = stack.getDisplayName().getString().toLowerCase(Locale.ROOT);
+            modId = MekanismUtils.getModId(stack).toLowerCase(Locale.ROOT);
+            for (String tag : TagCache.getItemTags(stack)) {
+                tags.add(tag.toLowerCase(Locale.ROOT));
+            }
+        }
+
+        private List<String> getTooltip() {
+            if (tooltip == null) {
+                //Tooltips are expensive to build, so only build them the first time they are searched
+                tooltip = new ArrayList<>();
+                for (ITextComponent line : stack.getTooltip(null, ITooltipFlag.TooltipFlags.NORMAL)) {
+                    tooltip.add(line.getString().toLowerCase(Locale.ROOT));
+                }
+            }
+            return tooltip;
+        }
+    }
+}
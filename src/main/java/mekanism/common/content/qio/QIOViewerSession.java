@@ -0,0 +1,155 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.UUID;
+import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
+import mekanism.common.network.PacketQIOItemViewerGuiSync;
+import net.minecraft.entity.player.ServerPlayerEntity;
+
+/**
+ * Tracks what a single player viewing a {@link QIOFrequency} has been sent. Each item type is given a small integer id the first time it is sent, after which only
+ * changes in its count are sent keyed by that id. Opening the viewer sends the item types in pages instead of all at once.
+ */
+public class QIOViewerSession {
+
+    private static final Set<QIOViewerSession> activeSessions = new ObjectOpenHashSet<>();
+
+    private final QIOFrequency frequency;
+    private final ServerPlayerEntity player;
+    private final Object2IntMap<HashedItem> sentIds = new Object2IntOpenHashMap<>();
+    private final Object2LongMap<HashedItem> sentCounts = new Object2LongOpenHashMap<>();
+    //Item types that have not been sent yet, in the order they will get sent
+    private final ObjectLinkedOpenHashSet<HashedItem> pending = new ObjectLinkedOpenHashSet<>();
+    private int nextId;
+    private long packetsSent;
+    private long typesSent;
+    private long deltasSent;
+
+    QIOViewerSession(QIOFrequency frequency, ServerPlayerEntity player, Collection<HashedItem> types) {
+        this.frequency = frequency;
+        this.player = player;
+        sentIds.defaultReturnValue(-1);
+        pending.addAll(types);
+        activeSessions.add(this);
+        send(true, Collections.emptySet());
+    }
+
+    public ServerPlayerEntity getPlayer() {
+        return player;
+    }
+
+    /**
+     * Sends the next page of item types that have not been sent yet, along with any changes to the given item types.
+     *
+     * @param changed Item types whose count may have changed since the last update.
+     * @param force   {@code true} to send the update even if no item types changed, for example because the capacity changed.
+     */
+    void update(Set<? extends HashedItem> changed, boolean force) {
+        if (force || !changed.isEmpty() || !pending.isEmpty()) {
+            send(false, changed);
+        }
+    }
+
+    private void send(boolean initial, Set<? extends HashedItem> changed) {
+        Int2ObjectMap<UUIDAwareHashedItem> newTypes = new Int2ObjectOpenHashMap<>();
+        Int2LongMap counts = new Int2LongOpenHashMap();
+        Int2LongMap deltas = new Int2LongOpenHashMap();
+        for (HashedItem type : changed) {
+            int id = sentIds.getInt(type);
+            long count = frequency.getStored(type);
+            if (id == -1) {
+                //If it is still waiting to be sent it will be sent with its current count as part of a page
+                if (count > 0 && !pending.contains(type)) {
+                    define(type, count, newTypes, counts);
+                }
+            } else {
+                long delta = count - sentCounts.getLong(type);
+                if (delta != 0) {
+                    deltas.put(id, delta);
+                    deltasSent++;
+                    if (count == 0) {
+                        //The client forgets about types once they reach zero, as they get a new UUID if they come back
+                        sentIds.removeInt(type);
+                        sentCounts.removeLong(type);
+                    } else {
+                        sentCounts.put(type, count);
+                    }
+                }
+            }
+        }
+        int pageSize = MekanismConfig.general.qioViewerSyncPageSize.get();
+        for (Iterator<HashedItem> iter = pending.iterator(); iter.hasNext() && newTypes.size() < pageSize; ) {
+            HashedItem type = iter.next();
+            iter.remove();
+            long count = frequency.getStored(type);
+            if (count > 0) {
+                define(type, count, newTypes, counts);
+            }
+        }
+        long countCapacity = frequency.getTotalItemCountCapacity();
+        int typeCapacity = frequency.getTotalItemTypeCapacity();
+        if (initial) {
+            Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.batch(newTypes, counts, countCapacity, typeCapacity), player);
+        } else {
+            Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.update(newTypes, counts, deltas, countCapacity, typeCapacity), player);
+        }
+        packetsSent++;
+    }
+
+    private void define(HashedItem type, long count, Int2ObjectMap<UUIDAwareHashedItem> newTypes, Int2LongMap counts) {
+        UUID uuid = frequency.getUUIDForType(type);
+        int id = nextId++;
+        sentIds.put(type, id);
+        sentCounts.put(type, count);
+        newTypes.put(id, new UUIDAwareHashedItem(type, uuid));
+        counts.put(id, count);
+        typesSent++;
+    }
+
+    void close() {
+        activeSessions.remove(this);
+    }
+
+    /**
+     * @return The number of item types that have not been sent to the player yet.
+     */
+    public int getBacklog() {
+        return pending.size();
+    }
+
+    public long getPacketsSent() {
+        return packetsSent;
+    }
+
+    public long getTypesSent() {
+        return typesSent;
+    }
+
+    public long getDeltasSent() {
+        return deltasSent;
+    }
+
+    public static Set<QIOViewerSession> getActiveSessions() {
+        return Collections.unmodifiableSet(activeSessions);
+    }
+
+    public static void reset() {
+        activeSessions.clear();
+    }
+}
@@ -1,6 +1,8 @@
 package mekanism.common.content.teleporter;
 
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import javax.annotation.Nullable;
@@ -13,10 +15,15 @@ import mekanism.common.util.NBTUtils;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.world.World;
 
 public class TeleporterFrequency extends Frequency {
 
     private final Set<Coord4D> activeCoords = new ObjectOpenHashSet<>();
+    private final Map<RegistryKey<World>, Set<Coord4D>> activeCoordsByDimension = new Object2ObjectOpenHashMap<>();
+    //Teleporters look up their closest teleporter every tick, but the active teleporters rarely change, so cache the closest coords of each active teleporter
+    private final Map<Coord4D, Coord4D> closestCoords = new Object2ObjectOpenHashMap<>();
     private EnumColor color = EnumColor.PURPLE;
 
     /**
@@ -52,31 +59,72 @@ public class TeleporterFrequency extends Frequency {
     @Override
     public void update(TileEntity tile) {
         super.update(tile);
-        activeCoords.add(Coord4D.get(tile));
+        Coord4D coord = Coord4D.get(tile);
+        if (activeCoords.add(coord)) {
+            activeCoordsByDimension.computeIfAbsent(coord.dimension, dimension -> new ObjectOpenHashSet<>()).add(coord);
+            closestCoords.clear();
+        }
     }
 
     @Override
     public void onDeactivate(TileEntity tile) {
         super.onDeactivate(tile);
-        activeCoords.remove(Coord4D.get(tile));
+        Coord4D coord = Coord4D.get(tile);
+        if (activeCoords.remove(coord)) {
+            Set<Coord4D> dimensionCoords = activeCoordsByDimension.get(coord.dimension);
+            if (dimensionCoords != null && dimensionCoords.remove(coord) && dimensionCoords.isEmpty()) {
+                activeCoordsByDimension.remove(coord.dimension);
+            }
+            closestCoords.clear();
+        }
     }
 
+    /**
+     * Gets the closest active teleporter to the given position, preferring teleporters in the same dimension.
+     */
+    @Nullable
     public Coord4D getClosestCoords(Coord4D coord) {
-        Coord4D closest = null;
-        for (Coord4D iterCoord : activeCoords) {
-            if (iterCoord.equals(coord)) {
-                continue;
-            }
-            if (closest == null) {
-                closest = iterCoord;
-                continue;
+        if (!activeCoords.contains(coord)) {
+            //Don't bother caching positions that aren't a teleporter, such as the position of a player using a portable teleporter
+            return findClosestCoords(coord);
+        } else if (closestCoords.containsKey(coord)) {
+            return closestCoords.get(coord);
+        }
+        Coord4D closest = findClosestCoords(coord);
+        closestCoords.put(coord, closest);
+        return closest;
+    }
+
+    @Nullable
+    private Coord4D findClosestCoords(Coord4D coord) {
+        //Only look at the teleporters in other dimensions if there are none in the same dimension
+        Coord4D closest = getClosestCoords(coord, activeCoordsByDimension.get(coord.dimension));
+        if (closest == null) {
+            for (Map.Entry<RegistryKey<World>, Set<Coord4D>> entry : activeCoordsByDimension.entrySet()) {
+                if (entry.getKey() != coord.dimension) {
+                    Coord4D dimensionClosest = getClosestCoords(coord, entry.getValue());
+                    if (dimensionClosest != null && (closest == null || coord.distanceTo(closest) > coord.distanceTo(dimensionClosest))) {
+                        closest = dimensionClosest;
+                    }
+                }
             }
+        }
+        return closest;
+    }
 
-            if (coord.dimension != closest.dimension && coord.dimension == iterCoord.dimension) {
-                closest = iterCoord;
-            } else if (coord.dimension != closest.dimension || coord.dimension == iterCoord.dimension) {
-                if (coord.distanceTo(closest) > coord.distanceTo(iterCoord)) {
+    @Nullable
+    private static Coord4D getClosestCoords(Coord4D coord, @Nullable Set<Coord4D> coords) {
+        if (coords == null) {
+            return null;
+        }
+        Coord4D closest = null;
+        double closestDistance = 0;
+        for (Coord4D iterCoord : coords) {
+            if (!iterCoord.equals(coord)) {
+                double distance = coord.distanceTo(iterCoord);
+                if (closest == null || closestDistance > distance) {
                     closest = iterCoord;
+                    closestDistance = distance;
                 }
             }
         }
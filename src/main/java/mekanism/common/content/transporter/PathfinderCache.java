@@ -1,59 +1,304 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import javax.annotation.Nullable;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.util.EnumUtils;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 
+/**
+ * Bounded cache of transporter paths keyed by the packed positions of the start transporter and destination, and the side the destination is entered from. Paths are
+ * evicted in least recently used order once the configured size is exceeded, and are invalidated individually when a transporter they pass through changes.
+ */
 public class PathfinderCache {
 
     private PathfinderCache() {
     }
 
-    private static final Map<UUID, Map<PathData, CachedPath>> cachedPaths = new Object2ObjectOpenHashMap<>();
+    private static final Map<UUID, NetworkPaths> cachedPaths = new Object2ObjectOpenHashMap<>();
+    //Least recently used paths are at the head
+    @Nullable
+    private static CachedPath head;
+    @Nullable
+    private static CachedPath tail;
+    private static int size;
+    private static long hits;
+    private static long misses;
+    private static long evictions;
+    //Incremented whenever any paths get invalidated, so that anything derived from the state of transporters knows it may be stale
+    private static int version;
 
+    /**
+     * Removes all cached paths for the given networks.
+     */
     public static void onChanged(InventoryNetwork... networks) {
+        version++;
         for (InventoryNetwork network : networks) {
-            cachedPaths.remove(network.getUUID());
+            NetworkPaths paths = cachedPaths.remove(network.getUUID());
+            if (paths != null) {
+                for (Long2ObjectMap<CachedPath[]> ends : paths.paths.values()) {
+                    for (CachedPath[] bySide : ends.values()) {
+                        for (CachedPath path : bySide) {
+                            if (path != null) {
+                                unlink(path);
+                            }
+                        }
+                    }
+                }
+            }
         }
     }
 
-    public static void addCachedPath(LogisticalTransporterBase start, PathData data, List<BlockPos> positions, double cost) {
-        cachedPaths.computeIfAbsent(start.getTransmitterNetwork().getUUID(), uuid -> new Object2ObjectOpenHashMap<>()).put(data, new CachedPath(positions, cost));
+    /**
+     * Removes any cached paths in the given network that pass through the given position.
+     */
+    public static void onChanged(InventoryNetwork network, BlockPos pos) {
+        version++;
+        NetworkPaths paths = cachedPaths.get(network.getUUID());
+        if (paths != null) {
+            Set<CachedPath> through = paths.pathsThrough.get(pos.toLong());
+            if (through != null) {
+                for (CachedPath path : new ArrayList<>(through)) {
+                    remove(paths, path);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes any cached paths in the given network that pass through the given position or any position next to it. This is used when a transporter restricts how
+     * stacks can move through it, as paths that pass through or next to it may no longer be valid.
+     *
+     * @apiNote Not enough when a transporter gets added or starts letting stacks through in new ways, as that may open up a shorter route for paths anywhere in the
+     * network, see {@link #onChanged(InventoryNetwork...)}.
+     */
+    public static void onNeighborChanged(InventoryNetwork network, BlockPos pos) {
+        onChanged(network, pos);
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            onChanged(network, pos.offset(side));
+        }
+    }
+
+    public static void addCachedPath(LogisticalTransporterBase start, BlockPos end, Direction endSide, List<BlockPos> positions, double cost) {
+        int maxSize = MekanismConfig.general.transporterPathCacheSize.get();
+        if (maxSize == 0) {
+            //Caching is disabled
+            return;
+        }
+        UUID uuid = start.getTransmitterNetwork().getUUID();
+        long startPos = start.getTilePos().toLong();
+        long endPos = end.toLong();
+        NetworkPaths paths = cachedPaths.get(uuid);
+        if (paths == null) {
+            paths = new NetworkPaths();
+            cachedPaths.put(uuid, paths);
+        } else {
+            CachedPath previous = paths.get(startPos, endPos, endSide);
+            if (previous != null) {
+                remove(paths, previous);
+                //Removing the previous path may have removed our network's entry if it was the only path
+                cachedPaths.put(uuid, paths);
+            }
+        }
+        CachedPath path = new CachedPath(positions, cost, uuid, startPos, endPos, endSide);
+        paths.paths.computeIfAbsent(startPos, pos -> new Long2ObjectOpenHashMap<>()).computeIfAbsent(endPos, pos -> new CachedPath[EnumUtils.DIRECTIONS.length])[endSide.ordinal()] = path;
+        for (BlockPos position : positions) {
+            paths.pathsThrough.computeIfAbsent(position.toLong(), pos -> new ObjectOpenHashSet<>()).add(path);
+        }
+        linkLast(path);
+        while (size > maxSize && head != null) {
+            CachedPath eldest = head;
+            NetworkPaths eldestPaths = cachedPaths.get(eldest.network);
+            if (eldestPaths == null) {
+                //Should not happen, but make sure we don't get stuck
+                unlink(eldest);
+            } else {
+                remove(eldestPaths, eldest);
+            }
+            evictions++;
+        }
     }
 
+    @Nullable
     public static CachedPath getCache(LogisticalTransporterBase start, BlockPos end, Set<Direction> sides) {
         CachedPath ret = null;
-        UUID uuid = start.getTransmitterNetwork().getUUID();
-        if (cachedPaths.containsKey(uuid)) {
-            Map<PathData, CachedPath> pathMap = cachedPaths.get(uuid);
-            for (Direction side : sides) {
-                CachedPath test = pathMap.get(new PathData(start.getTilePos(), end, side));
-                if (ret == null || (test != null && test.getCost() < ret.getCost())) {
-                    ret = test;
+        NetworkPaths paths = cachedPaths.get(start.getTransmitterNetwork().getUUID());
+        if (paths != null) {
+            Long2ObjectMap<CachedPath[]> ends = paths.paths.get(start.getTilePos().toLong());
+            if (ends != null) {
+                CachedPath[] bySide = ends.get(end.toLong());
+                if (bySide != null) {
+                    for (Direction side : sides) {
+                        CachedPath test = bySide[side.ordinal()];
+                        if (test != null && (ret == null || test.getCost() < ret.getCost())) {
+                            ret = test;
+                        }
+                    }
                 }
             }
         }
+        if (ret == null) {
+            misses++;
+        } else {
+            hits++;
+            //Mark it as the most recently used path
+            unlink(ret);
+            linkLast(ret);
+        }
         return ret;
     }
 
+    private static void remove(NetworkPaths paths, CachedPath path) {
+        unlink(path);
+        Long2ObjectMap<CachedPath[]> ends = paths.paths.get(path.start);
+        if (ends != null) {
+            CachedPath[] bySide = ends.get(path.end);
+            if (bySide != null && bySide[path.endSide.ordinal()] == path) {
+                bySide[path.endSide.ordinal()] = null;
+                if (isEmpty(bySide)) {
+                    ends.remove(path.end);
+                    if (ends.isEmpty()) {
+                        paths.paths.remove(path.start);
+                    }
+                }
+            }
+        }
+        for (BlockPos position : path.getPath()) {
+            long pos = position.toLong();
+            Set<CachedPath> through = paths.pathsThrough.get(pos);
+            if (through != null && through.remove(path) && through.isEmpty()) {
+                paths.pathsThrough.remove(pos);
+            }
+        }
+        if (paths.paths.isEmpty()) {
+            cachedPaths.remove(path.network);
+        }
+    }
+
+    private static boolean isEmpty(CachedPath[] bySide) {
+        for (CachedPath path : bySide) {
+            if (path != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void linkLast(CachedPath path) {
+        path.previous = tail;
+        path.next = null;
+        if (tail == null) {
+            head = path;
+        } else {
+            tail.next = path;
+        }
+        tail = path;
+        size++;
+    }
+
+    private static void unlink(CachedPath path) {
+        if (path.previous == null) {
+            if (head == path) {
+                head = path.next;
+            } else {
+                //Not linked
+                return;
+            }
+        } else {
+            path.previous.next = path.next;
+        }
+        if (path.next == null) {
+            tail = path.previous;
+        } else {
+            path.next.previous = path.previous;
+        }
+        path.previous = null;
+        path.next = null;
+        size--;
+    }
+
+    public static int getVersion() {
+        return version;
+    }
+
+    public static int getSize() {
+        return size;
+    }
+
+    public static long getHits() {
+        return hits;
+    }
+
+    public static long getMisses() {
+        return misses;
+    }
+
+    public static long getEvictions() {
+        return evictions;
+    }
+
     public static void reset() {
         cachedPaths.clear();
+        head = null;
+        tail = null;
+        size = 0;
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+        version++;
+        TransporterPathfinder.resetBatchedSearches();
+    }
+
+    private static class NetworkPaths {
+
+        //Start position -> End position -> Paths indexed by the side of the end they enter from
+        private final Long2ObjectMap<Long2ObjectMap<CachedPath[]>> paths = new Long2ObjectOpenHashMap<>();
+        private final Long2ObjectMap<Set<CachedPath>> pathsThrough = new Long2ObjectOpenHashMap<>();
+
+        @Nullable
+        private CachedPath get(long start, long end, Direction endSide) {
+            Long2ObjectMap<CachedPath[]> ends = paths.get(start);
+            if (ends != null) {
+                CachedPath[] bySide = ends.get(end);
+                if (bySide != null) {
+                    return bySide[endSide.ordinal()];
+                }
+            }
+            return null;
+        }
     }
 
     public static class CachedPath {
 
         private final List<BlockPos> path;
         private final double cost;
+        private final UUID network;
+        private final long start;
+        private final long end;
+        private final Direction endSide;
+        @Nullable
+        private CachedPath previous;
+        @Nullable
+        private CachedPath next;
 
-        public CachedPath(List<BlockPos> path, double cost) {
+        private CachedPath(List<BlockPos> path, double cost, UUID network, long start, long end, Direction endSide) {
             this.path = path;
             this.cost = cost;
+            this.network = network;
+            this.start = start;
+            this.end = end;
+            this.endSide = endSide;
         }
 
         public List<BlockPos> getPath() {
@@ -64,37 +309,4 @@ public class PathfinderCache {
             return cost;
         }
     }
-
-    public static class PathData {
-
-        private final BlockPos startTransporter;
-        private final BlockPos end;
-        private final Direction endSide;
-        private final int hash;
-
-        public PathData(BlockPos s, BlockPos e, Direction es) {
-            startTransporter = s;
-            end = e;
-            endSide = es;
-            int code = 1;
-            code = 31 * code + startTransporter.hashCode();
-            code = 31 * code + end.hashCode();
-            code = 31 * code + endSide.hashCode();
-            hash = code;
-        }
-
-        @Override
-        public boolean equals(Object obj) {
-            if (obj instanceof PathData) {
-                PathData data = (PathData) obj;
-                return data.startTransporter.equals(startTransporter) && data.end.equals(end) && data.endSide.equals(endSide);
-            }
-            return false;
-        }
-
-        @Override
-        public int hashCode() {
-            return hash;
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,233 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import java.util.Arrays;
+import javax.annotation.Nullable;
+import mekanism.api.text.EnumColor;
+import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Compact adjacency graph of the transporters in an inventory network. Each transporter is given a node id, and the information the pathfinder needs about it (its
+ * position, cost, color, and which sides it can connect and emit on) is stored in primitive arrays indexed by that id, so that paths can be found without looking up
+ * any tiles.
+ *
+ * @implNote The sides a transporter can connect on already take into account its connection types, redstone state, and the modes of diversion transporters. They are
+ * refreshed whenever the transporter refreshes its connections or changes color.
+ */
+public class TransporterGraph {
+
+    public static final int NO_NODE = -1;
+    private static final byte NO_COLOR = -1;
+    private static final int SIDES = EnumUtils.DIRECTIONS.length;
+
+    private final Long2IntMap nodes = new Long2IntOpenHashMap();
+    private final IntArrayList freeNodes = new IntArrayList();
+    private Object[] owners = new Object[16];
+    private long[] positions = new long[16];
+    private double[] costs = new double[16];
+    private byte[] colors = new byte[16];
+    private byte[] connectSides = new byte[16];
+    private byte[] emitSides = new byte[16];
+    //Node ids of the transporters on each side of a node, or NO_NODE
+    private int[] neighbors = new int[16 * SIDES];
+    private int capacity;
+
+    public TransporterGraph() {
+        nodes.defaultReturnValue(NO_NODE);
+        Arrays.fill(neighbors, NO_NODE);
+    }
+
+    public void add(LogisticalTransporterBase transporter) {
+        update(addNode(transporter.getTilePos(), transporter), transporter);
+    }
+
+    /**
+     * Adds a node at the given position, or takes over the existing node at that position.
+     *
+     * @param owner The object the node belongs to, used to make sure updates and removals are from the same transporter.
+     *
+     * @return The node id.
+     */
+    int addNode(BlockPos blockPos, Object owner) {
+        long pos = blockPos.toLong();
+        int node = nodes.get(pos);
+        if (node == NO_NODE) {
+            node = freeNodes.isEmpty() ? capacity++ : freeNodes.popInt();
+            ensureCapacity(capacity);
+            nodes.put(pos, node);
+            positions[node] = pos;
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                int neighbor = nodes.get(blockPos.offset(side).toLong());
+                neighbors[node * SIDES + side.ordinal()] = neighbor;
+                if (neighbor != NO_NODE) {
+                    neighbors[neighbor * SIDES + side.getOpposite().ordinal()] = node;
+                }
+            }
+        }
+        owners[node] = owner;
+        return node;
+    }
+
+    public void remove(LogisticalTransporterBase transporter) {
+        long pos = transporter.getTilePos().toLong();
+        int node = nodes.get(pos);
+        //Make sure it is the same transporter, and not one that has since been placed in the same spot
+        if (node != NO_NODE && owners[node] == transporter) {
+            nodes.remove(pos);
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                int index = node * SIDES + side.ordinal();
+                int neighbor = neighbors[index];
+                if (neighbor != NO_NODE) {
+                    neighbors[neighbor * SIDES + side.getOpposite().ordinal()] = NO_NODE;
+                    neighbors[index] = NO_NODE;
+                }
+            }
+            owners[node] = null;
+            freeNodes.add(node);
+        }
+    }
+
+    /**
+     * Updates the stored information about the given transporter.
+     *
+     * @return How the ways stacks can move through the transporter changed.
+     */
+    public NodeChange update(LogisticalTransporterBase transporter) {
+        int node = nodes.get(transporter.getTilePos().toLong());
+        return node == NO_NODE || owners[node] != transporter ? NodeChange.NONE : update(node, transporter);
+    }
+
+    private NodeChange update(int node, LogisticalTransporterBase transporter) {
+        byte connect = 0;
+        byte emit = 0;
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            if (transporter.canConnect(side)) {
+                connect |= 1 << side.ordinal();
+                if (transporter.canEmitTo(side)) {
+                    emit |= 1 << side.ordinal();
+                }
+            }
+        }
+        return setNode(node, transporter.getColor(), connect, emit, transporter.getCost());
+    }
+
+    /**
+     * Sets the stored information about the given node.
+     *
+     * @param connect Bit mask of the sides, by ordinal, the node can connect on.
+     * @param emit    Bit mask of the sides, by ordinal, the node can emit to.
+     *
+     * @return How the ways stacks can move through the node changed.
+     */
+    NodeChange setNode(int node, @Nullable EnumColor color, byte connect, byte emit, double cost) {
+        byte newColor = color == null ? NO_COLOR : (byte) color.ordinal();
+        NodeChange change;
+        //Note: A new color lets stacks of that color through unless the node went from letting every stack through to only letting some through
+        if ((connect & ~connectSides[node]) != 0 || (emit & ~emitSides[node]) != 0 || cost < costs[node] ||
+            colors[node] != newColor && (colors[node] != NO_COLOR || newColor == NO_COLOR)) {
+            change = NodeChange.WIDENED;
+        } else if (colors[node] != newColor || connectSides[node] != connect || emitSides[node] != emit || costs[node] != cost) {
+            change = NodeChange.NARROWED;
+        } else {
+            change = NodeChange.NONE;
+        }
+        colors[node] = newColor;
+        connectSides[node] = connect;
+        emitSides[node] = emit;
+        costs[node] = cost;
+        return change;
+    }
+
+    public void clear() {
+        nodes.clear();
+        freeNodes.clear();
+        Arrays.fill(owners, null);
+        Arrays.fill(neighbors, NO_NODE);
+        capacity = 0;
+    }
+
+    private void ensureCapacity(int size) {
+        if (size > positions.length) {
+            int newLength = Math.max(size, positions.length * 2);
+            owners = Arrays.copyOf(owners, newLength);
+            positions = Arrays.copyOf(positions, newLength);
+            costs = Arrays.copyOf(costs, newLength);
+            colors = Arrays.copyOf(colors, newLength);
+            connectSides = Arrays.copyOf(connectSides, newLength);
+            emitSides = Arrays.copyOf(emitSides, newLength);
+            int oldNeighbors = neighbors.length;
+            neighbors = Arrays.copyOf(neighbors, newLength * SIDES);
+            Arrays.fill(neighbors, oldNeighbors, neighbors.length, NO_NODE);
+        }
+    }
+
+    /**
+     * @return One more than the largest node id currently in use, for sizing arrays indexed by node id.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getNode(BlockPos pos) {
+        return nodes.get(pos.toLong());
+    }
+
+    public long getPosition(int node) {
+        return positions[node];
+    }
+
+    public double getCost(int node) {
+        return costs[node];
+    }
+
+    /**
+     * @return {@code true} if a stack of the given color is allowed to pass through the given node.
+     */
+    public boolean canPass(int node, @Nullable EnumColor color) {
+        byte nodeColor = colors[node];
+        return nodeColor == NO_COLOR || color != null && nodeColor == color.ordinal();
+    }
+
+    /**
+     * Gets the node a stack would move into when leaving the given node on the given side. This mirrors {@link TransporterStack#canInsertToTransporter} except for the
+     * color check, which is done via {@link #canPass(int, EnumColor)}.
+     *
+     * @return The neighboring node, or {@link #NO_NODE} if there is no transporter on that side or the two transporters are not able to connect to each other.
+     */
+    public int getConnectedNeighbor(int node, int side) {
+        int neighbor = neighbors[node * SIDES + side];
+        //Note: The ordinals of opposite directions only differ in their lowest bit
+        if (neighbor != NO_NODE && (connectSides[node] & (1 << side)) != 0 && (connectSides[neighbor] & (1 << (side ^ 1))) != 0) {
+            return neighbor;
+        }
+        return NO_NODE;
+    }
+
+    public boolean canConnect(int node, Direction side) {
+        return (connectSides[node] & (1 << side.ordinal())) != 0;
+    }
+
+    public boolean canEmitTo(int node, Direction side) {
+        return (emitSides[node] & (1 << side.ordinal())) != 0;
+    }
+
+    public enum NodeChange {
+        /**
+         * Nothing about how stacks can move through the node changed.
+         */
+        NONE,
+        /**
+         * Stacks can only move through the node in fewer ways than before, so only paths that pass through or next to it may be affected.
+         */
+        NARROWED,
+        /**
+         * Stacks can move through the node in a way they couldn't before, which may open up shorter routes anywhere in the network.
+         */
+        WIDENED
+    }
+}
@@ -6,11 +6,14 @@ import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.UUID;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.text.EnumColor;
@@ -18,7 +21,6 @@ import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.InventoryNetwork.AcceptorData;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.PathfinderCache.CachedPath;
-import mekanism.common.content.transporter.PathfinderCache.PathData;
 import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder.DestChecker;
 import mekanism.common.content.transporter.TransporterStack.Path;
 import mekanism.common.lib.inventory.TransitRequest;
@@ -40,6 +42,25 @@ public final class TransporterPathfinder {
     private TransporterPathfinder() {
     }
 
+    //Index zero is for stacks without a color
+    private static final int COLOR_COUNT = EnumColor.values().length + 1;
+    /**
+     * Shortest path searches done this tick, by network, start transporter and stack color. Stacks that get routed from the same transporter in the same tick share
+     * a single search instead of each running a search per destination.
+     */
+    private static final Map<UUID, Long2ObjectMap<ShortestPaths[]>> batchedSearches = new Object2ObjectOpenHashMap<>();
+    private static long batchTime = -1;
+    private static int batchCacheVersion = -1;
+
+    /**
+     * Clears the searches done this tick, so that they don't keep references to worlds that have been unloaded.
+     */
+    static void resetBatchedSearches() {
+        batchedSearches.clear();
+        batchTime = -1;
+        batchCacheVersion = -1;
+    }
+
     private static List<Destination> getPaths(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, int min) {
         InventoryNetwork network = start.getTransmitterNetwork();
         if (network == null) {
@@ -48,52 +69,74 @@ public final class TransporterPathfinder {
         Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
         List<AcceptorData> acceptors = network.calculateAcceptors(request, stack, chunkMap);
         List<Destination> paths = new ArrayList<>();
+        ShortestPaths shortestPaths = null;
         for (AcceptorData data : acceptors) {
-            Destination path = getPath(data, start, stack, min, chunkMap);
-            if (path != null) {
-                paths.add(path);
+            TransitResponse response = data.getResponse();
+            if (response.getSendingAmount() >= min) {
+                BlockPos dest = data.getLocation();
+                CachedPath test = PathfinderCache.getCache(start, dest, data.getSides());
+                if (test != null && checkPath(network.getGraph(), test.getPath(), stack)) {
+                    paths.add(new Destination(test.getPath(), false, response, test.getCost()));
+                    continue;
+                }
+                if (shortestPaths == null) {
+                    //Lazily look up the search from our start so that if all the paths are cached we don't have to do one
+                    shortestPaths = getShortestPaths(network, start, stack, getMaxSearchDistance(start.getTilePos(), acceptors, min));
+                }
+                Destination path = shortestPaths.getDestination(start, dest, stack, response, chunkMap);
+                if (path != null) {
+                    paths.add(path);
+                }
             }
         }
         Collections.sort(paths);
         return paths;
     }
 
-    private static boolean checkPath(World world, List<BlockPos> path, TransporterStack stack, Long2ObjectMap<IChunk> chunkMap) {
-        for (int i = path.size() - 1; i > 0; i--) {
-            TileEntity tile = WorldUtils.getTileEntity(world, chunkMap, path.get(i));
-            if (tile instanceof TileEntityLogisticalTransporterBase) {
-                EnumColor color = ((TileEntityLogisticalTransporterBase) tile).getTransmitter().getColor();
-                if (color != null && color != stack.color) {
-                    return false;
-                }
-            } else {
-                return false;
+    /**
+     * Gets how far away from the start the search for paths is allowed to go, this is the same bound the {@link Pathfinder} uses for the furthest destination we may need
+     * a path to.
+     */
+    private static double getMaxSearchDistance(BlockPos start, List<AcceptorData> acceptors, int min) {
+        double maxDistance = 0;
+        for (AcceptorData data : acceptors) {
+            if (data.getResponse().getSendingAmount() >= min) {
+                maxDistance = Math.max(maxDistance, WorldUtils.distanceBetween(start, data.getLocation()));
             }
         }
-        return true;
+        return 2 * maxDistance;
     }
 
-    private static Destination getPath(AcceptorData data, LogisticalTransporterBase start, TransporterStack stack, int min, Long2ObjectMap<IChunk> chunkMap) {
-        TransitResponse response = data.getResponse();
-        if (response.getSendingAmount() >= min) {
-            BlockPos dest = data.getLocation();
-            CachedPath test = PathfinderCache.getCache(start, dest, data.getSides());
-            if (test != null && checkPath(start.getTileWorld(), test.getPath(), stack, chunkMap)) {
-                return new Destination(test.getPath(), false, response, test.getCost());
-            }
-            Pathfinder p = new Pathfinder(new DestChecker() {
-                @Override
-                public boolean isValid(TransporterStack stack, Direction dir, TileEntity tile) {
-                    return TransporterUtils.canInsert(tile, stack.color, response.getStack(), dir, false);
-                }
-            }, start.getTileWorld(), dest, start.getTilePos(), stack, chunkMap);
-            List<BlockPos> path = p.getPath();
-            if (path.size() >= 2) {
-                PathfinderCache.addCachedPath(start, new PathData(start.getTilePos(), dest, p.getSide()), path, p.finalScore);
-                return new Destination(path, false, response, p.finalScore);
+    private static ShortestPaths getShortestPaths(InventoryNetwork network, LogisticalTransporterBase start, TransporterStack stack, double maxSearchDistance) {
+        World world = start.getTileWorld();
+        long time = world.getGameTime();
+        int cacheVersion = PathfinderCache.getVersion();
+        if (time != batchTime || cacheVersion != batchCacheVersion) {
+            //Searches are only valid for the tick they were done in, and until any transporters change
+            batchedSearches.clear();
+            batchTime = time;
+            batchCacheVersion = cacheVersion;
+        }
+        ShortestPaths[] byColor = batchedSearches.computeIfAbsent(network.getUUID(), uuid -> new Long2ObjectOpenHashMap<>())
+              .computeIfAbsent(start.getTilePos().toLong(), pos -> new ShortestPaths[COLOR_COUNT]);
+        int colorIndex = stack.color == null ? 0 : stack.color.ordinal() + 1;
+        ShortestPaths shortestPaths = byColor[colorIndex];
+        if (shortestPaths == null || shortestPaths.maxSearchDistance < maxSearchDistance) {
+            //Search again if the existing search didn't go far enough for the destinations we are looking for
+            shortestPaths = new ShortestPaths(network.getGraph(), world, start.getTilePos(), stack.color, maxSearchDistance);
+            byColor[colorIndex] = shortestPaths;
+        }
+        return shortestPaths;
+    }
+
+    private static boolean checkPath(TransporterGraph graph, List<BlockPos> path, TransporterStack stack) {
+        for (int i = path.size() - 1; i > 0; i--) {
+            int node = graph.getNode(path.get(i));
+            if (node == TransporterGraph.NO_NODE || !graph.canPass(node, stack.color)) {
+                return false;
             }
         }
-        return null;
+        return true;
     }
 
     @Nullable
@@ -302,6 +345,153 @@ public final class TransporterPathfinder {
         }
     }
 
+    /**
+     * Shortest paths from a single transporter to every transporter reachable by a stack of a given color, found with one Dijkstra search over the network's
+     * {@link TransporterGraph}. The route to any destination can then be read out by looking at which of the transporters next to it can emit into it.
+     * <br>
+     * Like the {@link Pathfinder}, transporters further from the start than the max search distance are not searched past, and a destination can only be reached from
+     * transporters within twice its distance from the start.
+     */
+    static class ShortestPaths {
+
+        private final TransporterGraph graph;
+        private final World world;
+        private final double[] distances;
+        private final int[] previous;
+        private final BlockPos startPos;
+        private final int start;
+        private final double maxSearchDistance;
+
+        ShortestPaths(TransporterGraph graph, World world, BlockPos start, @Nullable EnumColor color, double maxSearchDistance) {
+            this.graph = graph;
+            this.world = world;
+            this.startPos = start;
+            this.start = graph.getNode(start);
+            this.maxSearchDistance = maxSearchDistance;
+            int capacity = graph.getCapacity();
+            distances = new double[capacity];
+            previous = new int[capacity];
+            Arrays.fill(distances, Double.POSITIVE_INFINITY);
+            Arrays.fill(previous, TransporterGraph.NO_NODE);
+            if (this.start == TransporterGraph.NO_NODE) {
+                //Our start is not part of the network (yet) so there is nothing we can reach
+                return;
+            }
+            boolean[] settled = new boolean[capacity];
+            PriorityQueue<SearchNode> queue = new PriorityQueue<>();
+            distances[this.start] = 0;
+            queue.add(new SearchNode(this.start, 0));
+            while (!queue.isEmpty()) {
+                SearchNode node = queue.poll();
+                if (settled[node.node]) {
+                    //We already found a shorter way to this node
+                    continue;
+                }
+                settled[node.node] = true;
+                if (WorldUtils.distanceBetween(start, BlockPos.fromLong(graph.getPosition(node.node))) > maxSearchDistance) {
+                    //Too far away to keep searching from
+                    continue;
+                }
+                for (int side = 0; side < EnumUtils.DIRECTIONS.length; side++) {
+                    int neighbor = graph.getConnectedNeighbor(node.node, side);
+                    if (neighbor != TransporterGraph.NO_NODE && !settled[neighbor] && graph.canPass(neighbor, color)) {
+                        double distance = node.distance + graph.getCost(neighbor);
+                        if (distance < distances[neighbor]) {
+                            distances[neighbor] = distance;
+                            previous[neighbor] = node.node;
+                            queue.add(new SearchNode(neighbor, distance));
+                        }
+                    }
+                }
+            }
+        }
+
+        private boolean isReachable(int node) {
+            //Nodes added after our search was done cannot be reached
+            return node != TransporterGraph.NO_NODE && node < distances.length && distances[node] != Double.POSITIVE_INFINITY;
+        }
+
+        boolean isReachable(BlockPos pos) {
+            return isReachable(graph.getNode(pos));
+        }
+
+        /**
+         * Checks if the given transporter is close enough to the start that the {@link Pathfinder} would have searched from it when looking for the given destination.
+         */
+        boolean canSearchFrom(BlockPos pos, BlockPos dest) {
+            double distance = WorldUtils.distanceBetween(startPos, pos);
+            return distance <= maxSearchDistance && distance <= 2 * WorldUtils.distanceBetween(startPos, dest);
+        }
+
+        /**
+         * Finds the best route to the given destination, and caches it in the {@link PathfinderCache}.
+         *
+         * @return The route or {@code null} if no transporter we can reach can emit into the destination.
+         */
+        @Nullable
+        private Destination getDestination(LogisticalTransporterBase start, BlockPos dest, TransporterStack stack, TransitResponse response,
+              Long2ObjectMap<IChunk> chunkMap) {
+            TileEntity destTile = null;
+            int bestNode = TransporterGraph.NO_NODE;
+            Direction bestSide = null;
+            double bestScore = 0;
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                BlockPos nodePos = dest.offset(side);
+                int node = graph.getNode(nodePos);
+                if (isReachable(node) && canSearchFrom(nodePos, dest)) {
+                    //The direction the stack would be moving in to go from the transporter into the destination
+                    Direction direction = side.getOpposite();
+                    double score = distances[node] + WorldUtils.distanceBetween(nodePos, dest);
+                    //Same checks as the Pathfinder uses for whether the transporter can emit to the destination
+                    if ((bestNode == TransporterGraph.NO_NODE || score < bestScore) &&
+                        (graph.canEmitTo(node, direction) || dest.equals(stack.homeLocation) && graph.canConnect(node, direction))) {
+                        if (destTile == null) {
+                            //The destination is the only tile we need to look at
+                            destTile = WorldUtils.getTileEntity(world, chunkMap, dest);
+                            if (destTile == null) {
+                                return null;
+                            }
+                        }
+                        if (TransporterUtils.canInsert(destTile, stack.color, response.getStack(), direction, false)) {
+                            bestNode = node;
+                            bestSide = direction;
+                            bestScore = score;
+                        }
+                    }
+                }
+            }
+            if (bestNode == TransporterGraph.NO_NODE) {
+                return null;
+            }
+            List<BlockPos> path = new ArrayList<>();
+            path.add(dest);
+            int node = bestNode;
+            path.add(BlockPos.fromLong(graph.getPosition(node)));
+            while (node != this.start && previous[node] != TransporterGraph.NO_NODE) {
+                node = previous[node];
+                path.add(BlockPos.fromLong(graph.getPosition(node)));
+            }
+            PathfinderCache.addCachedPath(start, dest, bestSide, path, bestScore);
+            return new Destination(path, false, response, bestScore);
+        }
+    }
+
+    private static class SearchNode implements Comparable<SearchNode> {
+
+        private final int node;
+        private final double distance;
+
+        private SearchNode(int node, double distance) {
+            this.node = node;
+            this.distance = distance;
+        }
+
+        @Override
+        public int compareTo(@Nonnull SearchNode other) {
+            return Double.compare(distance, other.distance);
+        }
+    }
+
     public static class Pathfinder {
 
         private final Set<BlockPos> openSet, closedSet;
@@ -10,7 +10,6 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Action;
@@ -55,6 +54,7 @@ import mekanism.common.item.ItemRobit;
 import mekanism.common.lib.security.ISecurityObject;
 import mekanism.common.lib.security.SecurityMode;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.RecipeInputs;
 import mekanism.common.registries.MekanismContainerTypes;
 import mekanism.common.registries.MekanismDamageSource;
 import mekanism.common.registries.MekanismEntityTypes;
@@ -164,7 +164,7 @@ public class EntityRobit extends CreatureEntity implements IMekanismInventory, I
             }
         }
         inventorySlots.add(energySlot = EnergyInventorySlot.fillOrConvert(energyContainer, this::getEntityWorld, this, 153, 17));
-        inventorySlots.add(smeltingInputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getInput().testType(item)), this, 51, 35));
+        inventorySlots.add(smeltingInputSlot = InputInventorySlot.at(this::containsRecipe, this, 51, 35));
         //TODO: Previously used FurnaceResultSlot, check if we need to replicate any special logic it had (like if it had xp logic or something)
         // Yes we probably do want this to allow for experience. Though maybe we should allow for experience for all our recipes/smelting recipes? V10
         inventorySlots.add(smeltingOutputSlot = OutputInventorySlot.at(this, 116, 35));
@@ -585,13 +585,13 @@ public class EntityRobit extends CreatureEntity implements IMekanismInventory, I
         return MekanismRecipeType.SMELTING;
     }
 
-    public boolean containsRecipe(@Nonnull Predicate<ItemStackToItemStackRecipe> matchCriteria) {
-        return getRecipeType().contains(getEntityWorld(), matchCriteria);
+    public boolean containsRecipe(@Nonnull ItemStack input) {
+        return getRecipeType().contains(getEntityWorld(), RecipeInputs.ITEM_TO_ITEM, input);
     }
 
     @Nullable
-    public ItemStackToItemStackRecipe findFirstRecipe(@Nonnull Predicate<ItemStackToItemStackRecipe> matchCriteria) {
-        return getRecipeType().findFirst(getEntityWorld(), matchCriteria);
+    public ItemStackToItemStackRecipe findFirstRecipe(@Nonnull ItemStack input) {
+        return getRecipeType().findFirst(getEntityWorld(), RecipeInputs.ITEM_TO_ITEM, input, recipe -> recipe.test(input));
     }
 
     @Nullable
@@ -604,7 +604,7 @@ public class EntityRobit extends CreatureEntity implements IMekanismInventory, I
     @Override
     public ItemStackToItemStackRecipe getRecipe(int cacheIndex) {
         ItemStack stack = inputHandler.getInput();
-        return stack.isEmpty() ? null : findFirstRecipe(recipe -> recipe.test(stack));
+        return stack.isEmpty() ? null : findFirstRecipe(stack);
     }
 
     public IEnergyContainer getEnergyContainer() {
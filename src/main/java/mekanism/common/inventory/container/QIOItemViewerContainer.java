@@ -1,5 +1,10 @@
 package mekanism.common.inventory.container;
 
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
@@ -15,6 +20,7 @@ import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.qio.QIOFrequency;
+import mekanism.common.content.qio.QIOSearchIndex;
 import mekanism.common.content.qio.SearchQueryParser;
 import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
 import mekanism.common.inventory.GuiComponents.IDropdownEnum;
@@ -55,6 +61,8 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     private SortDirection sortDirection = MekanismConfig.client.qioItemViewerSortDirection.get();
 
     private Object2LongMap<UUIDAwareHashedItem> cachedInventory = new Object2LongOpenHashMap<>();
+    //Item types by the id the server assigned them for this viewing session
+    private Int2ObjectMap<UUIDAwareHashedItem> cachedTypes = new Int2ObjectOpenHashMap<>();
     private long cachedCountCapacity;
     private int cachedTypeCapacity;
     private long totalItems;
@@ -63,6 +71,10 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     private List<IScrollableSlot> searchList;
 
     private Map<String, List<IScrollableSlot>> searchCache = new Object2ObjectOpenHashMap<>();
+    private QIOSearchIndex searchIndex = new QIOSearchIndex();
+    //Last query that was searched for and the ids of the item types that matched it, so that it can be refined as more gets typed
+    private ISearchQuery lastQuery;
+    private IntSet lastQueryMatches;
 
     private String searchQuery = "";
 
@@ -90,12 +102,16 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     protected void sync(QIOItemViewerContainer container) {
         container.sortType = sortType;
         container.cachedInventory = cachedInventory;
+        container.cachedTypes = cachedTypes;
         container.cachedCountCapacity = cachedCountCapacity;
         container.cachedTypeCapacity = cachedTypeCapacity;
         container.totalItems = totalItems;
         container.itemList = itemList;
         container.searchList = searchList;
         container.searchCache = searchCache;
+        container.searchIndex = searchIndex;
+        container.lastQuery = lastQuery;
+        container.lastQueryMatches = lastQueryMatches;
         container.searchQuery = searchQuery;
     }
 
@@ -206,22 +222,33 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         return newStack;
     }
 
-    public void handleBatchUpdate(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        cachedInventory = itemMap;
-        cachedCountCapacity = countCapacity;
-        cachedTypeCapacity = typeCapacity;
-        syncItemList();
+    public void handleBatchUpdate(Int2ObjectMap<UUIDAwareHashedItem> newTypes, Int2LongMap counts, long countCapacity, int typeCapacity) {
+        cachedInventory = new Object2LongOpenHashMap<>();
+        cachedTypes = new Int2ObjectOpenHashMap<>();
+        searchIndex = new QIOSearchIndex();
+        handleUpdate(newTypes, counts, new Int2LongOpenHashMap(), countCapacity, typeCapacity);
     }
 
-    public void handleUpdate(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        itemMap.object2LongEntrySet().forEach(entry -> {
-            long value = entry.getLongValue();
-            if (value == 0) {
-                cachedInventory.removeLong(entry.getKey());
-            } else {
-                cachedInventory.put(entry.getKey(), value);
+    public void handleUpdate(Int2ObjectMap<UUIDAwareHashedItem> newTypes, Int2LongMap counts, Int2LongMap deltas, long countCapacity, int typeCapacity) {
+        for (Int2ObjectMap.Entry<UUIDAwareHashedItem> entry : newTypes.int2ObjectEntrySet()) {
+            cachedTypes.put(entry.getIntKey(), entry.getValue());
+            cachedInventory.put(entry.getValue(), counts.get(entry.getIntKey()));
+            searchIndex.add(entry.getIntKey(), entry.getValue());
+        }
+        for (Int2LongMap.Entry entry : deltas.int2LongEntrySet()) {
+            UUIDAwareHashedItem type = cachedTypes.get(entry.getIntKey());
+            if (type != null) {
+                long value = cachedInventory.getLong(type) + entry.getLongValue();
+                if (value <= 0) {
+                    //The server forgets about the id once there is none of the type left
+                    cachedInventory.removeLong(type);
+                    cachedTypes.remove(entry.getIntKey());
+                    searchIndex.remove(entry.getIntKey());
+                } else {
+                    cachedInventory.put(type, value);
+                }
             }
-        });
+        }
         cachedCountCapacity = countCapacity;
         cachedTypeCapacity = typeCapacity;
         syncItemList();
@@ -231,6 +258,10 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         itemList = null;
         searchList = null;
         cachedInventory.clear();
+        cachedTypes.clear();
+        searchIndex.clear();
+        lastQuery = null;
+        lastQueryMatches = null;
     }
 
     private void syncItemList() {
@@ -239,6 +270,9 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         }
         itemList.clear();
         searchCache.clear();
+        //The item types changed, so the previous results can't be refined anymore
+        lastQuery = null;
+        lastQueryMatches = null;
         totalItems = 0;
         cachedInventory.forEach((key, value) -> {
             itemList.add(new ItemSlotData(key, key.getUUID(), value));
@@ -316,15 +350,24 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         if (list != null) {
             searchList = list;
             searchQuery = queryText;
+            lastQuery = null;
+            lastQueryMatches = null;
             return;
         }
-        list = new ArrayList<>();
         ISearchQuery query = SearchQueryParser.parse(queryText);
-        for (IScrollableSlot slot : itemList) {
-            if (query.matches(slot.getItem().getStack())) {
-                list.add(slot);
+        //If everything the new query matches was matched by the last one, only check what the last one matched
+        IntSet within = lastQuery != null && QIOSearchIndex.isNarrowing(lastQuery, query) ? lastQueryMatches : null;
+        IntSet matches = searchIndex.search(query, within);
+        list = new ArrayList<>(matches.size());
+        if (!matches.isEmpty()) {
+            for (IScrollableSlot slot : itemList) {
+                if (matches.contains(searchIndex.getId(slot.getItem()))) {
+                    list.add(slot);
+                }
             }
         }
+        lastQuery = query;
+        lastQueryMatches = matches;
         searchList = list;
         searchQuery = queryText;
         searchCache.put(queryText, searchList);
@@ -19,6 +19,7 @@ import mekanism.common.integration.energy.EnergyCompatUtils;
 import mekanism.common.inventory.container.slot.ContainerSlotType;
 import mekanism.common.inventory.container.slot.SlotOverlay;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.RecipeInputs;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.item.ItemStack;
 import net.minecraft.world.World;
@@ -32,7 +33,8 @@ public class EnergyInventorySlot extends BasicInventorySlot {
      * Gets the energy from ItemStack conversion, ignoring the size of the item stack.
      */
     private static FloatingLong getPotentialConversion(@Nullable World world, ItemStack itemStack) {
-        ItemStackToEnergyRecipe foundRecipe = MekanismRecipeType.ENERGY_CONVERSION.findFirst(world, recipe -> recipe.getInput().testType(itemStack));
+        ItemStackToEnergyRecipe foundRecipe = MekanismRecipeType.ENERGY_CONVERSION.findFirst(world, RecipeInputs.ITEM_TO_ENERGY, itemStack,
+              recipe -> recipe.getInput().testType(itemStack));
         return foundRecipe == null ? FloatingLong.ZERO : foundRecipe.getOutput(itemStack);
     }
 
@@ -135,7 +137,8 @@ public class EnergyInventorySlot extends BasicInventorySlot {
             //Fill the container from the item
             if (!fillContainerFromItem()) {
                 //If filling from item failed, try doing it by conversion
-                ItemStackToEnergyRecipe foundRecipe = MekanismRecipeType.ENERGY_CONVERSION.findFirst(worldSupplier.get(), recipe -> recipe.getInput().test(current));
+                ItemStackToEnergyRecipe foundRecipe = MekanismRecipeType.ENERGY_CONVERSION.findFirst(worldSupplier.get(), RecipeInputs.ITEM_TO_ENERGY, current,
+                      recipe -> recipe.getInput().test(current));
                 if (foundRecipe != null) {
                     ItemStack itemInput = foundRecipe.getInput().getMatchingInstance(current);
                     if (!itemInput.isEmpty()) {
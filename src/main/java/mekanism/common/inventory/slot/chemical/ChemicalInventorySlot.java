@@ -20,6 +20,7 @@ import mekanism.api.recipes.chemical.ItemStackToChemicalRecipe;
 import mekanism.common.inventory.container.slot.ContainerSlotType;
 import mekanism.common.inventory.slot.BasicInventorySlot;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.RecipeInputs;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.item.ItemStack;
 import net.minecraft.world.World;
@@ -41,7 +42,8 @@ public abstract class ChemicalInventorySlot<CHEMICAL extends Chemical<CHEMICAL>,
      */
     protected static <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> STACK getPotentialConversion(
           MekanismRecipeType<? extends ItemStackToChemicalRecipe<CHEMICAL, STACK>> recipeType, @Nullable World world, ItemStack itemStack, STACK empty) {
-        ItemStackToChemicalRecipe<CHEMICAL, STACK> foundRecipe = recipeType.findFirst(world, recipe -> recipe.getInput().testType(itemStack));
+        ItemStackToChemicalRecipe<CHEMICAL, STACK> foundRecipe = recipeType.findFirst(world, RecipeInputs.ITEM_TO_CHEMICAL, itemStack,
+              recipe -> recipe.getInput().testType(itemStack));
         return foundRecipe == null ? empty : foundRecipe.getOutput(itemStack);
     }
 
@@ -171,7 +173,8 @@ public abstract class ChemicalInventorySlot<CHEMICAL extends Chemical<CHEMICAL>,
                 //If filling from item failed, try doing it by conversion
                 MekanismRecipeType<? extends ItemStackToChemicalRecipe<CHEMICAL, STACK>> recipeType = getConversionRecipeType();
                 if (recipeType != null) {
-                    ItemStackToChemicalRecipe<CHEMICAL, STACK> foundRecipe = recipeType.findFirst(worldSupplier.get(), recipe -> recipe.getInput().test(current));
+                    ItemStackToChemicalRecipe<CHEMICAL, STACK> foundRecipe = recipeType.findFirst(worldSupplier.get(), RecipeInputs.ITEM_TO_CHEMICAL, current,
+                          recipe -> recipe.getInput().test(current));
                     if (foundRecipe != null) {
                         ItemStack itemInput = foundRecipe.getInput().getMatchingInstance(current);
                         if (!itemInput.isEmpty()) {
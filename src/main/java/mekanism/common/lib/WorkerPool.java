@@ -0,0 +1,54 @@
+package mekanism.common.lib;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.IntSupplier;
+import javax.annotation.Nullable;
+import mekanism.common.Mekanism;
+
+/**
+ * Lazily created {@link ForkJoinPool} of daemon threads that gets recreated whenever the configured parallelism changes.
+ */
+public class WorkerPool {
+
+    private final String threadName;
+    private final IntSupplier parallelismSupplier;
+    @Nullable
+    private ForkJoinPool pool;
+
+    /**
+     * @param threadName          Name of the pool's threads, the index of the thread in the pool gets appended to it.
+     * @param parallelismSupplier Supplies the number of threads the pool should have, zero means one less than the number of available processors.
+     */
+    public WorkerPool(String threadName, IntSupplier parallelismSupplier) {
+        this.threadName = threadName;
+        this.parallelismSupplier = parallelismSupplier;
+    }
+
+    public synchronized ForkJoinPool get() {
+        int parallelism = parallelismSupplier.getAsInt();
+        if (parallelism == 0) {
+            parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        }
+        if (pool == null || pool.getParallelism() != parallelism) {
+            //Note: Any tasks that were already submitted to the old pool will still finish
+            shutdown();
+            pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                thread.setName(threadName + "-" + thread.getPoolIndex());
+                thread.setDaemon(true);
+                //Ensure our worker threads can see mod classes
+                thread.setContextClassLoader(Mekanism.class.getClassLoader());
+                return thread;
+            }, null, false);
+        }
+        return pool;
+    }
+
+    public synchronized void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package mekanism.common.lib.distribution;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import javax.annotation.Nullable;
+import net.minecraft.util.Direction;
+
+/**
+ * Strategies for fairly distributing an amount between a collection of {@link Target}s.
+ */
+public enum DistributionEngine {
+    /**
+     * Original distribution strategy that offers each handler the current fair share and then repeatedly rechecks the handlers that wanted more than the share until
+     * the share stops changing. This is quadratic in the worst case, when many handlers each want slightly less than the share.
+     */
+    ITERATIVE {
+        @Override
+        public <HANDLER, TYPE extends Number & Comparable<TYPE>, EXTRA, TARGET extends Target<HANDLER, TYPE, EXTRA>> TYPE distribute(Collection<TARGET> availableTargets,
+              SplitInfo<TYPE> splitInfo, EXTRA toSend) {
+            //Simulate addition, sending when the requested amount is less than the amountPer
+            // splitInfo gets adjusted to account for how much is actually sent
+            for (TARGET target : availableTargets) {
+                target.sendPossible(toSend, splitInfo);
+            }
+            //Only run this if we changed the amountPer from when we first/last ran things
+            while (splitInfo.amountPerChanged) {
+                splitInfo.amountPerChanged = false;
+                //splitInfo gets adjusted to account for how much is actually sent,
+                // and if amountPer got changed again and we need to rerun this
+                for (TARGET target : availableTargets) {
+                    target.shiftNeeded(splitInfo);
+                }
+            }
+            //Evenly distribute the remaining amount we have to give between all targets and handlers
+            // splitInfo gets adjusted to account for how much is actually sent
+            for (TARGET target : availableTargets) {
+                target.sendRemainingSplit(splitInfo);
+            }
+            return splitInfo.getTotalSent();
+        }
+    },
+    /**
+     * Makes exactly the same simulate and accept calls as {@link #ITERATIVE}, in the same order, but instead of rescanning every handler that wanted more than the share
+     * each time the share changes, it keeps what the remaining handlers need in a min segment tree and jumps straight to the next one that fits under the current share.
+     * This makes rechecking {@code O(n log n)} in the number of handlers instead of quadratic.
+     */
+    INDEXED {
+        @Override
+        public <HANDLER, TYPE extends Number & Comparable<TYPE>, EXTRA, TARGET extends Target<HANDLER, TYPE, EXTRA>> TYPE distribute(Collection<TARGET> availableTargets,
+              SplitInfo<TYPE> splitInfo, EXTRA toSend) {
+            //Simulate addition, sending when the requested amount is less than the amountPer
+            // splitInfo gets adjusted to account for how much is actually sent
+            for (TARGET target : availableTargets) {
+                target.sendPossible(toSend, splitInfo);
+            }
+            if (splitInfo.amountPerChanged) {
+                NeededIndex index = NEEDED_INDEX.get();
+                try {
+                    index.shiftNeeded(availableTargets, splitInfo);
+                } finally {
+                    //Don't hold onto any handlers after we are done with them
+                    index.clear();
+                }
+            }
+            //Evenly distribute the remaining amount we have to give between all targets and handlers
+            // splitInfo gets adjusted to account for how much is actually sent
+            for (TARGET target : availableTargets) {
+                target.sendRemainingSplit(splitInfo);
+            }
+            return splitInfo.getTotalSent();
+        }
+    };
+
+    //Note: Per thread so that the scratch arrays can be reused between calls without having to worry about which thread is distributing
+    private static final ThreadLocal<NeededIndex> NEEDED_INDEX = ThreadLocal.withInitial(NeededIndex::new);
+
+    /**
+     * Distributes the amount represented by the given {@link SplitInfo} between the handlers of the given targets.
+     *
+     * @param availableTargets The targets to distribute toSend fairly among.
+     * @param splitInfo        Information containing the split.
+     * @param toSend           Any extra information such as gas stack or fluid stack.
+     *
+     * @return The amount that actually got sent.
+     */
+    public abstract <HANDLER, TYPE extends Number & Comparable<TYPE>, EXTRA, TARGET extends Target<HANDLER, TYPE, EXTRA>> TYPE distribute(
+          Collection<TARGET> availableTargets, SplitInfo<TYPE> splitInfo, EXTRA toSend);
+
+    /**
+     * Scratch arrays used by {@link #INDEXED} to find the handlers that still want more than the share in the order {@link Target#shiftNeeded(SplitInfo)} would visit
+     * them.
+     */
+    private static class NeededIndex {
+
+        private Target<?, ?, ?>[] targets = new Target<?, ?, ?>[16];
+        private Direction[] sides = new Direction[16];
+        //Min segment tree over what each handler still needs, the leaves start at index leafStart and are null once the handler has been sent to
+        private Object[] tree = new Object[32];
+        private int leafStart;
+        private int count;
+
+        /**
+         * Same as calling {@link Target#shiftNeeded(SplitInfo)} on every target until the share stops changing.
+         */
+        private <TYPE extends Number & Comparable<TYPE>> void shiftNeeded(Collection<? extends Target<?, TYPE, ?>> availableTargets, SplitInfo<TYPE> splitInfo) {
+            for (Target<?, TYPE, ?> target : availableTargets) {
+                for (Map.Entry<Direction, TYPE> entry : target.needed.entrySet()) {
+                    if (count == targets.length) {
+                        targets = Arrays.copyOf(targets, count * 2);
+                        sides = Arrays.copyOf(sides, count * 2);
+                    }
+                    targets[count] = target;
+                    sides[count] = entry.getKey();
+                    count++;
+                }
+            }
+            leafStart = 1;
+            while (leafStart < count) {
+                leafStart <<= 1;
+            }
+            if (tree.length < 2 * leafStart) {
+                tree = new Object[2 * leafStart];
+            }
+            for (int i = 0; i < count; i++) {
+                tree[leafStart + i] = targets[i].needed.get(sides[i]);
+            }
+            for (int node = leafStart - 1; node > 0; node--) {
+                tree[node] = this.<TYPE>min(node);
+            }
+            while (splitInfo.amountPerChanged) {
+                splitInfo.amountPerChanged = false;
+                //Visit the handlers that fit under the share in order, the share may grow as we go, which is the same as what a pass over all of them would do
+                for (int i = find(1, 0, leafStart - 1, 0, splitInfo.getShareAmount()); i != -1; i = find(1, 0, leafStart - 1, i + 1, splitInfo.getShareAmount())) {
+                    accept(targets[i], sides[i], splitInfo);
+                    int node = leafStart + i;
+                    tree[node] = null;
+                    for (node >>= 1; node > 0; node >>= 1) {
+                        tree[node] = this.<TYPE>min(node);
+                    }
+                }
+            }
+        }
+
+        private static <HANDLER, TYPE extends Number & Comparable<TYPE>> void accept(Target<HANDLER, ?, ?> rawTarget, Direction side, SplitInfo<TYPE> splitInfo) {
+            @SuppressWarnings("unchecked")
+            Target<HANDLER, TYPE, ?> target = (Target<HANDLER, TYPE, ?>) rawTarget;
+            target.acceptAmount(target.handlers.get(side), splitInfo, target.needed.get(side));
+            //Remove it as it has now been sent
+            target.needed.remove(side);
+        }
+
+        @Nullable
+        @SuppressWarnings("unchecked")
+        private <TYPE extends Comparable<TYPE>> TYPE min(int node) {
+            TYPE left = (TYPE) tree[2 * node];
+            TYPE right = (TYPE) tree[2 * node + 1];
+            if (left == null) {
+                return right;
+            } else if (right == null || left.compareTo(right) <= 0) {
+                return left;
+            }
+            return right;
+        }
+
+        /**
+         * Finds the first handler at or after the given index that needs no more than the given share.
+         *
+         * @return The index of the handler, or {@code -1} if there is none.
+         */
+        @SuppressWarnings("unchecked")
+        private <TYPE extends Comparable<TYPE>> int find(int node, int low, int high, int from, TYPE share) {
+            Object needed = tree[node];
+            if (high < from || needed == null || ((TYPE) needed).compareTo(share) > 0) {
+                return -1;
+            } else if (low == high) {
+                return low;
+            }
+            int mid = (low + high) >>> 1;
+            int found = find(2 * node, low, mid, from, share);
+            return found == -1 ? find(2 * node + 1, mid + 1, high, from, share) : found;
+        }
+
+        private void clear() {
+            Arrays.fill(targets, 0, count, null);
+            Arrays.fill(sides, 0, count, null);
+            Arrays.fill(tree, 0, 2 * leafStart, null);
+            count = 0;
+            leafStart = 0;
+        }
+    }
+}
@@ -1,32 +1,35 @@
 package mekanism.common.lib.distribution;
 
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLongAccumulator;
 
 public class FloatingLongSplitInfo extends SplitInfo<FloatingLong> {
 
-    private FloatingLong amountToSplit;
+    private final FloatingLongAccumulator amountToSplit;
+    private final FloatingLongAccumulator sentSoFar = new FloatingLongAccumulator();
+    //Scratch accumulator used for calculating the new split without allocating when it ends up being the same as before
+    private final FloatingLongAccumulator amountPerCalc = new FloatingLongAccumulator();
     private FloatingLong amountPerTarget;
-    private FloatingLong sentSoFar;
 
     public FloatingLongSplitInfo(FloatingLong amountToSplit, int totalTargets) {
         super(totalTargets);
-        this.amountToSplit = amountToSplit.copy();
+        this.amountToSplit = new FloatingLongAccumulator(amountToSplit);
         amountPerTarget = toSplitAmong == 0 ? FloatingLong.ZERO : amountToSplit.divide(toSplitAmong);
-        sentSoFar = FloatingLong.ZERO;
     }
 
     @Override
     public void send(FloatingLong amountNeeded) {
         //If we are giving it, then lower the amount we are checking/splitting
-        amountToSplit = amountToSplit.minusEqual(amountNeeded);
-        sentSoFar = sentSoFar.plusEqual(amountNeeded);
+        amountToSplit.minusEqual(amountNeeded);
+        sentSoFar.plusEqual(amountNeeded);
         toSplitAmong--;
         //Only recalculate it if it is not willing to accept/doesn't want the
         // full per side split
         if (!amountNeeded.equals(amountPerTarget) && toSplitAmong != 0) {
-            FloatingLong amountPerLast = amountPerTarget;
-            amountPerTarget = amountToSplit.divide(toSplitAmong);
-            if (!amountPerChanged && !amountPerTarget.equals(amountPerLast)) {
+            amountPerCalc.set(amountToSplit).divideEquals(toSplitAmong);
+            if (!amountPerCalc.valueEquals(amountPerTarget)) {
+                //Only create a new object if the split actually changed
+                amountPerTarget = amountPerCalc.toFloatingLongConst();
                 amountPerChanged = true;
             }
         }
@@ -46,6 +49,6 @@ public class FloatingLongSplitInfo extends SplitInfo<FloatingLong> {
 
     @Override
     public FloatingLong getTotalSent() {
-        return sentSoFar;
+        return sentSoFar.toFloatingLong();
     }
-}
\ No newline at end of file
+}
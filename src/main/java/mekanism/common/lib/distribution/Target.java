@@ -34,6 +34,14 @@ public abstract class Target<HANDLER, TYPE extends Number & Comparable<TYPE>, EX
         return handlers;
     }
 
+    /**
+     * Clears all handlers and any amounts they still needed so that this target can be reused.
+     */
+    public void clear() {
+        handlers.clear();
+        needed.clear();
+    }
+
     /**
      * Sends the remaining amount to each handler we still have not settled on an amount for. We increment the amount sent in splitInfo as well as adjust the split as
      * needed if one ends up accepting less than it originally wanted. (The most likely case this would change is with multi-blocks where it may return the same desire to
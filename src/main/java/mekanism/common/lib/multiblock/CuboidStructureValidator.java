@@ -47,14 +47,46 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
         this.structure = structure;
     }
 
+    /**
+     * Validates every position of the cuboid, shell first and then the interior.
+     *
+     * @implNote Every position of the cuboid is validated each time, there is no cached state from a previous formation that gets reused. Checking the shell first only
+     * lets broken structures fail sooner, and skipping interior air only avoids work for positions that are never tracked.
+     */
     @Override
     public FormationResult validate(FormationProtocol<T> ctx, Long2ObjectMap<IChunk> chunkMap) {
         BlockPos min = cuboid.getMinPos(), max = cuboid.getMaxPos();
-        for (int x = min.getX(); x <= max.getX(); x++) {
-            for (int y = min.getY(); y <= max.getY(); y++) {
-                for (int z = min.getZ(); z <= max.getZ(); z++) {
-                    BlockPos pos = new BlockPos(x, y, z);
-                    FormationResult ret = validateNode(ctx, chunkMap, pos);
+        //Validate the shell one face at a time before looking at the interior, as that is where incomplete or broken structures fail
+        FormationResult ret = validateRegion(ctx, chunkMap, min.getX(), min.getY(), min.getZ(), max.getX(), min.getY(), max.getZ());
+        if (ret.isFormed() && max.getY() > min.getY()) {
+            ret = validateRegion(ctx, chunkMap, min.getX(), max.getY(), min.getZ(), max.getX(), max.getY(), max.getZ());
+        }
+        //Note: The faces below skip the rows already covered by the faces above
+        int minY = min.getY() + 1, maxY = max.getY() - 1;
+        if (ret.isFormed() && minY <= maxY) {
+            ret = validateRegion(ctx, chunkMap, min.getX(), minY, min.getZ(), min.getX(), maxY, max.getZ());
+            if (ret.isFormed() && max.getX() > min.getX()) {
+                ret = validateRegion(ctx, chunkMap, max.getX(), minY, min.getZ(), max.getX(), maxY, max.getZ());
+            }
+            int minX = min.getX() + 1, maxX = max.getX() - 1;
+            if (ret.isFormed() && minX <= maxX) {
+                ret = validateRegion(ctx, chunkMap, minX, minY, min.getZ(), maxX, maxY, min.getZ());
+                if (ret.isFormed() && max.getZ() > min.getZ()) {
+                    ret = validateRegion(ctx, chunkMap, minX, minY, max.getZ(), maxX, maxY, max.getZ());
+                }
+                if (ret.isFormed()) {
+                    ret = validateInterior(ctx, chunkMap, minX, minY, min.getZ() + 1, maxX, maxY, max.getZ() - 1);
+                }
+            }
+        }
+        return ret;
+    }
+
+    private FormationResult validateRegion(FormationProtocol<T> ctx, Long2ObjectMap<IChunk> chunkMap, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    FormationResult ret = validateNode(ctx, chunkMap, new BlockPos(x, y, z));
                     if (!ret.isFormed()) {
                         return ret;
                     }
@@ -64,6 +96,29 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
         return FormationResult.SUCCESS;
     }
 
+    /**
+     * Validates the positions that are not part of the shell. These are always {@link StructureRequirement#INNER}, and as air is always a valid inner block that does
+     * not get tracked, air is skipped without looking at it any further.
+     */
+    private FormationResult validateInterior(FormationProtocol<T> ctx, Long2ObjectMap<IChunk> chunkMap, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        BlockPos.Mutable mutable = new BlockPos.Mutable();
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int y = minY; y <= maxY; y++) {
+                    mutable.setPos(x, y, z);
+                    Optional<BlockState> state = WorldUtils.getBlockState(world, chunkMap, mutable);
+                    if (!state.isPresent() || !state.get().isAir(world, mutable)) {
+                        FormationResult ret = validateNode(ctx, chunkMap, mutable.toImmutable());
+                        if (!ret.isFormed()) {
+                            return ret;
+                        }
+                    }
+                }
+            }
+        }
+        return FormationResult.SUCCESS;
+    }
+
     protected FormationResult validateNode(FormationProtocol<T> ctx, Long2ObjectMap<IChunk> chunkMap, BlockPos pos) {
         StructureRequirement requirement = getStructureRequirement(pos);
         Optional<BlockState> optionalState = WorldUtils.getBlockState(world, chunkMap, pos);
@@ -259,6 +259,20 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
         return false;
     }
 
+    /**
+     * Checks if a change to the block at the given position, which is {@link #isPositionInsideBounds(Structure, BlockPos) inside the bounds} of this multiblock, means
+     * the structure has to be validated again.
+     *
+     * @implNote Positions that are not inner nodes were air when the multiblock formed, so they only matter if they are not air anymore. Inner nodes only matter if they
+     * got broken, see {@link #innerNodes} for the caveats of this. This only filters which interior changes trigger revalidation, changes to the shell are handled by the
+     * structure's nodes being added or removed. Either way, when the structure needs revalidating it gets formed again by a full {@link FormationProtocol}, there is no
+     * revalidation of just the part that changed.
+     */
+    public boolean needsRevalidation(@Nonnull World world, @Nonnull BlockPos pos) {
+        boolean isAir = world.isAirBlock(pos);
+        return innerNodes.contains(pos) == isAir;
+    }
+
     @Nonnull
     @Override
     public List<IInventorySlot> getInventorySlots(@Nullable Direction side) {
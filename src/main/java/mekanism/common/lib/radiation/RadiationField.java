@@ -0,0 +1,124 @@
+package mekanism.common.lib.radiation;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import mekanism.api.Coord4D;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.lib.math.voxel.Chunk3D;
+
+/**
+ * Cache of the radiation levels caused by radiation sources, so that the exposure of an entity can be looked up instead of being computed from every nearby source.
+ * Levels are stored per chunk section in cubic cells, and each cell holds the level at its center. Cells are computed the first time they are looked up, and chunks
+ * that no source can reach don't store any cells.
+ *
+ * @implNote As all sources decay at the same rate, decaying the sources is applied to the cached levels as a single shared multiplier rather than invalidating them.
+ * Adding, increasing or removing a source invalidates the chunks it can reach.
+ */
+class RadiationField {
+
+    private static final int SECTIONS = 16;
+    //Once the shared multiplier gets this small, start over rather than risk losing precision
+    private static final double MIN_SCALE = 1E-100;
+    private static final double[][] NO_SOURCES = new double[0][];
+
+    private final Map<Chunk3D, double[][]> chunks = new Object2ObjectOpenHashMap<>();
+    private final ToDoubleFunction<Coord4D> levelCalculator;
+    private final Predicate<Chunk3D> hasSourcesInRange;
+    //Size of a cell in blocks, and the number of cells along each axis of a section
+    private int cellSize;
+    private int cellsPerAxis;
+    //Multiplier to apply to stored levels to get the current level
+    private double scale = 1;
+
+    /**
+     * @param levelCalculator   Calculates the level caused by radiation sources at a position.
+     * @param hasSourcesInRange Checks if there are any radiation sources close enough to a chunk to affect the level in it.
+     */
+    RadiationField(ToDoubleFunction<Coord4D> levelCalculator, Predicate<Chunk3D> hasSourcesInRange) {
+        this.levelCalculator = levelCalculator;
+        this.hasSourcesInRange = hasSourcesInRange;
+    }
+
+    /**
+     * Gets the level caused by radiation sources at the center of the cell containing the given position.
+     */
+    double getLevel(Coord4D coord) {
+        int y = coord.getY();
+        if (y < 0 || y >= SECTIONS * 16) {
+            //Outside the area we cache, just calculate it directly
+            return levelCalculator.applyAsDouble(coord);
+        }
+        int resolution = MekanismConfig.general.radiationFieldResolution.get();
+        if (resolution != cellSize) {
+            clear();
+            cellSize = resolution;
+            cellsPerAxis = (16 + resolution - 1) / resolution;
+        }
+        double[][] sections = chunks.computeIfAbsent(new Chunk3D(coord), chunk -> hasSourcesInRange.test(chunk) ? new double[SECTIONS][] : NO_SOURCES);
+        if (sections == NO_SOURCES) {
+            return 0;
+        }
+        double[] cells = sections[y >> 4];
+        if (cells == null) {
+            cells = new double[cellsPerAxis * cellsPerAxis * cellsPerAxis];
+            Arrays.fill(cells, Double.NaN);
+            sections[y >> 4] = cells;
+        }
+        int cellX = (coord.getX() & 15) / cellSize;
+        int cellY = (y & 15) / cellSize;
+        int cellZ = (coord.getZ() & 15) / cellSize;
+        int index = (cellY * cellsPerAxis + cellZ) * cellsPerAxis + cellX;
+        double stored = cells[index];
+        if (Double.isNaN(stored)) {
+            Coord4D center = new Coord4D(getCenter(coord.getX(), cellX), getCenter(y, cellY), getCenter(coord.getZ(), cellZ), coord.dimension);
+            stored = levelCalculator.applyAsDouble(center) / scale;
+            cells[index] = stored;
+        }
+        return stored * scale;
+    }
+
+    private int getCenter(int blockCoord, int cell) {
+        int start = cell * cellSize;
+        //Cells at the edge of a section may be smaller if the cell size does not evenly divide the section size
+        return (blockCoord & ~15) + start + Math.min(cellSize, 16 - start) / 2;
+    }
+
+    /**
+     * Invalidates the cached levels of the chunks within the given radius of the given chunk.
+     */
+    void invalidate(Chunk3D chunk, int radius) {
+        if (chunks.isEmpty()) {
+            return;
+        }
+        for (int x = chunk.x - radius; x <= chunk.x + radius; x++) {
+            for (int z = chunk.z - radius; z <= chunk.z + radius; z++) {
+                chunks.remove(new Chunk3D(x, z, chunk.dimension));
+            }
+        }
+    }
+
+    /**
+     * Forgets the cached levels of the given chunk, for example because it got unloaded.
+     */
+    void remove(Chunk3D chunk) {
+        chunks.remove(chunk);
+    }
+
+    /**
+     * Applies a decay of all radiation sources by the given rate to the cached levels.
+     */
+    void decay(double rate) {
+        scale *= rate;
+        if (scale < MIN_SCALE) {
+            clear();
+        }
+    }
+
+    void clear() {
+        chunks.clear();
+        scale = 1;
+    }
+}
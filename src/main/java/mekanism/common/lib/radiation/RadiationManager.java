@@ -7,7 +7,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
-import java.util.Set;
 import java.util.UUID;
 import java.util.function.IntSupplier;
 import javax.annotation.Nonnull;
@@ -38,13 +37,16 @@ import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.storage.DimensionSavedDataManager;
 import net.minecraft.world.storage.WorldSavedData;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.event.entity.living.LivingEvent.LivingUpdateEvent;
+import net.minecraftforge.event.world.ChunkEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.server.ServerLifecycleHooks;
 
@@ -76,6 +78,9 @@ public class RadiationManager {
     private static final String DATA_HANDLER_NAME = "radiation_manager";
     private static final IntSupplier MAX_RANGE = () -> MekanismConfig.general.radiationChunkCheckRadius.get() * 16;
     private static final Random RAND = new Random();
+    //How often in ticks each entity gets processed by the radiation pass, and how often entities that aren't players get exposed to the radiation around them
+    private static final int PASS_INTERVAL = 20;
+    private static final int MOB_EXPOSURE_INTERVAL = 20 * PASS_INTERVAL;
 
     public static final double BASELINE = 0.0000001; // 100 nSv/h
     public static final double MIN_MAGNITUDE = 0.00001; // 10 uSv/h
@@ -84,6 +89,11 @@ public class RadiationManager {
 
     private final Map<Chunk3D, Map<Coord4D, RadiationSource>> radiationMap = new Object2ObjectOpenHashMap<>();
     private final Map<ResourceLocation, List<Meltdown>> meltdowns = new Object2ObjectOpenHashMap<>();
+    //Entities to process in this tick's radiation pass of each world, and the areas that are radiating entities this tick
+    private final Map<ResourceLocation, List<LivingEntity>> pendingEntities = new Object2ObjectOpenHashMap<>();
+    private final Map<ResourceLocation, List<RadiationArea>> radiatingAreas = new Object2ObjectOpenHashMap<>();
+
+    private final RadiationField field = new RadiationField(this::getSourceLevel, this::hasSourcesInRange);
 
     private final Map<UUID, RadiationScale> playerExposureMap = new Object2ObjectOpenHashMap<>();
 
@@ -96,8 +106,12 @@ public class RadiationManager {
     @Nullable
     private RadiationDataHandler dataHandler;
 
+    /**
+     * Get the radiation level (in sV/h) an entity is exposed to. This is looked up from the cached radiation field, so it may be slightly less accurate than {@link
+     * #getRadiationLevel(Coord4D)} depending on the configured field resolution.
+     */
     public double getRadiationLevel(Entity entity) {
-        return getRadiationLevel(new Coord4D(entity));
+        return BASELINE + field.getLevel(new Coord4D(entity));
     }
 
     /**
@@ -108,24 +122,51 @@ public class RadiationManager {
      * @return radiation level (in sV)
      */
     public double getRadiationLevel(Coord4D coord) {
-        Set<Chunk3D> checkChunks = new Chunk3D(coord).expand(MekanismConfig.general.radiationChunkCheckRadius.get());
-        double level = BASELINE;
-
-        for (Chunk3D chunk : checkChunks) {
-            if (radiationMap.containsKey(chunk)) {
-                for (RadiationSource src : radiationMap.get(chunk).values()) {
-                    // we only compute exposure when within the MAX_RANGE bounds
-                    if (src.getPos().distanceTo(coord) <= MAX_RANGE.getAsInt()) {
-                        double add = computeExposure(coord, src);
-                        level += add;
+        return BASELINE + getSourceLevel(coord);
+    }
+
+    /**
+     * Gets the radiation level (in sV/h) at a certain location caused by radiation sources, not including the baseline level.
+     */
+    private double getSourceLevel(Coord4D coord) {
+        int radius = MekanismConfig.general.radiationChunkCheckRadius.get();
+        int maxRange = MAX_RANGE.getAsInt();
+        int chunkX = coord.getX() >> 4;
+        int chunkZ = coord.getZ() >> 4;
+        double level = 0;
+        for (int x = chunkX - radius; x <= chunkX + radius; x++) {
+            for (int z = chunkZ - radius; z <= chunkZ + radius; z++) {
+                Map<Coord4D, RadiationSource> sources = radiationMap.get(new Chunk3D(x, z, coord.dimension));
+                if (sources != null) {
+                    for (RadiationSource src : sources.values()) {
+                        // we only compute exposure when within the MAX_RANGE bounds
+                        if (src.getPos().distanceTo(coord) <= maxRange) {
+                            level += computeExposure(coord, src);
+                        }
                     }
                 }
             }
         }
-
         return level;
     }
 
+    private boolean hasSourcesInRange(Chunk3D chunk) {
+        int radius = MekanismConfig.general.radiationChunkCheckRadius.get();
+        for (int x = chunk.x - radius; x <= chunk.x + radius; x++) {
+            for (int z = chunk.z - radius; z <= chunk.z + radius; z++) {
+                Map<Coord4D, RadiationSource> sources = radiationMap.get(new Chunk3D(x, z, chunk.dimension));
+                if (sources != null && !sources.isEmpty()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void invalidateField(Chunk3D chunk) {
+        field.invalidate(chunk, MekanismConfig.general.radiationChunkCheckRadius.get());
+    }
+
     public void radiate(Coord4D coord, double magnitude) {
         if (!MekanismConfig.general.radiationEnabled.get()) {
             return;
@@ -140,8 +181,9 @@ public class RadiationManager {
             }
         }
         if (!found) {
-            radiationMap.computeIfAbsent(new Chunk3D(coord), c -> new Object2ObjectOpenHashMap<>()).put(coord, new RadiationSource(coord, magnitude));
+            radiationMap.computeIfAbsent(chunk, c -> new Object2ObjectOpenHashMap<>()).put(coord, new RadiationSource(coord, magnitude));
         }
+        invalidateField(chunk);
     }
 
     public void radiate(LivingEntity entity, double magnitude) {
@@ -153,16 +195,30 @@ public class RadiationManager {
         }
     }
 
+    /**
+     * Radiates living entities in the given area by the given magnitude (in Sv/s). This should be called every tick that the area is radioactive, entities in the area
+     * get radiated by it whenever the radiation pass processes them.
+     */
+    public void radiateArea(World world, AxisAlignedBB area, double magnitude) {
+        if (MekanismConfig.general.radiationEnabled.get()) {
+            radiatingAreas.computeIfAbsent(world.getDimensionKey().getLocation(), id -> new ArrayList<>()).add(new RadiationArea(area, magnitude));
+        }
+    }
+
     public void createMeltdown(World world, BlockPos minPos, BlockPos maxPos, double magnitude, double chance) {
         meltdowns.computeIfAbsent(world.getDimensionKey().getLocation(), id -> new ArrayList<>()).add(new Meltdown(world, minPos, maxPos, magnitude, chance));
     }
 
     public void clearSources() {
         radiationMap.clear();
+        field.clear();
     }
 
     private double computeExposure(Coord4D coord, RadiationSource source) {
-        return source.getMagnitude() / Math.max(1, Math.pow(coord.distanceTo(source.getPos()), 2));
+        int subX = coord.getX() - source.getPos().getX();
+        int subY = coord.getY() - source.getPos().getY();
+        int subZ = coord.getZ() - source.getPos().getZ();
+        return source.getMagnitude() / Math.max(1, subX * subX + subY * subY + subZ * subZ);
     }
 
     private double getRadiationResistance(LivingEntity entity) {
@@ -200,35 +256,74 @@ public class RadiationManager {
     }
 
     public void tickServer(ServerPlayerEntity player) {
-        updateEntityRadiation(player);
-    }
-
-    public void updateEntityRadiation(LivingEntity entity) {
         // terminate early if we're disabled
         if (!MekanismConfig.general.radiationEnabled.get()) {
             return;
         }
-        LazyOptional<IRadiationEntity> radiationCap = entity.getCapability(Capabilities.RADIATION_ENTITY_CAPABILITY);
-        // each tick, there is a 1/20 chance we will apply radiation to each player
-        // this helps distribute the CPU load across ticks, and makes exposure slightly inconsistent
-        if (entity.world.getRandom().nextInt(20) == 0) {
-            double magnitude = getRadiationLevel(new Coord4D(entity));
-            if (magnitude > BASELINE && (!(entity instanceof PlayerEntity) || MekanismUtils.isPlayingMode((PlayerEntity) entity))) {
-                // apply radiation to the player
-                radiate(entity, magnitude / 3_600D); // convert to Sv/s
+        queueForPass(player);
+        // update the radiation capability (decay, sync, effects)
+        player.getCapability(Capabilities.RADIATION_ENTITY_CAPABILITY).ifPresent(c -> c.update(player));
+    }
+
+    private void queueForPass(LivingEntity entity) {
+        // rather than rolling for each entity, spread them evenly across ticks so that the amount of work done each tick is bounded
+        if ((entity.world.getGameTime() + entity.getEntityId()) % PASS_INTERVAL == 0) {
+            pendingEntities.computeIfAbsent(entity.world.getDimensionKey().getLocation(), id -> new ArrayList<>()).add(entity);
+        }
+    }
+
+    /**
+     * Processes the entities of the given world that are due this tick, exposing them to the radiation around them and to any radiating areas they are in.
+     */
+    private void runEntityPass(World world, ResourceLocation dimension) {
+        List<LivingEntity> entities = pendingEntities.remove(dimension);
+        List<RadiationArea> areas = radiatingAreas.remove(dimension);
+        if (entities == null) {
+            return;
+        }
+        long time = world.getGameTime();
+        for (LivingEntity entity : entities) {
+            if (!entity.isAlive()) {
+                continue;
             }
-            radiationCap.ifPresent(IRadiationEntity::decay);
+            if (areas != null) {
+                double areaMagnitude = 0;
+                for (RadiationArea area : areas) {
+                    if (area.bounds.intersects(entity.getBoundingBox())) {
+                        areaMagnitude += area.magnitude;
+                    }
+                }
+                if (areaMagnitude > 0) {
+                    radiate(entity, areaMagnitude);
+                }
+            }
+            LazyOptional<IRadiationEntity> radiationCap = entity.getCapability(Capabilities.RADIATION_ENTITY_CAPABILITY);
             if (entity instanceof ServerPlayerEntity) {
                 ServerPlayerEntity player = (ServerPlayerEntity) entity;
+                double magnitude = expose(player, radiationCap);
                 RadiationScale scale = RadiationScale.get(magnitude);
                 if (playerExposureMap.get(player.getUniqueID()) != scale) {
                     playerExposureMap.put(player.getUniqueID(), scale);
                     Mekanism.packetHandler.sendTo(PacketRadiationData.create(scale), player);
                 }
+            } else {
+                // other entities get exposed less often, but get their capability updated each pass as players update theirs every tick
+                if ((time + entity.getEntityId()) % MOB_EXPOSURE_INTERVAL == 0) {
+                    expose(entity, radiationCap);
+                }
+                radiationCap.ifPresent(c -> c.update(entity));
             }
         }
-        // update the radiation capability (decay, sync, effects)
-        radiationCap.ifPresent(c -> c.update(entity));
+    }
+
+    private double expose(LivingEntity entity, LazyOptional<IRadiationEntity> radiationCap) {
+        double magnitude = getRadiationLevel(entity);
+        if (magnitude > BASELINE && (!(entity instanceof PlayerEntity) || MekanismUtils.isPlayingMode((PlayerEntity) entity))) {
+            // apply radiation to the entity
+            radiate(entity, magnitude / 3_600D); // convert to Sv/s
+        }
+        radiationCap.ifPresent(IRadiationEntity::decay);
+        return magnitude;
     }
 
     public void tickServerWorld(World world) {
@@ -245,6 +340,7 @@ public class RadiationManager {
         if (meltdowns.containsKey(dimension)) {
             meltdowns.get(dimension).removeIf(Meltdown::update);
         }
+        runEntityPass(world, dimension);
     }
 
     public void tickServer() {
@@ -254,16 +350,22 @@ public class RadiationManager {
         }
         // each tick, there's a 1/20 chance we'll decay radiation sources (averages to 1 decay operation per second)
         if (RAND.nextInt(20) == 0) {
-            for (Map<Coord4D, RadiationSource> set : radiationMap.values()) {
-                for (Iterator<Map.Entry<Coord4D, RadiationSource>> iter = set.entrySet().iterator(); iter.hasNext(); ) {
+            field.decay(MekanismConfig.general.radiationSourceDecayRate.get());
+            for (Map.Entry<Chunk3D, Map<Coord4D, RadiationSource>> chunkEntry : radiationMap.entrySet()) {
+                boolean removed = false;
+                for (Iterator<Map.Entry<Coord4D, RadiationSource>> iter = chunkEntry.getValue().entrySet().iterator(); iter.hasNext(); ) {
                     Map.Entry<Coord4D, RadiationSource> entry = iter.next();
                     if (entry.getValue().decay()) {
                         // remove if source gets too low
                         iter.remove();
+                        removed = true;
                     }
 
                     dataHandler.markDirty();
                 }
+                if (removed) {
+                    invalidateField(chunkEntry.getKey());
+                }
             }
         }
     }
@@ -287,6 +389,8 @@ public class RadiationManager {
         clearSources();
         playerExposureMap.clear();
         meltdowns.clear();
+        pendingEntities.clear();
+        radiatingAreas.clear();
         dataHandler = null;
         loaded = false;
     }
@@ -299,11 +403,19 @@ public class RadiationManager {
         playerExposureMap.remove(uuid);
     }
 
+    @SubscribeEvent
+    public void onChunkUnload(ChunkEvent.Unload event) {
+        if (event.getWorld() instanceof World && !event.getWorld().isRemote()) {
+            ChunkPos pos = event.getChunk().getPos();
+            field.remove(new Chunk3D(pos.x, pos.z, ((World) event.getWorld()).getDimensionKey()));
+        }
+    }
+
     @SubscribeEvent
     public void onLivingUpdate(LivingUpdateEvent event) {
-        World world = event.getEntityLiving().getEntityWorld();
-        if (!world.isRemote() && !(event.getEntityLiving() instanceof PlayerEntity) && world.getRandom().nextInt() % 20 == 0) {
-            updateEntityRadiation(event.getEntityLiving());
+        LivingEntity entity = event.getEntityLiving();
+        if (!entity.getEntityWorld().isRemote() && !(entity instanceof PlayerEntity) && MekanismConfig.general.radiationEnabled.get()) {
+            queueForPass(entity);
         }
     }
 
@@ -384,6 +496,17 @@ public class RadiationManager {
         }
     }
 
+    private static class RadiationArea {
+
+        private final AxisAlignedBB bounds;
+        private final double magnitude;
+
+        private RadiationArea(AxisAlignedBB bounds, double magnitude) {
+            this.bounds = bounds;
+            this.magnitude = magnitude;
+        }
+    }
+
     public static class RadiationDataHandler extends WorldSavedData {
 
         public RadiationManager manager;
@@ -404,6 +527,7 @@ public class RadiationManager {
                     Chunk3D chunk = new Chunk3D(source.getPos());
                     manager.radiationMap.computeIfAbsent(chunk, c -> new Object2ObjectOpenHashMap<>()).put(source.getPos(), source);
                 }
+                manager.field.clear();
             }
         }
 
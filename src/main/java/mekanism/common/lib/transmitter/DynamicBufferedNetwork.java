@@ -94,6 +94,20 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
         updateSaveShares(triggerTransmitter);
     }
 
+    @Override
+    protected void transmittersRemoved(List<TRANSMITTER> removed) {
+        super.transmittersRemoved(removed);
+        //The transmitters we lost took their share of the buffer with them, so update our capacity to match what is left
+        updateCapacity();
+        clampBuffer();
+        chunks.clear();
+        for (TRANSMITTER transmitter : transmitters) {
+            chunks.add(WorldUtils.getChunkPosAsLong(transmitter.getTilePos()));
+        }
+        needsUpdate = true;
+        packetRange = null;
+    }
+
     protected abstract void forceScaleUpdate();
 
     @Nonnull
@@ -1,8 +1,15 @@
 package mekanism.common.lib.transmitter;
 
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -11,7 +18,9 @@ import javax.annotation.Nullable;
 import mekanism.api.text.IHasTextComponent;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.lib.transmitter.acceptor.NetworkAcceptorCache;
+import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.EnumUtils;
+import mekanism.common.util.WorldUtils;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -89,6 +98,11 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     }
 
     public void invalidate(@Nullable TRANSMITTER triggerTransmitter) {
+        if (triggerTransmitter != null && transmitters.size() > 1 && transmittersToAdd.isEmpty() && !isRemote()) {
+            //We know what changed, so only split off the parts of the network that are no longer connected instead of rebuilding the entire network
+            split(triggerTransmitter);
+            return;
+        }
         if (transmitters.size() == 1 && triggerTransmitter != null) {
             //We're destroying the last transmitter in the network
             onLastTransmitterRemoved(triggerTransmitter);
@@ -108,6 +122,175 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         deregister();
     }
 
+    /**
+     * Removes the trigger transmitter and any other invalid transmitters from this network, and then re-orphans any fragments of the network that are no longer
+     * connected to the rest of it. The largest fragment keeps this network object along with its buffer and acceptors. If the trigger transmitter is still valid its
+     * connections changed, so it gets re-orphaned as well to allow it to join whatever network it is now connected to.
+     */
+    private void split(@Nonnull TRANSMITTER triggerTransmitter) {
+        List<TRANSMITTER> removed = new ArrayList<>();
+        for (TRANSMITTER transmitter : transmitters) {
+            if (!transmitter.isValid()) {
+                removed.add(transmitter);
+            }
+        }
+        removeInvalid(triggerTransmitter);
+        if (triggerTransmitter.isValid()) {
+            if (transmitters.contains(triggerTransmitter)) {
+                detachTransmitter(triggerTransmitter);
+                removed.add(triggerTransmitter);
+            }
+        } else if (!removed.contains(triggerTransmitter)) {
+            removed.add(triggerTransmitter);
+        }
+        for (TRANSMITTER transmitter : removed) {
+            acceptorCache.removeTransmitter(transmitter);
+        }
+        if (transmitters.isEmpty()) {
+            deregister();
+            return;
+        }
+        //Any remaining transmitters next to one we removed may have been disconnected from each other
+        Set<TRANSMITTER> seeds = new ObjectLinkedOpenHashSet<>();
+        for (TRANSMITTER transmitter : removed) {
+            BlockPos pos = transmitter.getTilePos();
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                TileEntityTransmitter tile = WorldUtils.getTileEntity(TileEntityTransmitter.class, world, pos.offset(side));
+                if (tile != null && transmitters.contains(tile.getTransmitter())) {
+                    seeds.add((TRANSMITTER) tile.getTransmitter());
+                }
+            }
+        }
+        if (seeds.size() > 1) {
+            for (TRANSMITTER transmitter : findDisconnectedFragments(seeds)) {
+                detachTransmitter(transmitter);
+                acceptorCache.removeTransmitter(transmitter);
+                removed.add(transmitter);
+            }
+        }
+        transmittersRemoved(removed);
+    }
+
+    /**
+     * Runs a breadth first search from each seed at the same time, one step per search per round, merging searches that meet. As soon as at most one group of
+     * searches is still running, every other group has explored its entire fragment, so this only visits the smaller fragments (plus the same amount of the largest
+     * one) rather than the entire network.
+     *
+     * @return All transmitters in the fragments that should be split off from this network.
+     */
+    private List<TRANSMITTER> findDisconnectedFragments(Set<TRANSMITTER> seeds) {
+        int searchCount = seeds.size();
+        List<Deque<TRANSMITTER>> queues = new ArrayList<>(searchCount);
+        List<List<TRANSMITTER>> visited = new ArrayList<>(searchCount);
+        int[] parents = new int[searchCount];
+        Object2IntMap<TRANSMITTER> owners = new Object2IntOpenHashMap<>();
+        owners.defaultReturnValue(-1);
+        for (TRANSMITTER seed : seeds) {
+            int search = queues.size();
+            parents[search] = search;
+            owners.put(seed, search);
+            Deque<TRANSMITTER> queue = new ArrayDeque<>();
+            queue.add(seed);
+            queues.add(queue);
+            List<TRANSMITTER> searchVisited = new ArrayList<>();
+            searchVisited.add(seed);
+            visited.add(searchVisited);
+        }
+        boolean[] running = new boolean[searchCount];
+        while (true) {
+            for (int search = 0; search < searchCount; search++) {
+                TRANSMITTER transmitter = queues.get(search).poll();
+                if (transmitter != null) {
+                    BlockPos pos = transmitter.getTilePos();
+                    for (Direction side : EnumUtils.DIRECTIONS) {
+                        if (Transmitter.connectionMapContainsSide(transmitter.currentTransmitterConnections, side)) {
+                            TileEntityTransmitter tile = WorldUtils.getTileEntity(TileEntityTransmitter.class, world, pos.offset(side));
+                            if (tile != null && transmitters.contains(tile.getTransmitter())) {
+                                TRANSMITTER adjacent = (TRANSMITTER) tile.getTransmitter();
+                                int owner = owners.getInt(adjacent);
+                                if (owner == -1) {
+                                    owners.put(adjacent, search);
+                                    queues.get(search).add(adjacent);
+                                    visited.get(search).add(adjacent);
+                                } else {
+                                    //Our search met another one, so we are part of the same fragment
+                                    parents[findSearchRoot(parents, owner)] = findSearchRoot(parents, search);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+            //Check which fragments are still being explored
+            Arrays.fill(running, false);
+            int roots = 0;
+            int runningRoots = 0;
+            for (int search = 0; search < searchCount; search++) {
+                int root = findSearchRoot(parents, search);
+                if (root == search) {
+                    roots++;
+                }
+                if (!queues.get(search).isEmpty() && !running[root]) {
+                    running[root] = true;
+                    runningRoots++;
+                }
+            }
+            if (roots == 1) {
+                //Everything is still connected
+                return Collections.emptyList();
+            } else if (runningRoots <= 1) {
+                break;
+            }
+        }
+        //Keep the fragment that is still being explored as it is the largest, or if all finished the one that has the most transmitters
+        int[] fragmentSizes = new int[searchCount];
+        int kept = -1;
+        for (int search = 0; search < searchCount; search++) {
+            int root = findSearchRoot(parents, search);
+            fragmentSizes[root] += visited.get(search).size();
+            if (running[root]) {
+                kept = root;
+            }
+        }
+        if (kept == -1) {
+            for (int search = 0; search < searchCount; search++) {
+                if (kept == -1 || fragmentSizes[search] > fragmentSizes[kept]) {
+                    kept = search;
+                }
+            }
+        }
+        List<TRANSMITTER> splitOff = new ArrayList<>();
+        for (int search = 0; search < searchCount; search++) {
+            if (findSearchRoot(parents, search) != kept) {
+                splitOff.addAll(visited.get(search));
+            }
+        }
+        return splitOff;
+    }
+
+    private static int findSearchRoot(int[] parents, int search) {
+        while (parents[search] != search) {
+            parents[search] = parents[parents[search]];
+            search = parents[search];
+        }
+        return search;
+    }
+
+    private void detachTransmitter(TRANSMITTER transmitter) {
+        transmitter.takeShare();
+        transmitters.remove(transmitter);
+        transmitter.setTransmitterNetwork(null);
+        TransmitterNetworkRegistry.registerOrphanTransmitter(transmitter);
+    }
+
+    /**
+     * Called after transmitters have been removed from or split off of this network without the network itself being invalidated.
+     *
+     * @param removed The transmitters that are no longer part of this network.
+     */
+    protected void transmittersRemoved(List<TRANSMITTER> removed) {
+    }
+
     protected void onLastTransmitterRemoved(@Nonnull TRANSMITTER triggerTransmitter) {
     }
 
@@ -1,14 +1,16 @@
 package mekanism.common.lib.transmitter;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
-import java.util.Deque;
-import java.util.LinkedList;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import javax.annotation.Nullable;
-import mekanism.api.Coord4D;
 import mekanism.api.MekanismAPI;
 import mekanism.common.Mekanism;
 import mekanism.common.content.network.transmitter.BufferedTransmitter;
@@ -16,6 +18,7 @@ import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.util.EnumUtils;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.util.Direction;
+import net.minecraft.util.RegistryKey;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.world.World;
@@ -31,8 +34,9 @@ public class TransmitterNetworkRegistry {
     private final Set<DynamicNetwork<?, ?, ?>> networks = new ObjectOpenHashSet<>();
     private final Set<DynamicNetwork<?, ?, ?>> networksToChange = new ObjectOpenHashSet<>();
     private final Set<Transmitter<?, ?, ?>> invalidTransmitters = new ObjectOpenHashSet<>();
-    private Map<Coord4D, Transmitter<?, ?, ?>> orphanTransmitters = new Object2ObjectOpenHashMap<>();
-    private final Map<Coord4D, Transmitter<?, ?, ?>> newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
+    //Orphans are stored per dimension keyed by their packed position, so that path finding does not have to allocate a key for every lookup
+    private Map<RegistryKey<World>, Long2ObjectMap<Transmitter<?, ?, ?>>> orphanTransmitters = new Object2ObjectOpenHashMap<>();
+    private Map<RegistryKey<World>, Long2ObjectMap<Transmitter<?, ?, ?>>> newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
     private final Map<UUID, DynamicNetwork<?, ?, ?>> clientNetworks = new Object2ObjectOpenHashMap<>();
 
     public void addClientNetwork(UUID networkID, DynamicNetwork<?, ?, ?> network) {
@@ -74,10 +78,11 @@ public class TransmitterNetworkRegistry {
     }
 
     public static void registerOrphanTransmitter(Transmitter<?, ?, ?> transmitter) {
-        Coord4D coord = Coord4D.get(transmitter.getTransmitterTile());
-        Transmitter<?, ?, ?> previous = getInstance().newOrphanTransmitters.put(coord, transmitter);
+        RegistryKey<World> dimension = transmitter.getTileWorld().getDimensionKey();
+        BlockPos pos = transmitter.getTilePos();
+        Transmitter<?, ?, ?> previous = getInstance().newOrphanTransmitters.computeIfAbsent(dimension, dim -> new Long2ObjectOpenHashMap<>()).put(pos.toLong(), transmitter);
         if (previous != null && previous != transmitter) {
-            Mekanism.logger.error("Different orphan transmitter was already registered at location! {}", coord);
+            Mekanism.logger.error("Different orphan transmitter was already registered at location! {} in {}", pos, dimension.getLocation());
         }
     }
 
@@ -131,24 +136,30 @@ public class TransmitterNetworkRegistry {
     }
 
     private void assignOrphans() {
-        orphanTransmitters = new Object2ObjectOpenHashMap<>(newOrphanTransmitters);
-        newOrphanTransmitters.clear();
+        //Swap the maps rather than copying, any transmitters that get orphaned while we are assigning will then end up in the now empty new orphan map
+        Map<RegistryKey<World>, Long2ObjectMap<Transmitter<?, ?, ?>>> orphans = newOrphanTransmitters;
+        newOrphanTransmitters = orphanTransmitters;
+        orphanTransmitters = orphans;
 
         if (MekanismAPI.debug && !orphanTransmitters.isEmpty()) {
-            Mekanism.logger.info("Dealing with {} orphan Transmitters", orphanTransmitters.size());
+            Mekanism.logger.info("Dealing with {} orphan Transmitters", orphanTransmitters.values().stream().mapToInt(Map::size).sum());
         }
 
-        for (Transmitter<?, ?, ?> orphanTransmitter : orphanTransmitters.values()) {
-            if (orphanTransmitter.isValid() && orphanTransmitter.isOrphan()) {
-                OrphanPathFinder<?, ?, ?> finder;
-                if (orphanTransmitter instanceof BufferedTransmitter) {
-                    finder = new BufferedOrphanPathFinder<>((BufferedTransmitter<?, ?, ?, ?>) orphanTransmitter);
-                } else {
-                    finder = new OrphanPathFinder<>(orphanTransmitter);
+        for (Long2ObjectMap<Transmitter<?, ?, ?>> dimensionOrphans : orphanTransmitters.values()) {
+            //All orphans of a dimension are handled in a single pass, as each path finder claims every orphan it reaches any orphans
+            // we get to after that will have already been assigned and get skipped
+            for (Transmitter<?, ?, ?> orphanTransmitter : dimensionOrphans.values()) {
+                if (orphanTransmitter.isValid() && orphanTransmitter.isOrphan()) {
+                    OrphanPathFinder<?, ?, ?> finder;
+                    if (orphanTransmitter instanceof BufferedTransmitter) {
+                        finder = new BufferedOrphanPathFinder<>((BufferedTransmitter<?, ?, ?, ?>) orphanTransmitter, dimensionOrphans);
+                    } else {
+                        finder = new OrphanPathFinder<>(orphanTransmitter, dimensionOrphans);
+                    }
+                    DynamicNetwork<?, ?, ?> network = getNetworkFromOrphan(finder);
+                    networksToChange.add(network);
+                    network.register();
                 }
-                DynamicNetwork<?, ?, ?> network = getNetworkFromOrphan(finder);
-                networksToChange.add(network);
-                network.register();
             }
         }
 
@@ -209,52 +220,69 @@ public class TransmitterNetworkRegistry {
 
         public final Set<TRANSMITTER> connectedTransmitters = new ObjectOpenHashSet<>();
         public final Set<NETWORK> networksFound = new ObjectOpenHashSet<>();
-        public final Set<BlockPos> iterated = new ObjectOpenHashSet<>();
-        private final Deque<BlockPos> queue = new LinkedList<>();
+        public final LongSet iterated = new LongOpenHashSet();
+        private final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        private final Long2ObjectMap<Transmitter<?, ?, ?>> orphans;
         public final TRANSMITTER startPoint;
         private final World world;
 
-        protected OrphanPathFinder(Transmitter<ACCEPTOR, NETWORK, TRANSMITTER> start) {
+        protected OrphanPathFinder(Transmitter<ACCEPTOR, NETWORK, TRANSMITTER> start, Long2ObjectMap<Transmitter<?, ?, ?>> orphans) {
             startPoint = (TRANSMITTER) start;
             world = startPoint.getTileWorld();
+            this.orphans = orphans;
         }
 
         public void start() {
-            if (queue.peek() != null) {
+            if (!queue.isEmpty()) {
                 Mekanism.logger.error("OrphanPathFinder queue was not empty?!");
                 queue.clear();
             }
-            queue.push(startPoint.getTilePos());
-            while (queue.peek() != null) {
-                iterate(queue.removeFirst());
+            queue.enqueue(startPoint.getTilePos().toLong());
+            while (!queue.isEmpty()) {
+                iterate(queue.dequeueLong());
             }
         }
 
-        public void iterate(BlockPos from) {
+        public void iterate(long from) {
             if (iterated.add(from)) {
-                Coord4D fromCoord = new Coord4D(from, world);
-                if (orphanTransmitters.containsKey(fromCoord)) {
-                    Transmitter<?, ?, ?> transmitter = orphanTransmitters.get(fromCoord);
-                    if (transmitter.isValid() && transmitter.isOrphan()) {
-                        if (connectedTransmitters.isEmpty() || connectedTransmitters.stream().anyMatch(existing -> existing.isValidTransmitter(transmitter))) {
-                            connectedTransmitters.add((TRANSMITTER) transmitter);
-                            transmitter.setOrphan(false);
-                            for (Direction direction : EnumUtils.DIRECTIONS) {
-                                if (!direction.getAxis().isHorizontal() || WorldUtils.isBlockLoaded(world, from.offset(direction))) {
-                                    BlockPos directionPos = transmitter.getAdjacentConnectableTransmitterPos(direction);
-                                    if (directionPos != null && !iterated.contains(directionPos)) {
-                                        queue.addLast(directionPos);
-                                    }
+                Transmitter<?, ?, ?> transmitter = orphans.get(from);
+                if (transmitter == null) {
+                    addNetworkToIterated(BlockPos.fromLong(from));
+                } else if (transmitter.isValid() && transmitter.isOrphan() && isConnectable(transmitter)) {
+                    connectedTransmitters.add((TRANSMITTER) transmitter);
+                    transmitter.setOrphan(false);
+                    BlockPos fromPos = transmitter.getTilePos();
+                    for (Direction direction : EnumUtils.DIRECTIONS) {
+                        if (!direction.getAxis().isHorizontal() || WorldUtils.isBlockLoaded(world, fromPos.offset(direction))) {
+                            BlockPos directionPos = transmitter.getAdjacentConnectableTransmitterPos(direction);
+                            if (directionPos != null) {
+                                long directionLong = directionPos.toLong();
+                                if (!iterated.contains(directionLong)) {
+                                    queue.enqueue(directionLong);
                                 }
                             }
                         }
                     }
-                } else {
-                    addNetworkToIterated(from);
                 }
             }
         }
 
+        private boolean isConnectable(Transmitter<?, ?, ?> transmitter) {
+            if (connectedTransmitters.isEmpty()) {
+                return true;
+            }
+            //Check against the start point first as for most grids every transmitter is compatible with every other one
+            if (startPoint.isValidTransmitter(transmitter)) {
+                return true;
+            }
+            for (TRANSMITTER existing : connectedTransmitters) {
+                if (existing != startPoint && existing.isValidTransmitter(transmitter)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         public void addNetworkToIterated(BlockPos from) {
             //Make sure that there is an external network
             NETWORK net = startPoint.getExternalNetwork(from);
@@ -276,8 +304,8 @@ public class TransmitterNetworkRegistry {
     public class BufferedOrphanPathFinder<ACCEPTOR, NETWORK extends DynamicBufferedNetwork<ACCEPTOR, NETWORK, BUFFER, TRANSMITTER>, BUFFER,
           TRANSMITTER extends BufferedTransmitter<ACCEPTOR, NETWORK, BUFFER, TRANSMITTER>> extends OrphanPathFinder<ACCEPTOR, NETWORK, TRANSMITTER> {
 
-        protected BufferedOrphanPathFinder(BufferedTransmitter<ACCEPTOR, NETWORK, BUFFER, TRANSMITTER> start) {
-            super(start);
+        protected BufferedOrphanPathFinder(BufferedTransmitter<ACCEPTOR, NETWORK, BUFFER, TRANSMITTER> start, Long2ObjectMap<Transmitter<?, ?, ?>> orphans) {
+            super(start, orphans);
         }
 
         @Override
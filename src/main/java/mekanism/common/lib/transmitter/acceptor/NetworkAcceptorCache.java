@@ -8,6 +8,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
+import mekanism.common.util.EnumUtils;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.common.util.LazyOptional;
@@ -16,10 +17,15 @@ public class NetworkAcceptorCache<ACCEPTOR> {
 
     private final Map<BlockPos, Map<Direction, LazyOptional<ACCEPTOR>>> cachedAcceptors = new Object2ObjectOpenHashMap<>();
     private final Map<Transmitter<ACCEPTOR, ?, ?>, Set<Direction>> changedAcceptors = new Object2ObjectOpenHashMap<>();
+    /**
+     * Incremented every time the cached acceptors change so that networks can keep derived data around until it actually becomes stale.
+     */
+    private int version;
 
     public void updateTransmitterOnSide(Transmitter<ACCEPTOR, ?, ?> transmitter, Direction side) {
         LazyOptional<ACCEPTOR> acceptor = transmitter.canConnectToAcceptor(side) ? transmitter.getAcceptor(side) : LazyOptional.empty();
         BlockPos acceptorPos = transmitter.getTilePos().offset(side);
+        version++;
         if (acceptor.isPresent()) {
             cachedAcceptors.computeIfAbsent(acceptorPos, pos -> new EnumMap<>(Direction.class)).put(side.getOpposite(), acceptor);
         } else if (cachedAcceptors.containsKey(acceptorPos)) {
@@ -34,6 +40,7 @@ public class NetworkAcceptorCache<ACCEPTOR> {
     }
 
     public void adoptAcceptors(NetworkAcceptorCache<ACCEPTOR> other) {
+        version++;
         for (Entry<BlockPos, Map<Direction, LazyOptional<ACCEPTOR>>> entry : other.cachedAcceptors.entrySet()) {
             BlockPos pos = entry.getKey();
             if (cachedAcceptors.containsKey(pos)) {
@@ -45,6 +52,24 @@ public class NetworkAcceptorCache<ACCEPTOR> {
         }
     }
 
+    /**
+     * Removes all acceptors that the given transmitter provided, and forgets about any pending acceptor changes for it.
+     */
+    public void removeTransmitter(Transmitter<ACCEPTOR, ?, ?> transmitter) {
+        changedAcceptors.remove(transmitter);
+        BlockPos transmitterPos = transmitter.getTilePos();
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            BlockPos acceptorPos = transmitterPos.offset(side);
+            Map<Direction, LazyOptional<ACCEPTOR>> cached = cachedAcceptors.get(acceptorPos);
+            if (cached != null && cached.remove(side.getOpposite()) != null) {
+                version++;
+                if (cached.isEmpty()) {
+                    cachedAcceptors.remove(acceptorPos);
+                }
+            }
+        }
+    }
+
     public void acceptorChanged(Transmitter<ACCEPTOR, ?, ?> transmitter, Direction side) {
         changedAcceptors.computeIfAbsent(transmitter, t -> EnumSet.noneOf(Direction.class)).add(side);
         TransmitterNetworkRegistry.registerChangedNetwork(transmitter.getTransmitterNetwork());
@@ -72,6 +97,13 @@ public class NetworkAcceptorCache<ACCEPTOR> {
         return cachedAcceptors.entrySet();
     }
 
+    /**
+     * @return A counter that changes whenever the set of cached acceptors changes.
+     */
+    public int getVersion() {
+        return version;
+    }
+
     public int getAcceptorCount() {
         //Count multiple connections to the same position as multiple acceptors
         return cachedAcceptors.values().stream().mapToInt(Map::size).sum();
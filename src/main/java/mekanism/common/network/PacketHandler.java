@@ -1,13 +1,44 @@
 package mekanism.common.network;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.network.PacketUpdateBatch.EncodedUpdate;
 import mekanism.common.network.container.PacketUpdateContainer;
 import mekanism.common.network.container.PacketUpdateContainerBatch;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.event.TickEvent.Phase;
+import net.minecraftforge.event.TickEvent.ServerTickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent.PlayerChangedDimensionEvent;
+import net.minecraftforge.event.world.ChunkWatchEvent;
 import net.minecraftforge.fml.network.simple.SimpleChannel;
+import net.minecraftforge.fml.server.ServerLifecycleHooks;
 
 public class PacketHandler extends BasePacketHandler {
 
     private static final SimpleChannel netHandler = createChannel(Mekanism.rl(Mekanism.MODID));
+    //How many flushes deferrable updates can be held back for before they get sent regardless of the budget
+    private static final int MAX_DEFERRED_FLUSHES = 20;
+    //Maximum size in bytes of the updates sent in a single batch, kept well below the limit vanilla has for the size of custom payloads sent to the client
+    private static final int MAX_BATCH_BYTES = 1 << 19;
+
+    //Tile and transporter updates queued for each player, that get sent as a single batch once all the worlds have ticked
+    private final Map<UUID, QueuedUpdates> queuedUpdates = new Object2ObjectOpenHashMap<>();
+    private int flushes;
 
     @Override
     protected SimpleChannel getChannel() {
@@ -41,6 +72,7 @@ public class PacketHandler extends BasePacketHandler {
         registerClientToServer(PacketGuiItemDataRequest.class, PacketGuiItemDataRequest::encode, PacketGuiItemDataRequest::decode, PacketGuiItemDataRequest::handle);
         registerClientToServer(PacketQIOSetColor.class, PacketQIOSetColor::encode, PacketQIOSetColor::decode, PacketQIOSetColor::handle);
         registerClientToServer(PacketTeleporterSetColor.class, PacketTeleporterSetColor::encode, PacketTeleporterSetColor::decode, PacketTeleporterSetColor::handle);
+        registerClientToServer(PacketRequestTileUpdate.class, PacketRequestTileUpdate::encode, PacketRequestTileUpdate::decode, PacketRequestTileUpdate::handle);
 
         //Server to client messages
         registerServerToClient(PacketTransmitterUpdate.class, PacketTransmitterUpdate::encode, PacketTransmitterUpdate::decode, PacketTransmitterUpdate::handle);
@@ -49,6 +81,7 @@ public class PacketHandler extends BasePacketHandler {
         registerServerToClient(PacketLaserHitBlock.class, PacketLaserHitBlock::encode, PacketLaserHitBlock::decode, PacketLaserHitBlock::handle);
         registerServerToClient(PacketLightningRender.class, PacketLightningRender::encode, PacketLightningRender::decode, PacketLightningRender::handle);
         registerServerToClient(PacketUpdateTile.class, PacketUpdateTile::encode, PacketUpdateTile::decode, PacketUpdateTile::handle);
+        registerServerToClient(PacketUpdateBatch.class, PacketUpdateBatch::encode, PacketUpdateBatch::decode, PacketUpdateBatch::handle);
         registerServerToClient(PacketPlayerData.class, PacketPlayerData::encode, PacketPlayerData::decode, PacketPlayerData::handle);
         registerServerToClient(PacketClearRecipeCache.class, PacketClearRecipeCache::encode, PacketClearRecipeCache::decode, PacketClearRecipeCache::handle);
         registerServerToClient(PacketSecurityUpdate.class, PacketSecurityUpdate::encode, PacketSecurityUpdate::decode, PacketSecurityUpdate::handle);
@@ -65,4 +98,154 @@ public class PacketHandler extends BasePacketHandler {
         //Container sync packet that batches multiple changes into one packet
         registerServerToClient(PacketUpdateContainerBatch.class, PacketUpdateContainerBatch::encode, PacketUpdateContainerBatch::decode, PacketUpdateContainerBatch::handle);
     }
-}
\ No newline at end of file
+
+    /**
+     * Queues an update to be sent to the given player at the end of the tick, along with all the other updates queued for the player.
+     */
+    public void queueUpdate(EncodedUpdate update, ServerPlayerEntity player) {
+        queuedUpdates.computeIfAbsent(player.getUniqueID(), uuid -> new QueuedUpdates()).add(update, flushes);
+    }
+
+    /**
+     * Queues an update to be sent at the end of the tick to all players tracking the chunk the given tile is in.
+     */
+    public void queueToAllTracking(EncodedUpdate update, TileEntity tile) {
+        World world = tile.getWorld();
+        BlockPos pos = tile.getPos();
+        if (world instanceof ServerWorld) {
+            ((ServerWorld) world).getChunkProvider().chunkManager.getTrackingPlayers(new ChunkPos(pos), false).forEach(p -> queueUpdate(update, p));
+        } else {
+            sendToAllTracking(new PacketUpdateBatch(Collections.singletonList(update)), world, pos);
+        }
+    }
+
+    public void flushQueuedUpdates(ServerTickEvent event) {
+        if (event.phase == Phase.END && event.side.isServer() && !queuedUpdates.isEmpty()) {
+            MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+            int budget = MekanismConfig.general.maxUpdatesPerTick.get();
+            for (Iterator<Map.Entry<UUID, QueuedUpdates>> iter = queuedUpdates.entrySet().iterator(); iter.hasNext(); ) {
+                Map.Entry<UUID, QueuedUpdates> entry = iter.next();
+                //Look the player up rather than holding onto them so that we don't send updates to players who logged out or to stale player instances
+                ServerPlayerEntity player = server == null ? null : server.getPlayerList().getPlayerByUUID(entry.getKey());
+                if (player == null) {
+                    iter.remove();
+                    continue;
+                }
+                QueuedUpdates queued = entry.getValue();
+                //If the player's connection is still working through what we sent before, hold off on sending updates that can wait
+                boolean congested = !player.connection.netManager.channel().isWritable();
+                sendBatches(queued.poll(budget, flushes, congested), player);
+                if (queued.isEmpty()) {
+                    iter.remove();
+                }
+            }
+            flushes++;
+        }
+    }
+
+    /**
+     * Sends the given updates to the player, split into as many batches as needed to keep each batch under {@link #MAX_BATCH_BYTES}.
+     */
+    private void sendBatches(List<EncodedUpdate> updates, ServerPlayerEntity player) {
+        int start = 0;
+        int bytes = 0;
+        for (int i = 0; i < updates.size(); i++) {
+            int size = updates.get(i).getEncodedSize();
+            if (bytes + size > MAX_BATCH_BYTES && i > start) {
+                sendTo(new PacketUpdateBatch(new ArrayList<>(updates.subList(start, i))), player);
+                start = i;
+                bytes = 0;
+            }
+            bytes += size;
+        }
+        if (start < updates.size()) {
+            sendTo(new PacketUpdateBatch(start == 0 ? updates : new ArrayList<>(updates.subList(start, updates.size()))), player);
+        }
+    }
+
+    public void onChunkUnwatch(ChunkWatchEvent.UnWatch event) {
+        //The client unloads the chunk, so don't bother sending it any updates for it
+        QueuedUpdates queued = queuedUpdates.get(event.getPlayer().getUniqueID());
+        if (queued != null) {
+            queued.chunks.remove(event.getPos().asLong());
+        }
+    }
+
+    public void onPlayerChangedDimension(PlayerChangedDimensionEvent event) {
+        //Updates for the previous dimension should not get applied to whatever is at the same position in the new dimension
+        queuedUpdates.remove(event.getPlayer().getUniqueID());
+    }
+
+    public void reset() {
+        queuedUpdates.clear();
+        flushes = 0;
+    }
+
+    private static class QueuedUpdates {
+
+        //Chunk -> updates for positions in that chunk, in the order they were queued
+        private final Long2ObjectMap<List<QueuedUpdate>> chunks = new Long2ObjectLinkedOpenHashMap<>();
+
+        private void add(EncodedUpdate update, int flush) {
+            BlockPos pos = update.getPos();
+            chunks.computeIfAbsent(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), chunk -> new ArrayList<>()).add(new QueuedUpdate(update, flush));
+        }
+
+        private boolean isEmpty() {
+            return chunks.isEmpty();
+        }
+
+        /**
+         * Removes and returns the updates to send now. Updates that can't be deferred are always sent, and count against the budget first, deferrable updates are sent
+         * in the order they were queued while there is budget left and the connection is not congested, or if they have been deferred for too long.
+         */
+        private List<EncodedUpdate> poll(int budget, int flush, boolean congested) {
+            int remaining = Integer.MAX_VALUE;
+            if (congested) {
+                remaining = 0;
+            } else if (budget > 0) {
+                remaining = budget;
+                for (List<QueuedUpdate> updates : chunks.values()) {
+                    for (QueuedUpdate queued : updates) {
+                        if (!queued.update.isDeferrable()) {
+                            remaining--;
+                        }
+                    }
+                }
+            }
+            List<EncodedUpdate> batch = new ArrayList<>();
+            for (Iterator<List<QueuedUpdate>> iter = chunks.values().iterator(); iter.hasNext(); ) {
+                List<QueuedUpdate> updates = iter.next();
+                int kept = 0;
+                for (QueuedUpdate queued : updates) {
+                    if (!queued.update.isDeferrable()) {
+                        batch.add(queued.update);
+                    } else if (remaining > 0 || flush - queued.queuedFlush >= MAX_DEFERRED_FLUSHES) {
+                        batch.add(queued.update);
+                        remaining--;
+                    } else {
+                        //Defer it, keeping it in order with any later updates for the same position
+                        updates.set(kept++, queued);
+                    }
+                }
+                if (kept == 0) {
+                    iter.remove();
+                } else {
+                    updates.subList(kept, updates.size()).clear();
+                }
+            }
+            return batch;
+        }
+    }
+
+    private static class QueuedUpdate {
+
+        private final EncodedUpdate update;
+        private final int queuedFlush;
+
+        private QueuedUpdate(EncodedUpdate update, int queuedFlush) {
+            this.update = update;
+            this.queuedFlush = queuedFlush;
+        }
+    }
+}
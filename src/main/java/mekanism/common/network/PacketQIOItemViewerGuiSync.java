@@ -1,7 +1,10 @@
 package mekanism.common.network;
 
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
@@ -10,30 +13,58 @@ import net.minecraft.client.entity.player.ClientPlayerEntity;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fml.network.NetworkEvent.Context;
 
+/**
+ * Syncs the contents of a QIO frequency to a player viewing it. Item types are sent in full once per viewing session along with an id, after which changes to their
+ * count are sent as deltas keyed by that id.
+ */
 public class PacketQIOItemViewerGuiSync {
 
+    //Encoded size of all the packets of this type that have been sent, only tracked when the packet actually gets encoded (so not in single player)
+    private static final AtomicLong bytesSent = new AtomicLong();
+
     private final Type type;
-    private final Object2LongMap<UUIDAwareHashedItem> itemMap;
+    private final Int2ObjectMap<UUIDAwareHashedItem> newTypes;
+    private final Int2LongMap counts;
+    private final Int2LongMap deltas;
     private final long countCapacity;
     private final int typeCapacity;
 
-    private PacketQIOItemViewerGuiSync(Type type, Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
+    private PacketQIOItemViewerGuiSync(Type type, Int2ObjectMap<UUIDAwareHashedItem> newTypes, Int2LongMap counts, Int2LongMap deltas, long countCapacity,
+          int typeCapacity) {
         this.type = type;
-        this.itemMap = itemMap;
+        this.newTypes = newTypes;
+        this.counts = counts;
+        this.deltas = deltas;
         this.countCapacity = countCapacity;
         this.typeCapacity = typeCapacity;
     }
 
-    public static PacketQIOItemViewerGuiSync batch(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        return new PacketQIOItemViewerGuiSync(Type.BATCH, itemMap, countCapacity, typeCapacity);
+    /**
+     * Starts a new viewing session, clearing anything the client knows about the frequency.
+     *
+     * @param newTypes Item types by the id they are being assigned for this session.
+     * @param counts   Amount stored of the new item types by their id.
+     */
+    public static PacketQIOItemViewerGuiSync batch(Int2ObjectMap<UUIDAwareHashedItem> newTypes, Int2LongMap counts, long countCapacity, int typeCapacity) {
+        return new PacketQIOItemViewerGuiSync(Type.BATCH, newTypes, counts, new Int2LongOpenHashMap(), countCapacity, typeCapacity);
     }
 
-    public static PacketQIOItemViewerGuiSync update(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        return new PacketQIOItemViewerGuiSync(Type.UPDATE, itemMap, countCapacity, typeCapacity);
+    /**
+     * @param newTypes Item types that have not been sent yet this session by the id they are being assigned.
+     * @param counts   Amount stored of the new item types by their id.
+     * @param deltas   Changes in the amount stored of item types that have already been sent by their id. Item types that end up with nothing stored are forgotten.
+     */
+    public static PacketQIOItemViewerGuiSync update(Int2ObjectMap<UUIDAwareHashedItem> newTypes, Int2LongMap counts, Int2LongMap deltas, long countCapacity,
+          int typeCapacity) {
+        return new PacketQIOItemViewerGuiSync(Type.UPDATE, newTypes, counts, deltas, countCapacity, typeCapacity);
     }
 
     public static PacketQIOItemViewerGuiSync kill() {
-        return new PacketQIOItemViewerGuiSync(Type.UPDATE, null, 0, 0);
+        return new PacketQIOItemViewerGuiSync(Type.KILL, null, null, null, 0, 0);
+    }
+
+    public static long getBytesSent() {
+        return bytesSent.get();
     }
 
     public static void handle(PacketQIOItemViewerGuiSync message, Supplier<Context> context) {
@@ -44,10 +75,10 @@ public class PacketQIOItemViewerGuiSync {
                 QIOItemViewerContainer container = (QIOItemViewerContainer) player.openContainer;
                 switch (message.type) {
                     case BATCH:
-                        container.handleBatchUpdate(message.itemMap, message.countCapacity, message.typeCapacity);
+                        container.handleBatchUpdate(message.newTypes, message.counts, message.countCapacity, message.typeCapacity);
                         break;
                     case UPDATE:
-                        container.handleUpdate(message.itemMap, message.countCapacity, message.typeCapacity);
+                        container.handleUpdate(message.newTypes, message.counts, message.deltas, message.countCapacity, message.typeCapacity);
                         break;
                     case KILL:
                         container.handleKill();
@@ -59,12 +90,16 @@ public class PacketQIOItemViewerGuiSync {
     }
 
     public static void encode(PacketQIOItemViewerGuiSync pkt, PacketBuffer buf) {
+        int start = buf.writerIndex();
         buf.writeEnumValue(pkt.type);
         if (pkt.type == Type.BATCH || pkt.type == Type.UPDATE) {
             buf.writeVarLong(pkt.countCapacity);
             buf.writeVarInt(pkt.typeCapacity);
-            buf.writeVarInt(pkt.itemMap.size());
-            pkt.itemMap.forEach((key, value) -> {
+            buf.writeVarInt(pkt.newTypes.size());
+            for (Int2ObjectMap.Entry<UUIDAwareHashedItem> entry : pkt.newTypes.int2ObjectEntrySet()) {
+                int id = entry.getIntKey();
+                UUIDAwareHashedItem key = entry.getValue();
+                buf.writeVarInt(id);
                 buf.writeItemStack(key.getStack());
                 if (key.getUUID() == null) {
                     //Shouldn't be null unless something failed, but if it does try to handle it relatively gracefully
@@ -73,26 +108,46 @@ public class PacketQIOItemViewerGuiSync {
                     buf.writeBoolean(true);
                     buf.writeUniqueId(key.getUUID());
                 }
-                buf.writeVarLong(value);
-            });
+                buf.writeVarLong(pkt.counts.get(id));
+            }
+            buf.writeVarInt(pkt.deltas.size());
+            for (Int2LongMap.Entry entry : pkt.deltas.int2LongEntrySet()) {
+                buf.writeVarInt(entry.getIntKey());
+                //Zigzag encode the delta so that small decreases are as small as small increases
+                long delta = entry.getLongValue();
+                buf.writeVarLong((delta << 1) ^ (delta >> 63));
+            }
         }
+        bytesSent.addAndGet(buf.writerIndex() - start);
     }
 
     public static PacketQIOItemViewerGuiSync decode(PacketBuffer buf) {
         Type type = buf.readEnumValue(Type.class);
         long countCapacity = 0;
         int typeCapacity = 0;
-        Object2LongMap<UUIDAwareHashedItem> map = null;
+        Int2ObjectMap<UUIDAwareHashedItem> newTypes = null;
+        Int2LongMap counts = null;
+        Int2LongMap deltas = null;
         if (type == Type.BATCH || type == Type.UPDATE) {
             countCapacity = buf.readVarLong();
             typeCapacity = buf.readVarInt();
-            int count = buf.readVarInt();
-            map = new Object2LongOpenHashMap<>(count);
-            for (int i = 0; i < count; i++) {
-                map.put(new UUIDAwareHashedItem(buf.readItemStack(), buf.readBoolean() ? buf.readUniqueId() : null), buf.readVarLong());
+            int typeCount = buf.readVarInt();
+            newTypes = new Int2ObjectOpenHashMap<>(typeCount);
+            counts = new Int2LongOpenHashMap(typeCount);
+            for (int i = 0; i < typeCount; i++) {
+                int id = buf.readVarInt();
+                newTypes.put(id, new UUIDAwareHashedItem(buf.readItemStack(), buf.readBoolean() ? buf.readUniqueId() : null));
+                counts.put(id, buf.readVarLong());
+            }
+            int deltaCount = buf.readVarInt();
+            deltas = new Int2LongOpenHashMap(deltaCount);
+            for (int i = 0; i < deltaCount; i++) {
+                int id = buf.readVarInt();
+                long encoded = buf.readVarLong();
+                deltas.put(id, (encoded >>> 1) ^ -(encoded & 1));
             }
         }
-        return new PacketQIOItemViewerGuiSync(type, map, countCapacity, typeCapacity);
+        return new PacketQIOItemViewerGuiSync(type, newTypes, counts, deltas, countCapacity, typeCapacity);
     }
 
     public enum Type {
@@ -0,0 +1,39 @@
+package mekanism.common.network;
+
+import java.util.function.Supplier;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fml.network.NetworkEvent.Context;
+
+/**
+ * Sent by the client when it receives a partial {@link PacketUpdateTile} it can't apply because it doesn't have the update tag the changes are relative to, to get the
+ * server to send it the full update tag again.
+ */
+public class PacketRequestTileUpdate {
+
+    private final BlockPos pos;
+
+    public PacketRequestTileUpdate(BlockPos pos) {
+        this.pos = pos;
+    }
+
+    public static void handle(PacketRequestTileUpdate message, Supplier<Context> context) {
+        Context ctx = context.get();
+        ctx.enqueueWork(() -> {
+            ServerPlayerEntity player = ctx.getSender();
+            if (player != null) {
+                TileUpdateTracker.resendFull(player, message.pos);
+            }
+        });
+        ctx.setPacketHandled(true);
+    }
+
+    public static void encode(PacketRequestTileUpdate pkt, PacketBuffer buf) {
+        buf.writeBlockPos(pkt.pos);
+    }
+
+    public static PacketRequestTileUpdate decode(PacketBuffer buf) {
+        return new PacketRequestTileUpdate(buf.readBlockPos());
+    }
+}
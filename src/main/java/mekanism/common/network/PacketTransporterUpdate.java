@@ -62,29 +62,35 @@ public class PacketTransporterUpdate {
         this.isDiversion = isDiversion;
     }
 
+    BlockPos getPos() {
+        return pos;
+    }
+
     public static void handle(PacketTransporterUpdate message, Supplier<Context> context) {
         Context ctx = context.get();
-        ctx.enqueueWork(() -> {
-            TileEntityLogisticalTransporterBase tile = WorldUtils.getTileEntity(TileEntityLogisticalTransporterBase.class, Minecraft.getInstance().world, message.pos);
-            if (tile != null) {
-                LogisticalTransporterBase transporter = tile.getTransmitter();
-                if (message.isSync) {
-                    transporter.addStack(message.stackId, message.stack);
-                } else {
-                    for (Int2ObjectMap.Entry<TransporterStack> entry : message.updates.int2ObjectEntrySet()) {
-                        transporter.addStack(entry.getIntKey(), entry.getValue());
-                    }
-                    for (int toDelete : message.deletes) {
-                        transporter.deleteStack(toDelete);
-                    }
+        ctx.enqueueWork(() -> handleUpdate(message));
+        ctx.setPacketHandled(true);
+    }
+
+    static void handleUpdate(PacketTransporterUpdate message) {
+        TileEntityLogisticalTransporterBase tile = WorldUtils.getTileEntity(TileEntityLogisticalTransporterBase.class, Minecraft.getInstance().world, message.pos);
+        if (tile != null) {
+            LogisticalTransporterBase transporter = tile.getTransmitter();
+            if (message.isSync) {
+                transporter.addStack(message.stackId, message.stack);
+            } else {
+                for (Int2ObjectMap.Entry<TransporterStack> entry : message.updates.int2ObjectEntrySet()) {
+                    transporter.addStack(entry.getIntKey(), entry.getValue());
                 }
-                if (message.isDiversion && transporter instanceof DiversionTransporter) {
-                    //Copy the values of modes, without replacing the actual array
-                    System.arraycopy(message.modes, 0, ((DiversionTransporter) transporter).modes, 0, message.modes.length);
+                for (int toDelete : message.deletes) {
+                    transporter.deleteStack(toDelete);
                 }
             }
-        });
-        ctx.setPacketHandled(true);
+            if (message.isDiversion && transporter instanceof DiversionTransporter) {
+                //Copy the values of modes, without replacing the actual array
+                System.arraycopy(message.modes, 0, ((DiversionTransporter) transporter).modes, 0, message.modes.length);
+            }
+        }
     }
 
     public static void encode(PacketTransporterUpdate pkt, PacketBuffer buf) {
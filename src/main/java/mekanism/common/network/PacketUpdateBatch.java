@@ -0,0 +1,130 @@
+package mekanism.common.network;
+
+import io.netty.buffer.Unpooled;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fml.network.NetworkEvent.Context;
+
+/**
+ * Tile and transporter updates that were queued for a player during a tick, grouped by the chunk they are for, see {@link PacketHandler#queueUpdate(EncodedUpdate,
+ * net.minecraft.entity.player.ServerPlayerEntity)}.
+ */
+public class PacketUpdateBatch {
+
+    //Server side: the updates, already encoded when they were queued
+    @Nullable
+    private final List<EncodedUpdate> encoded;
+    //Client side: the decoded updates, either a PacketUpdateTile or a PacketTransporterUpdate
+    @Nullable
+    private final List<Object> updates;
+
+    PacketUpdateBatch(List<EncodedUpdate> encoded) {
+        this(encoded, null);
+    }
+
+    private PacketUpdateBatch(@Nullable List<EncodedUpdate> encoded, @Nullable List<Object> updates) {
+        this.encoded = encoded;
+        this.updates = updates;
+    }
+
+    public static void handle(PacketUpdateBatch message, Supplier<Context> context) {
+        Context ctx = context.get();
+        ctx.enqueueWork(() -> {
+            for (Object update : message.getUpdates()) {
+                if (update instanceof PacketUpdateTile) {
+                    PacketUpdateTile.handleUpdate((PacketUpdateTile) update);
+                } else {
+                    PacketTransporterUpdate.handleUpdate((PacketTransporterUpdate) update);
+                }
+            }
+        });
+        ctx.setPacketHandled(true);
+    }
+
+    private List<Object> getUpdates() {
+        if (updates != null) {
+            return updates;
+        }
+        //The packet didn't get encoded, decode the updates from copies of what we encoded when they were queued
+        List<Object> decoded = new ArrayList<>(encoded.size());
+        for (EncodedUpdate update : encoded) {
+            PacketBuffer data = new PacketBuffer(update.data.duplicate());
+            decoded.add(update.tile ? PacketUpdateTile.decode(data) : PacketTransporterUpdate.decode(data));
+        }
+        return decoded;
+    }
+
+    public static void encode(PacketUpdateBatch pkt, PacketBuffer buf) {
+        buf.writeVarInt(pkt.encoded.size());
+        for (EncodedUpdate update : pkt.encoded) {
+            buf.writeBoolean(update.tile);
+            //Note: We don't move the reader index of the update as the same update may be sent to multiple players
+            buf.writeBytes(update.data, update.data.readerIndex(), update.data.readableBytes());
+        }
+    }
+
+    public static PacketUpdateBatch decode(PacketBuffer buf) {
+        int size = buf.readVarInt();
+        List<Object> updates = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (buf.readBoolean()) {
+                updates.add(PacketUpdateTile.decode(buf));
+            } else {
+                updates.add(PacketTransporterUpdate.decode(buf));
+            }
+        }
+        return new PacketUpdateBatch(null, updates);
+    }
+
+    /**
+     * An update that has been encoded so that it can be queued without having to worry about what it contains changing before it gets sent.
+     */
+    public static final class EncodedUpdate {
+
+        public static EncodedUpdate tile(PacketUpdateTile packet) {
+            PacketBuffer data = new PacketBuffer(Unpooled.buffer());
+            PacketUpdateTile.encode(packet, data);
+            return new EncodedUpdate(packet.getPos(), true, data);
+        }
+
+        public static EncodedUpdate transporter(PacketTransporterUpdate packet) {
+            PacketBuffer data = new PacketBuffer(Unpooled.buffer());
+            PacketTransporterUpdate.encode(packet, data);
+            return new EncodedUpdate(packet.getPos(), false, data);
+        }
+
+        private final BlockPos pos;
+        private final boolean tile;
+        private final PacketBuffer data;
+
+        private EncodedUpdate(BlockPos pos, boolean tile, PacketBuffer data) {
+            this.pos = pos;
+            this.tile = tile;
+            this.data = data;
+        }
+
+        BlockPos getPos() {
+            return pos;
+        }
+
+        /**
+         * @return The number of bytes this update takes up in a batch.
+         */
+        int getEncodedSize() {
+            //Data plus the boolean for whether it is a tile update
+            return data.readableBytes() + 1;
+        }
+
+        /**
+         * Transporter updates are only visual, so they can be deferred when a player is being sent a lot of updates. Tile updates are never deferred as later updates
+         * may only contain what changed since them.
+         */
+        boolean isDeferrable() {
+            return !tile;
+        }
+    }
+}
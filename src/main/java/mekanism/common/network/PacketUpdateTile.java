@@ -1,53 +1,154 @@
 package mekanism.common.network;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import mekanism.common.Mekanism;
 import mekanism.common.tile.base.TileEntityUpdateable;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.world.ClientWorld;
 import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.INBT;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.fml.network.NetworkEvent.Context;
 
+/**
+ * Syncs the update tag of a tile to the client. Either contains the full update tag, or only the entries of it that changed since the last update tag that was sent to
+ * the client, see {@link TileUpdateTracker}.
+ */
 public class PacketUpdateTile {
 
+    //Encoded size of all the packets of this type that have been created. Packets get encoded once when they are queued, see EncodedUpdate, so a packet that goes to
+    // multiple players is only counted once
+    private static final AtomicLong fullBytesSent = new AtomicLong();
+    private static final AtomicLong deltaBytesSent = new AtomicLong();
+
     private final CompoundNBT updateTag;
     private final BlockPos pos;
+    //Keys of entries that were removed from the update tag, null if this packet contains the full update tag
+    @Nullable
+    private final List<String> removedKeys;
 
     public PacketUpdateTile(TileEntityUpdateable tile) {
-        this(tile.getPos(), tile.getReducedUpdateTag());
+        this(tile.getPos(), tile.getReducedUpdateTag(), null);
     }
 
-    private PacketUpdateTile(BlockPos pos, CompoundNBT updateTag) {
+    private PacketUpdateTile(BlockPos pos, CompoundNBT updateTag, @Nullable List<String> removedKeys) {
         this.pos = pos;
         this.updateTag = updateTag;
+        this.removedKeys = removedKeys;
+    }
+
+    static PacketUpdateTile full(BlockPos pos, CompoundNBT updateTag) {
+        return new PacketUpdateTile(pos, updateTag, null);
+    }
+
+    /**
+     * Creates a packet containing only what changed between the given update tags.
+     *
+     * @return The packet, or {@code null} if nothing changed.
+     */
+    @Nullable
+    static PacketUpdateTile delta(BlockPos pos, CompoundNBT previous, CompoundNBT updateTag) {
+        CompoundNBT changed = new CompoundNBT();
+        for (String key : updateTag.keySet()) {
+            INBT value = updateTag.get(key);
+            if (!value.equals(previous.get(key))) {
+                changed.put(key, value);
+            }
+        }
+        List<String> removedKeys = new ArrayList<>();
+        for (String key : previous.keySet()) {
+            if (!updateTag.contains(key)) {
+                removedKeys.add(key);
+            }
+        }
+        if (changed.isEmpty() && removedKeys.isEmpty()) {
+            return null;
+        } else if (changed.size() == updateTag.size()) {
+            //Everything changed, just send it all
+            return full(pos, updateTag);
+        }
+        return new PacketUpdateTile(pos, changed, removedKeys);
+    }
+
+    boolean isFull() {
+        return removedKeys == null;
+    }
+
+    public static long getFullBytesSent() {
+        return fullBytesSent.get();
+    }
+
+    public static long getDeltaBytesSent() {
+        return deltaBytesSent.get();
+    }
+
+    BlockPos getPos() {
+        return pos;
     }
 
     public static void handle(PacketUpdateTile message, Supplier<Context> context) {
         Context ctx = context.get();
-        ctx.enqueueWork(() -> {
-            ClientWorld world = Minecraft.getInstance().world;
-            if (world != null) {
-                TileEntityUpdateable tile = WorldUtils.getTileEntity(TileEntityUpdateable.class, world, message.pos, true);
-                if (tile == null) {
-                    Mekanism.logger.info("Update tile packet received for position: {} in world: {}, but no valid tile was found.", message.pos,
-                          world.getDimensionKey().getLocation());
-                } else {
-                    tile.handleUpdatePacket(message.updateTag);
-                }
-            }
-        });
+        ctx.enqueueWork(() -> handleUpdate(message));
         ctx.setPacketHandled(true);
     }
 
+    static void handleUpdate(PacketUpdateTile message) {
+        CompoundNBT updateTag = TileUpdateTracker.receive(message.pos, message.updateTag, message.removedKeys);
+        if (updateTag == null) {
+            //We don't know what the changes are relative to, ask for the full update tag instead of staying out of sync until the tile next changes
+            if (TileUpdateTracker.markFullUpdateRequested(message.pos)) {
+                Mekanism.logger.debug("Partial update tile packet received for position: {}, but the previous update was not received. Requesting a full update.",
+                      message.pos);
+                Mekanism.packetHandler.sendToServer(new PacketRequestTileUpdate(message.pos));
+            }
+            return;
+        }
+        ClientWorld world = Minecraft.getInstance().world;
+        if (world != null) {
+            TileEntityUpdateable tile = WorldUtils.getTileEntity(TileEntityUpdateable.class, world, message.pos, true);
+            if (tile == null) {
+                Mekanism.logger.info("Update tile packet received for position: {} in world: {}, but no valid tile was found.", message.pos,
+                      world.getDimensionKey().getLocation());
+            } else {
+                tile.handleUpdatePacket(updateTag);
+            }
+        }
+    }
+
     public static void encode(PacketUpdateTile pkt, PacketBuffer buf) {
+        int start = buf.writerIndex();
         buf.writeBlockPos(pkt.pos);
         buf.writeCompoundTag(pkt.updateTag);
+        if (pkt.removedKeys == null) {
+            buf.writeBoolean(false);
+            fullBytesSent.addAndGet(buf.writerIndex() - start);
+        } else {
+            buf.writeBoolean(true);
+            buf.writeVarInt(pkt.removedKeys.size());
+            for (String key : pkt.removedKeys) {
+                buf.writeString(key);
+            }
+            deltaBytesSent.addAndGet(buf.writerIndex() - start);
+        }
     }
 
     public static PacketUpdateTile decode(PacketBuffer buf) {
-        return new PacketUpdateTile(buf.readBlockPos(), buf.readCompoundTag());
+        BlockPos pos = buf.readBlockPos();
+        CompoundNBT updateTag = buf.readCompoundTag();
+        List<String> removedKeys = null;
+        if (buf.readBoolean()) {
+            int count = buf.readVarInt();
+            removedKeys = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                removedKeys.add(buf.readString());
+            }
+        }
+        return new PacketUpdateTile(pos, updateTag, removedKeys);
     }
-}
\ No newline at end of file
+}
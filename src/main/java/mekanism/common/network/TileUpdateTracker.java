@@ -0,0 +1,221 @@
+package mekanism.common.network;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import javax.annotation.Nullable;
+import mekanism.common.Mekanism;
+import mekanism.common.network.PacketUpdateBatch.EncodedUpdate;
+import mekanism.common.tile.base.TileEntityUpdateable;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.event.entity.player.PlayerEvent.PlayerChangedDimensionEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent.PlayerLoggedOutEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.ChunkWatchEvent;
+import net.minecraftforge.event.world.WorldEvent;
+
+/**
+ * Keeps track of the last update tag of each tile that each player was sent, so that {@link PacketUpdateTile} only has to contain the entries of the update tag that
+ * changed since then. The first update a player gets for a tile contains the full update tag, and no update gets sent at all if nothing changed.
+ *
+ * @implNote The server forgets what it sent a player for a chunk when the player stops watching the chunk, and the client forgets what it received for a chunk when the
+ * chunk gets unloaded on the client, so both sides always agree on what an update is relative to. If the client does still end up with an update relative to an update
+ * tag it doesn't have, it asks for the full update tag with a {@link PacketRequestTileUpdate}.
+ */
+public final class TileUpdateTracker {
+
+    private TileUpdateTracker() {
+    }
+
+    //Server side: player -> chunk -> position -> update tag last sent to the player
+    private static final Map<UUID, Long2ObjectMap<Map<BlockPos, CompoundNBT>>> sentTags = new Object2ObjectOpenHashMap<>();
+    //Client side: chunk -> position -> update tag last received
+    private static final Long2ObjectMap<Map<BlockPos, CompoundNBT>> receivedTags = new Long2ObjectOpenHashMap<>();
+    //Client side: positions we asked the server to send the full update tag for, and have not received it for yet
+    private static final Set<BlockPos> requestedFullUpdates = new ObjectOpenHashSet<>();
+
+    private static long fullUpdates;
+    private static long deltaUpdates;
+    private static long skippedUpdates;
+
+    /**
+     * Sends the update tag of the given tile to all players tracking the chunk the given tracking position is in.
+     */
+    public static void sendUpdate(ServerWorld world, TileEntityUpdateable tile, BlockPos trackingPos) {
+        BlockPos pos = tile.getPos();
+        long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        CompoundNBT updateTag = tile.getReducedUpdateTag();
+        if (chunkKey != ChunkPos.asLong(trackingPos.getX() >> 4, trackingPos.getZ() >> 4)) {
+            //Players tracking a different chunk than the tile is in don't necessarily stop tracking it when the tile's chunk unloads,
+            // so always send them the full tag and forget anything we sent them before
+            EncodedUpdate update = EncodedUpdate.tile(PacketUpdateTile.full(pos, updateTag));
+            world.getChunkProvider().chunkManager.getTrackingPlayers(new ChunkPos(trackingPos), false).forEach(player -> {
+                Long2ObjectMap<Map<BlockPos, CompoundNBT>> chunks = sentTags.get(player.getUniqueID());
+                if (chunks != null) {
+                    Map<BlockPos, CompoundNBT> sent = chunks.get(chunkKey);
+                    if (sent != null) {
+                        sent.remove(pos);
+                    }
+                }
+                fullUpdates++;
+                Mekanism.packetHandler.queueUpdate(update, player);
+            });
+            return;
+        }
+        //Most players were last sent the same tag, so only compare against and encode the changes from each distinct previous tag once
+        Reference2ObjectMap<CompoundNBT, PacketUpdateTile> deltas = new Reference2ObjectOpenHashMap<>();
+        Reference2ObjectMap<PacketUpdateTile, EncodedUpdate> encoded = new Reference2ObjectOpenHashMap<>();
+        PacketUpdateTile fullPacket = PacketUpdateTile.full(pos, updateTag);
+        world.getChunkProvider().chunkManager.getTrackingPlayers(new ChunkPos(pos), false).forEach(player -> {
+            Map<BlockPos, CompoundNBT> sent = sentTags.computeIfAbsent(player.getUniqueID(), uuid -> new Long2ObjectOpenHashMap<>())
+                  .computeIfAbsent(chunkKey, key -> new Object2ObjectOpenHashMap<>());
+            CompoundNBT previous = sent.put(pos, updateTag);
+            PacketUpdateTile packet;
+            if (previous == null) {
+                packet = fullPacket;
+            } else {
+                packet = deltas.computeIfAbsent(previous, tag -> PacketUpdateTile.delta(pos, tag, updateTag));
+                if (packet == null) {
+                    //Nothing changed, keep the previous tag around as it is equal
+                    sent.put(pos, previous);
+                    skippedUpdates++;
+                    return;
+                }
+            }
+            if (packet.isFull()) {
+                fullUpdates++;
+            } else {
+                deltaUpdates++;
+            }
+            Mekanism.packetHandler.queueUpdate(encoded.computeIfAbsent(packet, EncodedUpdate::tile), player);
+        });
+    }
+
+    /**
+     * Called on the server when a player asks for the full update tag of a tile, because it got an update relative to an update tag it doesn't have. This can only be
+     * the case for tiles we sent the player something for, so any other requests are ignored.
+     */
+    static void resendFull(ServerPlayerEntity player, BlockPos pos) {
+        Long2ObjectMap<Map<BlockPos, CompoundNBT>> chunks = sentTags.get(player.getUniqueID());
+        if (chunks != null) {
+            Map<BlockPos, CompoundNBT> sent = chunks.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+            if (sent != null && sent.remove(pos) != null) {
+                TileEntityUpdateable tile = WorldUtils.getTileEntity(TileEntityUpdateable.class, player.getServerWorld(), pos);
+                if (tile != null) {
+                    CompoundNBT updateTag = tile.getReducedUpdateTag();
+                    sent.put(pos, updateTag);
+                    fullUpdates++;
+                    Mekanism.packetHandler.queueUpdate(EncodedUpdate.tile(PacketUpdateTile.full(pos, updateTag)), player);
+                }
+            }
+        }
+    }
+
+    /**
+     * Called on the client when it asks the server for the full update tag of the tile at the given position.
+     *
+     * @return {@code false} if we already asked for it and have not received it yet.
+     */
+    static boolean markFullUpdateRequested(BlockPos pos) {
+        return requestedFullUpdates.add(pos.toImmutable());
+    }
+
+    /**
+     * Called on the client when an update is received to get the full update tag.
+     *
+     * @param updateTag   The update tag or changed entries of it.
+     * @param removedKeys Keys of entries removed from the update tag, or {@code null} if the update contains the full update tag.
+     *
+     * @return The full update tag, or {@code null} if the update is relative to an update tag that was not received.
+     */
+    @Nullable
+    static CompoundNBT receive(BlockPos pos, CompoundNBT updateTag, @Nullable List<String> removedKeys) {
+        Map<BlockPos, CompoundNBT> received = receivedTags.computeIfAbsent(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), key -> new Object2ObjectOpenHashMap<>());
+        if (removedKeys == null) {
+            received.put(pos, updateTag);
+            requestedFullUpdates.remove(pos);
+            return updateTag;
+        }
+        CompoundNBT previous = received.get(pos);
+        if (previous == null) {
+            return null;
+        }
+        //Note: We don't need to copy the values as neither the update tags we receive nor their values get modified
+        CompoundNBT merged = new CompoundNBT();
+        for (String key : previous.keySet()) {
+            merged.put(key, previous.get(key));
+        }
+        for (String key : removedKeys) {
+            merged.remove(key);
+        }
+        for (String key : updateTag.keySet()) {
+            merged.put(key, updateTag.get(key));
+        }
+        received.put(pos, merged);
+        return merged;
+    }
+
+    public static long getFullUpdates() {
+        return fullUpdates;
+    }
+
+    public static long getDeltaUpdates() {
+        return deltaUpdates;
+    }
+
+    public static long getSkippedUpdates() {
+        return skippedUpdates;
+    }
+
+    public static void onChunkUnwatch(ChunkWatchEvent.UnWatch event) {
+        Long2ObjectMap<Map<BlockPos, CompoundNBT>> chunks = sentTags.get(event.getPlayer().getUniqueID());
+        if (chunks != null) {
+            chunks.remove(event.getPos().asLong());
+        }
+    }
+
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        if (event.getWorld() != null && event.getWorld().isRemote()) {
+            ChunkPos chunkPos = event.getChunk().getPos();
+            receivedTags.remove(chunkPos.asLong());
+            if (!requestedFullUpdates.isEmpty()) {
+                //The server will send the full update tag anyway if the chunk gets loaded again
+                requestedFullUpdates.removeIf(pos -> pos.getX() >> 4 == chunkPos.x && pos.getZ() >> 4 == chunkPos.z);
+            }
+        }
+    }
+
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        if (event.getWorld().isRemote()) {
+            receivedTags.clear();
+            requestedFullUpdates.clear();
+        }
+    }
+
+    public static void onPlayerLogout(PlayerLoggedOutEvent event) {
+        sentTags.remove(event.getPlayer().getUniqueID());
+    }
+
+    public static void onPlayerChangedDimension(PlayerChangedDimensionEvent event) {
+        sentTags.remove(event.getPlayer().getUniqueID());
+    }
+
+    public static void reset() {
+        sentTags.clear();
+        fullUpdates = 0;
+        deltaUpdates = 0;
+        skippedUpdates = 0;
+    }
+}
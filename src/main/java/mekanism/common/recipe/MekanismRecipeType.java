@@ -5,6 +5,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
@@ -33,6 +34,9 @@ import mekanism.api.recipes.inputs.ItemStackIngredient;
 import mekanism.client.MekanismClient;
 import mekanism.common.Mekanism;
 import mekanism.common.recipe.impl.SmeltingIRecipe;
+import mekanism.common.recipe.lookup.InputRecipeIndex;
+import mekanism.common.recipe.lookup.InputValidityCache;
+import mekanism.common.recipe.lookup.RecipeInput;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.IRecipe;
@@ -107,10 +111,15 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
 
     public static void clearCache() {
         //TODO: Does this need to also get cleared on disconnect
-        types.forEach(type -> type.cachedRecipes.clear());
+        types.forEach(type -> {
+            type.cachedRecipes.clear();
+            type.clearInputCaches();
+        });
     }
 
     private List<RECIPE_TYPE> cachedRecipes = Collections.emptyList();
+    private final Map<RecipeInput<? super RECIPE_TYPE, ?>, InputRecipeIndex<RECIPE_TYPE, ?>> inputIndices = new ConcurrentHashMap<>();
+    private final Map<RecipeInput<? super RECIPE_TYPE, ?>, InputValidityCache> inputValidity = new ConcurrentHashMap<>();
     private final ResourceLocation registryName;
 
     private MekanismRecipeType(String name) {
@@ -166,6 +175,8 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
                 }
             }
             cachedRecipes = recipes;
+            //Make sure we don't keep anything we looked up from the recipes we had before
+            clearInputCaches();
         }
         return cachedRecipes;
     }
@@ -182,4 +193,67 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
     public boolean contains(@Nullable World world, Predicate<RECIPE_TYPE> matchCriteria) {
         return stream(world).anyMatch(matchCriteria);
     }
+
+    /**
+     * Finds the first recipe that matches the given criteria, only checking the recipes that accept the given value as the given input.
+     */
+    @Nullable
+    public <INPUT> RECIPE_TYPE findFirst(@Nullable World world, RecipeInput<? super RECIPE_TYPE, INPUT> input, @Nonnull INPUT value,
+          Predicate<RECIPE_TYPE> matchCriteria) {
+        for (RECIPE_TYPE recipe : getCandidates(world, input, value)) {
+            if (matchCriteria.test(recipe)) {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks if there is a recipe that accepts the given value as the given input. The result is remembered for values that are the same type as the given value until
+     * recipes are reloaded.
+     */
+    public <INPUT> boolean contains(@Nullable World world, RecipeInput<? super RECIPE_TYPE, INPUT> input, @Nonnull INPUT value) {
+        Object key = input.getValidityKey(value);
+        if (key == null || getRecipes(world).isEmpty()) {
+            //Don't remember the result if we can't tell values apart or were unable to get the recipes
+            return contains(world, input, value, recipe -> input.test(recipe, value));
+        }
+        return inputValidity.computeIfAbsent(input, i -> new InputValidityCache()).isValid(key, () -> contains(world, input, value, recipe -> input.test(recipe, value)));
+    }
+
+    /**
+     * Checks if there is a recipe that matches the given criteria, only checking the recipes that accept the given value as the given input.
+     */
+    public <INPUT> boolean contains(@Nullable World world, RecipeInput<? super RECIPE_TYPE, INPUT> input, @Nonnull INPUT value, Predicate<RECIPE_TYPE> matchCriteria) {
+        for (RECIPE_TYPE recipe : getCandidates(world, input, value)) {
+            if (matchCriteria.test(recipe)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void clearInputCaches() {
+        inputIndices.clear();
+        inputValidity.values().forEach(InputValidityCache::clear);
+        inputValidity.clear();
+    }
+
+    /**
+     * Gets the recipes that may accept the given value as the given input, building the index for the input if it has not been built yet since recipes were last
+     * loaded.
+     */
+    @Nonnull
+    private <INPUT> List<RECIPE_TYPE> getCandidates(@Nullable World world, RecipeInput<? super RECIPE_TYPE, INPUT> input, @Nonnull INPUT value) {
+        List<RECIPE_TYPE> recipes = getRecipes(world);
+        if (recipes.isEmpty()) {
+            //Don't cache an index if we were unable to get the recipes
+            return recipes;
+        }
+        //Note: The index for an input is always built from that input, so it has the same type of input
+        @SuppressWarnings("unchecked")
+        InputRecipeIndex<RECIPE_TYPE, INPUT> index = (InputRecipeIndex<RECIPE_TYPE, INPUT>) inputIndices.computeIfAbsent(input,
+              i -> new InputRecipeIndex<>(input, recipes));
+        return index.getCandidates(value);
+    }
 }
\ No newline at end of file
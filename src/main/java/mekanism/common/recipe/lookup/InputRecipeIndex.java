@@ -0,0 +1,52 @@
+package mekanism.common.recipe.lookup;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import mekanism.api.recipes.MekanismRecipe;
+
+/**
+ * Index of the recipes of a recipe type by what they accept as one of their inputs. Looking up the recipes that may accept a value is a single hash lookup instead of
+ * testing every recipe of the type.
+ *
+ * @implNote Tags are expanded when the index gets built, so the index has to be rebuilt whenever tags or recipes are reloaded. This happens as part of clearing the
+ * recipe cache of the recipe type.
+ */
+public class InputRecipeIndex<RECIPE extends MekanismRecipe, INPUT> {
+
+    private final RecipeInput<? super RECIPE, INPUT> input;
+    private final Map<Object, List<RECIPE>> recipesByKey = new Object2ObjectOpenHashMap<>();
+    //Recipes with an input that does not list everything it accepts, these are candidates for every value
+    private final List<RECIPE> unindexed = new ArrayList<>();
+
+    public InputRecipeIndex(RecipeInput<? super RECIPE, INPUT> input, List<RECIPE> recipes) {
+        this.input = input;
+        for (RECIPE recipe : recipes) {
+            Set<Object> keys = input.getKeys(recipe);
+            if (keys == null) {
+                //Recipe doesn't have this input so can never match it
+                continue;
+            } else if (keys.isEmpty()) {
+                unindexed.add(recipe);
+                recipesByKey.values().forEach(candidates -> candidates.add(recipe));
+            } else {
+                for (Object key : keys) {
+                    //Copy any unindexed recipes that came before this one, so that each list of candidates stays in the same order as the recipes
+                    recipesByKey.computeIfAbsent(key, k -> new ArrayList<>(unindexed)).add(recipe);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the recipes that may accept the given value as this index's input, in the same order as the recipes of the recipe type. The candidates still need to be
+     * tested against the value.
+     */
+    @Nonnull
+    public List<RECIPE> getCandidates(@Nonnull INPUT value) {
+        return recipesByKey.getOrDefault(input.getKey(value), unindexed);
+    }
+}
@@ -0,0 +1,69 @@
+package mekanism.common.recipe.lookup;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import javax.annotation.Nonnull;
+
+/**
+ * Remembers which values are valid for one of the inputs of a recipe type, so that checking if something can be inserted into a machine does not have to look at any
+ * recipes when the same type of thing gets offered again.
+ *
+ * @implNote This gets cleared along with the recipe cache of the recipe type, which happens whenever recipes or tags are reloaded. Caches are used from both the client
+ * and server threads, so the stats shared by all caches are only changed atomically.
+ */
+public class InputValidityCache {
+
+    //Limit on how many values to remember per input, so that values that differ only by NBT can't make this grow without bound
+    private static final int MAX_ENTRIES = 4_096;
+
+    //Total number of values remembered by all caches, only changed when a value actually gets added to or removed from a cache
+    private static final AtomicInteger size = new AtomicInteger();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    private final Map<Object, Boolean> validity = new ConcurrentHashMap<>();
+
+    /**
+     * Checks if the value with the given key is valid, calculating and remembering it if it has not been checked yet.
+     *
+     * @param key        Key of the value as given by {@link RecipeInput#getValidityKey(Object)}.
+     * @param calculator Calculates if the value is valid.
+     */
+    public boolean isValid(@Nonnull Object key, BooleanSupplier calculator) {
+        Boolean valid = validity.get(key);
+        if (valid != null) {
+            hits.increment();
+            return valid;
+        }
+        misses.increment();
+        boolean calculated = calculator.getAsBoolean();
+        if (validity.size() < MAX_ENTRIES && validity.putIfAbsent(key, calculated) == null) {
+            size.incrementAndGet();
+        }
+        return calculated;
+    }
+
+    public void clear() {
+        //Remove the keys one at a time so that only keys we actually removed get subtracted, even if values get added while we are clearing
+        for (Object key : validity.keySet()) {
+            if (validity.remove(key) != null) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    public static int getSize() {
+        return size.get();
+    }
+
+    public static long getHits() {
+        return hits.sum();
+    }
+
+    public static long getMisses() {
+        return misses.sum();
+    }
+}
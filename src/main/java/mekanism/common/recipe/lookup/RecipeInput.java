@@ -0,0 +1,127 @@
+package mekanism.common.recipe.lookup;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import mekanism.api.chemical.Chemical;
+import mekanism.api.chemical.ChemicalStack;
+import mekanism.api.recipes.MekanismRecipe;
+import mekanism.api.recipes.inputs.FluidStackIngredient;
+import mekanism.api.recipes.inputs.InputIngredient;
+import mekanism.api.recipes.inputs.ItemStackIngredient;
+import mekanism.api.recipes.inputs.chemical.IChemicalStackIngredient;
+import mekanism.common.lib.inventory.HashedItem;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraftforge.common.crafting.NBTIngredient;
+import net.minecraftforge.fluids.FluidStack;
+
+/**
+ * Describes one of the inputs of a type of recipe, so that the recipes of a {@link mekanism.common.recipe.MekanismRecipeType} can be indexed by what they accept as
+ * that input. Recipes are indexed by the item, fluid, or chemical of each of the representations of their input, and looked up by the item, fluid, or chemical of the
+ * value being checked. Recipes whose input may accept things it doesn't list, such as custom item ingredients, are not indexed and stay candidates for every value.
+ *
+ * @param <RECIPE> Type of the recipe.
+ * @param <INPUT>  Type of the values that get checked against the input.
+ *
+ * @implNote Instances are compared by identity when looking up the index for them, so they should be stored in constants rather than created for each lookup.
+ */
+public final class RecipeInput<RECIPE extends MekanismRecipe, INPUT> {
+
+    public static <RECIPE extends MekanismRecipe> RecipeInput<RECIPE, ItemStack> item(Function<RECIPE, ItemStackIngredient> inputExtractor) {
+        //Note: As the size is ignored, stacks without NBT are valid based on just their item
+        return new RecipeInput<>(inputExtractor, RecipeInput::isIndexable, ItemStack::getItem, ItemStack::getItem,
+              stack -> stack.hasTag() ? HashedItem.create(stack) : stack.getItem(), ItemStackIngredient::testType);
+    }
+
+    public static <RECIPE extends MekanismRecipe> RecipeInput<RECIPE, FluidStack> fluid(Function<RECIPE, FluidStackIngredient> inputExtractor) {
+        return new RecipeInput<>(inputExtractor, ingredient -> true, FluidStack::getFluid, FluidStack::getFluid, stack -> stack.hasTag() ? null : stack.getFluid(),
+              FluidStackIngredient::testType);
+    }
+
+    public static <RECIPE extends MekanismRecipe, CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> RecipeInput<RECIPE, CHEMICAL> chemical(
+          Function<RECIPE, ? extends IChemicalStackIngredient<CHEMICAL, STACK>> inputExtractor) {
+        return new RecipeInput<>(inputExtractor, ingredient -> true, ChemicalStack::getType, chemical -> chemical, chemical -> chemical, IChemicalStackIngredient::testType);
+    }
+
+    /**
+     * Checks if the given item ingredient only accepts the items of its representations. Simple vanilla ingredients only look at the item, and NBT ingredients only
+     * accept their item with specific NBT, but custom ingredients may accept items they don't list.
+     */
+    private static boolean isIndexable(ItemStackIngredient ingredient) {
+        if (ingredient instanceof ItemStackIngredient.Single) {
+            Ingredient raw = ((ItemStackIngredient.Single) ingredient).getInputRaw();
+            return raw.isSimple() || raw instanceof NBTIngredient;
+        } else if (ingredient instanceof ItemStackIngredient.Multi) {
+            return ((ItemStackIngredient.Multi) ingredient).getIngredients().stream().allMatch(RecipeInput::isIndexable);
+        }
+        return false;
+    }
+
+    private final Function<RECIPE, Set<Object>> recipeKeys;
+    private final Function<INPUT, Object> inputKey;
+    private final Function<INPUT, Object> validityKey;
+    private final BiPredicate<RECIPE, INPUT> inputTester;
+
+    private <TYPE, INGREDIENT extends InputIngredient<TYPE>> RecipeInput(Function<RECIPE, ? extends INGREDIENT> inputExtractor, Predicate<INGREDIENT> indexable,
+          Function<TYPE, Object> representationKey, Function<INPUT, Object> inputKey, Function<INPUT, Object> validityKey, BiPredicate<INGREDIENT, INPUT> ingredientTester) {
+        this.recipeKeys = recipe -> {
+            INGREDIENT ingredient = inputExtractor.apply(recipe);
+            if (ingredient == null) {
+                return null;
+            } else if (!indexable.test(ingredient)) {
+                //The ingredient may accept things it doesn't list, so it has to be tested against every value
+                return Collections.emptySet();
+            }
+            Set<Object> keys = new HashSet<>();
+            for (TYPE representation : ingredient.getRepresentations()) {
+                keys.add(representationKey.apply(representation));
+            }
+            return keys;
+        };
+        this.inputKey = inputKey;
+        this.validityKey = validityKey;
+        this.inputTester = (recipe, input) -> {
+            INGREDIENT ingredient = inputExtractor.apply(recipe);
+            return ingredient != null && ingredientTester.test(ingredient, input);
+        };
+    }
+
+    /**
+     * Gets the keys to index the given recipe by, which is the item, fluid, or chemical of every representation of its input.
+     *
+     * @return The keys, an empty set if the input does not list everything it accepts, or {@code null} if the recipe does not have this input.
+     */
+    @Nullable
+    Set<Object> getKeys(RECIPE recipe) {
+        return recipeKeys.apply(recipe);
+    }
+
+    @Nonnull
+    Object getKey(@Nonnull INPUT input) {
+        return inputKey.apply(input);
+    }
+
+    /**
+     * Gets a key that is equal for all values that are either all valid or all invalid as this input, ignoring any size data. The key is safe to store, as it does not
+     * reference anything the value may later modify.
+     *
+     * @return The key, or {@code null} if there is no cheap way to tell values apart, in which case whether the value is valid should not be remembered.
+     */
+    @Nullable
+    Object getValidityKey(@Nonnull INPUT input) {
+        return validityKey.apply(input);
+    }
+
+    /**
+     * Checks if the given value can be used as this input of the given recipe, ignoring any size data.
+     */
+    public boolean test(RECIPE recipe, @Nonnull INPUT input) {
+        return inputTester.test(recipe, input);
+    }
+}
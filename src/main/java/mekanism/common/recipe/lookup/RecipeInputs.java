@@ -0,0 +1,66 @@
+package mekanism.common.recipe.lookup;
+
+import mekanism.api.chemical.gas.Gas;
+import mekanism.api.chemical.infuse.InfuseType;
+import mekanism.api.chemical.slurry.Slurry;
+import mekanism.api.recipes.ChemicalDissolutionRecipe;
+import mekanism.api.recipes.ChemicalInfuserRecipe;
+import mekanism.api.recipes.CombinerRecipe;
+import mekanism.api.recipes.ElectrolysisRecipe;
+import mekanism.api.recipes.FluidSlurryToSlurryRecipe;
+import mekanism.api.recipes.FluidToFluidRecipe;
+import mekanism.api.recipes.GasToGasRecipe;
+import mekanism.api.recipes.ItemStackGasToItemStackRecipe;
+import mekanism.api.recipes.ItemStackToEnergyRecipe;
+import mekanism.api.recipes.ItemStackToItemStackRecipe;
+import mekanism.api.recipes.MetallurgicInfuserRecipe;
+import mekanism.api.recipes.PressurizedReactionRecipe;
+import mekanism.api.recipes.RotaryRecipe;
+import mekanism.api.recipes.SawmillRecipe;
+import mekanism.api.recipes.chemical.ItemStackToChemicalRecipe;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+
+/**
+ * The inputs of our recipes that recipes get looked up by.
+ */
+public final class RecipeInputs {
+
+    private RecipeInputs() {
+    }
+
+    public static final RecipeInput<ItemStackToItemStackRecipe, ItemStack> ITEM_TO_ITEM = RecipeInput.item(ItemStackToItemStackRecipe::getInput);
+    public static final RecipeInput<ItemStackToChemicalRecipe<?, ?>, ItemStack> ITEM_TO_CHEMICAL = RecipeInput.item(ItemStackToChemicalRecipe::getInput);
+    public static final RecipeInput<ItemStackToEnergyRecipe, ItemStack> ITEM_TO_ENERGY = RecipeInput.item(ItemStackToEnergyRecipe::getInput);
+    public static final RecipeInput<SawmillRecipe, ItemStack> SAWMILL = RecipeInput.item(SawmillRecipe::getInput);
+
+    public static final RecipeInput<CombinerRecipe, ItemStack> COMBINER_MAIN = RecipeInput.item(CombinerRecipe::getMainInput);
+    public static final RecipeInput<CombinerRecipe, ItemStack> COMBINER_EXTRA = RecipeInput.item(CombinerRecipe::getExtraInput);
+
+    public static final RecipeInput<ItemStackGasToItemStackRecipe, ItemStack> ITEM_GAS_TO_ITEM_ITEM = RecipeInput.item(ItemStackGasToItemStackRecipe::getItemInput);
+    public static final RecipeInput<ItemStackGasToItemStackRecipe, Gas> ITEM_GAS_TO_ITEM_GAS = RecipeInput.chemical(ItemStackGasToItemStackRecipe::getChemicalInput);
+
+    public static final RecipeInput<MetallurgicInfuserRecipe, ItemStack> METALLURGIC_INFUSER_ITEM = RecipeInput.item(MetallurgicInfuserRecipe::getItemInput);
+    public static final RecipeInput<MetallurgicInfuserRecipe, InfuseType> METALLURGIC_INFUSER_INFUSE_TYPE = RecipeInput.chemical(MetallurgicInfuserRecipe::getInfusionInput);
+
+    public static final RecipeInput<ChemicalDissolutionRecipe, ItemStack> DISSOLUTION_ITEM = RecipeInput.item(ChemicalDissolutionRecipe::getItemInput);
+    public static final RecipeInput<ChemicalDissolutionRecipe, Gas> DISSOLUTION_GAS = RecipeInput.chemical(ChemicalDissolutionRecipe::getGasInput);
+
+    public static final RecipeInput<PressurizedReactionRecipe, ItemStack> REACTION_ITEM = RecipeInput.item(PressurizedReactionRecipe::getInputSolid);
+    public static final RecipeInput<PressurizedReactionRecipe, FluidStack> REACTION_FLUID = RecipeInput.fluid(PressurizedReactionRecipe::getInputFluid);
+    public static final RecipeInput<PressurizedReactionRecipe, Gas> REACTION_GAS = RecipeInput.chemical(PressurizedReactionRecipe::getInputGas);
+
+    public static final RecipeInput<FluidSlurryToSlurryRecipe, FluidStack> WASHING_FLUID = RecipeInput.fluid(FluidSlurryToSlurryRecipe::getFluidInput);
+    public static final RecipeInput<FluidSlurryToSlurryRecipe, Slurry> WASHING_SLURRY = RecipeInput.chemical(FluidSlurryToSlurryRecipe::getChemicalInput);
+
+    public static final RecipeInput<ChemicalInfuserRecipe, Gas> CHEMICAL_INFUSER_LEFT = RecipeInput.chemical(ChemicalInfuserRecipe::getLeftInput);
+    public static final RecipeInput<ChemicalInfuserRecipe, Gas> CHEMICAL_INFUSER_RIGHT = RecipeInput.chemical(ChemicalInfuserRecipe::getRightInput);
+
+    //Note: Rotary recipes that only go in one direction don't have the other input, so they don't get indexed by it
+    public static final RecipeInput<RotaryRecipe, FluidStack> ROTARY_FLUID = RecipeInput.fluid(RotaryRecipe::getFluidInput);
+    public static final RecipeInput<RotaryRecipe, Gas> ROTARY_GAS = RecipeInput.chemical(RotaryRecipe::getGasInput);
+
+    public static final RecipeInput<GasToGasRecipe, Gas> GAS_TO_GAS = RecipeInput.chemical(GasToGasRecipe::getInput);
+    public static final RecipeInput<FluidToFluidRecipe, FluidStack> FLUID_TO_FLUID = RecipeInput.fluid(FluidToFluidRecipe::getInput);
+    public static final RecipeInput<ElectrolysisRecipe, FluidStack> ELECTROLYSIS = RecipeInput.fluid(ElectrolysisRecipe::getInput);
+}
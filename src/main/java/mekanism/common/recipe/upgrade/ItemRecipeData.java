@@ -19,6 +19,7 @@ import mekanism.common.inventory.slot.BasicInventorySlot;
 import mekanism.common.item.ItemRobit;
 import mekanism.common.item.block.ItemBlockBin;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.RecipeInputs;
 import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.tile.interfaces.ISustainedInventory;
 import net.minecraft.item.BlockItem;
@@ -96,7 +97,8 @@ public class ItemRecipeData implements RecipeUpgradeData<ItemRecipeData> {
                 if (EnergyCompatUtils.hasStrictEnergyHandler(itemStack)) {
                     return true;
                 }
-                ItemStackToEnergyRecipe foundRecipe = MekanismRecipeType.ENERGY_CONVERSION.findFirst(null, recipe -> recipe.getInput().testType(itemStack));
+                ItemStackToEnergyRecipe foundRecipe = MekanismRecipeType.ENERGY_CONVERSION.findFirst(null, RecipeInputs.ITEM_TO_ENERGY, itemStack,
+                      recipe -> recipe.getInput().testType(itemStack));
                 return foundRecipe != null && !foundRecipe.getOutput(itemStack).isZero();
             }, false));
             //Smelting input slot
@@ -5,17 +5,14 @@ import it.unimi.dsi.fastutil.objects.Object2LongMap.Entry;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
-import mekanism.api.NBTConstants;
 import mekanism.api.annotations.FieldsAreNonnullByDefault;
 import mekanism.common.content.qio.IQIODriveItem;
 import mekanism.common.content.qio.IQIODriveItem.DriveMetadata;
 import mekanism.common.content.qio.QIODriveData;
 import mekanism.common.content.qio.QIODriveData.QIODriveKey;
+import mekanism.common.content.qio.QIODriveFormat;
 import mekanism.common.lib.inventory.HashedItem;
-import mekanism.common.util.ItemDataUtils;
 import net.minecraft.item.ItemStack;
-import net.minecraft.nbt.CompoundNBT;
-import net.minecraft.nbt.ListNBT;
 
 /**
  * QIO Drive merging data helper. Duplicates a fair bit of code from {@link QIODriveData}, but without requiring a {@link QIODriveKey}, and not validating the total size
@@ -27,26 +24,26 @@ public class QIORecipeData implements RecipeUpgradeData<QIORecipeData> {
 
     private final Object2LongMap<HashedItem> itemMap;
     private final long itemCount;
+    //If the drive's items are stored in a format we can't read, in which case we can't transfer them to the output
+    private final boolean unknownFormat;
 
-    QIORecipeData(DriveMetadata data, ListNBT nbtItemMap) {
+    QIORecipeData(DriveMetadata data, ItemStack stack) {
         itemCount = data.getCount();
         itemMap = new Object2LongOpenHashMap<>(data.getTypes());
-        for (int i = 0; i < nbtItemMap.size(); i++) {
-            CompoundNBT tag = nbtItemMap.getCompound(i);
-            ItemStack itemType = ItemStack.read(tag.getCompound(NBTConstants.ITEM));
-            itemMap.put(HashedItem.create(itemType), tag.getLong(NBTConstants.AMOUNT));
-        }
+        unknownFormat = !QIODriveFormat.isKnownFormat(stack);
+        QIODriveFormat.read(stack, itemMap, null);
     }
 
     private QIORecipeData(Object2LongMap<HashedItem> itemMap, long itemCount) {
         this.itemMap = itemMap;
         this.itemCount = itemCount;
+        this.unknownFormat = false;
     }
 
     @Nullable
     @Override
     public QIORecipeData merge(QIORecipeData other) {
-        if (itemCount <= Long.MAX_VALUE - other.itemCount) {
+        if (!unknownFormat && !other.unknownFormat && itemCount <= Long.MAX_VALUE - other.itemCount) {
             //Protect against overflow
             Object2LongMap<HashedItem> fullItemMap = new Object2LongOpenHashMap<>();
             fullItemMap.putAll(itemMap);
@@ -61,20 +58,17 @@ public class QIORecipeData implements RecipeUpgradeData<QIORecipeData> {
 
     @Override
     public boolean applyToStack(ItemStack stack) {
+        if (unknownFormat) {
+            //Don't allow crafting with drives we can't read as their contents would get lost
+            return false;
+        }
         IQIODriveItem driveItem = (IQIODriveItem) stack.getItem();
         if (itemCount > driveItem.getCountCapacity(stack) || itemMap.size() > driveItem.getTypeCapacity(stack)) {
             //If we have more items stored than the output item supports or more types stored
             // then return that we are not able to actually apply them to the stack
             return false;
         }
-        ListNBT list = new ListNBT();
-        for (Entry<HashedItem> entry : itemMap.object2LongEntrySet()) {
-            CompoundNBT tag = new CompoundNBT();
-            tag.put(NBTConstants.ITEM, entry.getKey().getStack().write(new CompoundNBT()));
-            tag.putLong(NBTConstants.AMOUNT, entry.getLongValue());
-            list.add(tag);
-        }
-        ItemDataUtils.setList(stack, NBTConstants.QIO_ITEM_MAP, list);
+        QIODriveFormat.write(stack, itemMap, null);
         DriveMetadata meta = new DriveMetadata(itemCount, itemMap.size());
         meta.write(stack);
         return true;
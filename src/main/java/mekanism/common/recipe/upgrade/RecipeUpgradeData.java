@@ -16,6 +16,7 @@ import mekanism.common.block.interfaces.IHasTileEntity;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.content.qio.IQIODriveItem;
 import mekanism.common.content.qio.IQIODriveItem.DriveMetadata;
+import mekanism.common.content.qio.QIODriveFormat;
 import mekanism.common.lib.security.ISecurityItem;
 import mekanism.common.recipe.upgrade.chemical.GasRecipeData;
 import mekanism.common.recipe.upgrade.chemical.InfusionRecipeData;
@@ -131,9 +132,10 @@ public interface RecipeUpgradeData<TYPE extends RecipeUpgradeData<TYPE>> {
                 return componentUpgrade.isEmpty() ? null : new UpgradesRecipeData(Upgrade.buildMap(componentUpgrade));
             case QIO_DRIVE:
                 DriveMetadata data = DriveMetadata.load(stack);
-                if (data.getCount() > 0 && ((IQIODriveItem) item).hasStoredItemMap(stack)) {
+                if ((data.getCount() > 0 || !QIODriveFormat.isKnownFormat(stack)) && ((IQIODriveItem) item).hasStoredItemMap(stack)) {
                     //If we don't have any stored items don't actually grab any recipe data
-                    return new QIORecipeData(data, ItemDataUtils.getList(stack, NBTConstants.QIO_ITEM_MAP));
+                    // Note: Drives in a format we can't read always get recipe data so that they can't be crafted into a drive that lost their contents
+                    return new QIORecipeData(data, stack);
                 }
                 break;
         }
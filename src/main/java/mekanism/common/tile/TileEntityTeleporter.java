@@ -3,7 +3,6 @@ package mekanism.common.tile;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -70,6 +69,10 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
     @Nullable
     private Direction frameDirection;
     private boolean frameRotated;
+    //Whether the frame needs to be checked again, set when a frame block near the teleporter gets placed or removed
+    private boolean checkFrame = true;
+    //Whether any of the chunks the frame was being looked for in weren't loaded
+    private boolean frameChunksMissing;
     private EnumColor color;
 
     /**
@@ -143,9 +146,13 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
             resetBounds();
         }
 
-        status = canTeleport();
-        if (MekanismUtils.canFunction(this) && status == 1 && teleDelay == 0) {
-            teleport();
+        if (checkFrame) {
+            updateFrame();
+        }
+        List<Entity> entitiesToTeleport = getToTeleport();
+        status = canTeleport(entitiesToTeleport);
+        if (MekanismUtils.canFunction(this) && status == 1 && teleDelay == 0 && !entitiesToTeleport.isEmpty()) {
+            teleport(entitiesToTeleport);
         }
         if (teleDelay == 0 && teleportBounds != null && !didTeleport.isEmpty()) {
             cleanTeleportCache();
@@ -174,16 +181,16 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
     }
 
     private void cleanTeleportCache() {
-        List<UUID> list = new ArrayList<>();
-        for (Entity e : world.getEntitiesWithinAABB(Entity.class, teleportBounds)) {
-            list.add(e.getUniqueID());
+        if (!WorldUtils.mayHaveEntitiesWithin(world, teleportBounds)) {
+            //Everything that got teleported here has left
+            didTeleport.clear();
+            return;
         }
-        Set<UUID> teleportCopy = new ObjectOpenHashSet<>(didTeleport);
-        for (UUID id : teleportCopy) {
-            if (!list.contains(id)) {
-                didTeleport.remove(id);
-            }
+        Set<UUID> inBounds = new ObjectOpenHashSet<>();
+        for (Entity e : world.getEntitiesWithinAABB(Entity.class, teleportBounds)) {
+            inBounds.add(e.getUniqueID());
         }
+        didTeleport.removeIf(id -> !inBounds.contains(id));
     }
 
     private void resetBounds() {
@@ -194,26 +201,54 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
         }
     }
 
+    private void updateFrame() {
+        frameChunksMissing = false;
+        Direction direction = getFrameDirection();
+        //Keep checking the frame if part of it may be in a chunk that isn't loaded, as we won't be told when the chunk loads
+        checkFrame = frameChunksMissing;
+        if (frameDirection != direction) {
+            frameDirection = direction;
+            resetBounds();
+        }
+    }
+
+    /**
+     * Marks any teleporters whose frame may include the given position as needing to check their frame again.
+     *
+     * @param world    world
+     * @param framePos position of the teleporter frame that was placed or removed
+     */
+    public static void onFrameChanged(World world, BlockPos framePos) {
+        //Frames extend at most three blocks away from the teleporter on each axis
+        Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
+        for (BlockPos pos : BlockPos.getAllInBoxMutable(framePos.add(-3, -3, -3), framePos.add(3, 3, 3))) {
+            TileEntityTeleporter teleporter = WorldUtils.getTileEntity(TileEntityTeleporter.class, world, chunkMap, pos);
+            if (teleporter != null) {
+                teleporter.checkFrame = true;
+            }
+        }
+    }
+
     /**
      * Checks whether, or why not, this teleporter can teleport entities.
      *
+     * @param entitiesToTeleport The entities that are waiting to be teleported.
+     *
      * @return 1: yes, 2: no frame, 3: no link found, 4: not enough electricity
      */
-    private byte canTeleport() {
-        Direction direction = getFrameDirection();
-        if (direction == null) {
-            frameDirection = null;
+    private byte canTeleport(List<Entity> entitiesToTeleport) {
+        if (frameDirection == null) {
             return 2;
-        } else if (frameDirection != direction) {
-            frameDirection = direction;
-            resetBounds();
         }
         Coord4D closestCoords = getClosest();
         if (closestCoords == null) {
             return 3;
+        } else if (entitiesToTeleport.isEmpty()) {
+            //Nothing to teleport so there is nothing we need energy for
+            return 1;
         }
         FloatingLong sum = FloatingLong.ZERO;
-        for (Entity entity : getToTeleport()) {
+        for (Entity entity : entitiesToTeleport) {
             sum = sum.plusEqual(calculateEnergyCost(entity, closestCoords));
         }
         if (energyContainer.extract(sum, Action.SIMULATE, AutomationType.INTERNAL).smallerThan(sum)) {
@@ -225,7 +260,7 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
     /**
      * @apiNote Only call this from the server
      */
-    private void teleport() {
+    private void teleport(List<Entity> entitiesToTeleport) {
         Coord4D closestCoords = getClosest();
         if (closestCoords == null) {
             return;
@@ -235,32 +270,29 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
         BlockPos closestPos = closestCoords.getPos();
         TileEntityTeleporter teleporter = WorldUtils.getTileEntity(TileEntityTeleporter.class, teleWorld, closestPos);
         if (teleporter != null) {
-            List<Entity> entitiesToTeleport = getToTeleport();
-            if (!entitiesToTeleport.isEmpty()) {
-                Set<Coord4D> activeCoords = getFrequency(FrequencyType.TELEPORTER).getActiveCoords();
-                for (Entity entity : entitiesToTeleport) {
-                    entity.getSelfAndPassengers().forEach(e -> teleporter.didTeleport.add(e.getUniqueID()));
-                    teleporter.teleDelay = 5;
-                    //Calculate energy cost before teleporting the entity, as after teleporting it
-                    // the cost will be negligible due to being on top of the destination
-                    FloatingLong energyCost = calculateEnergyCost(entity, closestCoords);
-                    teleportEntityTo(entity, closestCoords, teleporter);
-                    if (entity instanceof ServerPlayerEntity) {
-                        alignPlayer((ServerPlayerEntity) entity, closestPos);
-                    }
-                    for (Coord4D coords : activeCoords) {
-                        BlockPos coordsPos = coords.getPos();
-                        TileEntityTeleporter tile = WorldUtils.getTileEntity(TileEntityTeleporter.class, world, coordsPos);
-                        if (tile != null) {
-                            if (tile.frameDirection != null) {
-                                coordsPos = coordsPos.down().offset(tile.frameDirection);
-                            }
-                            Mekanism.packetHandler.sendToAllTracking(new PacketPortalFX(coordsPos), currentServer.getWorld(coords.dimension), coordsPos);
+            Set<Coord4D> activeCoords = getFrequency(FrequencyType.TELEPORTER).getActiveCoords();
+            for (Entity entity : entitiesToTeleport) {
+                entity.getSelfAndPassengers().forEach(e -> teleporter.didTeleport.add(e.getUniqueID()));
+                teleporter.teleDelay = 5;
+                //Calculate energy cost before teleporting the entity, as after teleporting it
+                // the cost will be negligible due to being on top of the destination
+                FloatingLong energyCost = calculateEnergyCost(entity, closestCoords);
+                teleportEntityTo(entity, closestCoords, teleporter);
+                if (entity instanceof ServerPlayerEntity) {
+                    alignPlayer((ServerPlayerEntity) entity, closestPos);
+                }
+                for (Coord4D coords : activeCoords) {
+                    BlockPos coordsPos = coords.getPos();
+                    TileEntityTeleporter tile = WorldUtils.getTileEntity(TileEntityTeleporter.class, world, coordsPos);
+                    if (tile != null) {
+                        if (tile.frameDirection != null) {
+                            coordsPos = coordsPos.down().offset(tile.frameDirection);
                         }
+                        Mekanism.packetHandler.sendToAllTracking(new PacketPortalFX(coordsPos), currentServer.getWorld(coords.dimension), coordsPos);
                     }
-                    energyContainer.extract(energyCost, Action.EXECUTE, AutomationType.INTERNAL);
-                    world.playSound(entity.getPosX(), entity.getPosY(), entity.getPosZ(), SoundEvents.ENTITY_ENDERMAN_TELEPORT, entity.getSoundCategory(), 1.0F, 1.0F, false);
                 }
+                energyContainer.extract(energyCost, Action.EXECUTE, AutomationType.INTERNAL);
+                world.playSound(entity.getPosX(), entity.getPosY(), entity.getPosZ(), SoundEvents.ENTITY_ENDERMAN_TELEPORT, entity.getSoundCategory(), 1.0F, 1.0F, false);
             }
         }
     }
@@ -331,7 +363,11 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
     private List<Entity> getToTeleport() {
         //Don't get entities that are currently spectator, are a passenger, or recently teleported
         //Note: Passengers get handled separately
-        return world == null || teleportBounds == null ? Collections.emptyList() : world.getEntitiesWithinAABB(Entity.class, teleportBounds,
+        //Note: Check the chunk sections the bounds are in before looking up entities, as most of the time there is nothing in the teleporter
+        if (world == null || teleportBounds == null || !WorldUtils.mayHaveEntitiesWithin(world, teleportBounds)) {
+            return Collections.emptyList();
+        }
+        return world.getEntitiesWithinAABB(Entity.class, teleportBounds,
               entity -> !entity.isSpectator() && !entity.isPassenger() && !didTeleport.contains(entity.getUniqueID()));
     }
 
@@ -408,7 +444,13 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
     }
 
     private boolean isFrame(Long2ObjectMap<IChunk> chunkMap, int xOffset, int yOffset, int zOffset) {
-        Optional<BlockState> state = WorldUtils.getBlockState(world, chunkMap, pos.add(xOffset, yOffset, zOffset));
+        BlockPos framePos = pos.add(xOffset, yOffset, zOffset);
+        Optional<BlockState> state = WorldUtils.getBlockState(world, chunkMap, framePos);
+        if (!state.isPresent()) {
+            //Positions outside the world will never have a frame, but ones in unloaded chunks may once the chunk loads
+            frameChunksMissing |= World.isValid(framePos);
+            return false;
+        }
         return state.filter(blockState -> blockState.getBlock() instanceof BlockTeleporterFrame).isPresent();
     }
 
@@ -6,6 +6,7 @@ import javax.annotation.Nullable;
 import mekanism.common.Mekanism;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.network.PacketUpdateTile;
+import mekanism.common.network.TileUpdateTracker;
 import mekanism.common.tile.interfaces.ITileWrapper;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.block.BlockState;
@@ -17,6 +18,7 @@ import net.minecraft.tileentity.TileEntity;
 import net.minecraft.tileentity.TileEntityType;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
 
 /**
  * Extension of TileEntity that adds various helpers we use across the majority of our Tiles even those that are not an instance of TileEntityMekanism. Additionally we
@@ -120,7 +122,12 @@ public abstract class TileEntityUpdateable extends TileEntity implements ITileWr
             //Note: We use our own update packet/channel to avoid chunk trashing and minecraft attempting to rerender
             // the entire chunk when most often we are just updating a TileEntityRenderer, so the chunk itself
             // does not need to and should not be redrawn
-            Mekanism.packetHandler.sendToAllTracking(new PacketUpdateTile(this), tracking);
+            if (world instanceof ServerWorld) {
+                //Only send the parts of the update tag that changed since the players tracking it were last sent it
+                TileUpdateTracker.sendUpdate((ServerWorld) world, this, tracking.getPos());
+            } else {
+                Mekanism.packetHandler.sendToAllTracking(new PacketUpdateTile(this), tracking);
+            }
         }
     }
 
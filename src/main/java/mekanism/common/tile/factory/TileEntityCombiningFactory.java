@@ -17,6 +17,7 @@ import mekanism.common.capabilities.holder.slot.InventorySlotHelper;
 import mekanism.common.inventory.container.slot.ContainerSlotType;
 import mekanism.common.inventory.slot.InputInventorySlot;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.RecipeInputs;
 import mekanism.common.upgrade.CombinerUpgradeData;
 import mekanism.common.upgrade.IUpgradeData;
 import mekanism.common.util.InventoryUtils;
@@ -37,7 +38,7 @@ public class TileEntityCombiningFactory extends TileEntityItemToItemFactory<Comb
     @Override
     protected void addSlots(InventorySlotHelper builder, IContentsListener updateSortingListener) {
         super.addSlots(builder, updateSortingListener);
-        builder.addSlot(extraSlot = InputInventorySlot.at(stack -> containsRecipe(recipe -> recipe.getExtraInput().testType(stack)), updateSortingListener, 7, 57));
+        builder.addSlot(extraSlot = InputInventorySlot.at(stack -> containsRecipe(RecipeInputs.COMBINER_EXTRA, stack), updateSortingListener, 7, 57));
         extraSlot.setSlotType(ContainerSlotType.EXTRA);
     }
 
@@ -49,7 +50,7 @@ public class TileEntityCombiningFactory extends TileEntityItemToItemFactory<Comb
 
     @Override
     public boolean isValidInputItem(@Nonnull ItemStack stack) {
-        return containsRecipe(recipe -> recipe.getMainInput().testType(stack));
+        return containsRecipe(RecipeInputs.COMBINER_MAIN, stack);
     }
 
     @Override
@@ -70,7 +71,7 @@ public class TileEntityCombiningFactory extends TileEntityItemToItemFactory<Comb
     protected CombinerRecipe findRecipe(int process, @Nonnull ItemStack fallbackInput, @Nonnull IInventorySlot outputSlot, @Nullable IInventorySlot secondaryOutputSlot) {
         ItemStack extra = extraSlot.getStack();
         ItemStack output = outputSlot.getStack();
-        return findFirstRecipe(recipe -> {
+        return findFirstRecipe(RecipeInputs.COMBINER_MAIN, fallbackInput, recipe -> {
             if (recipe.getMainInput().testType(fallbackInput)) {
                 if (extra.isEmpty() || recipe.getExtraInput().testType(extra)) {
                     return InventoryUtils.areItemsStackable(recipe.getOutput(fallbackInput, extra), output);
@@ -97,7 +98,7 @@ public class TileEntityCombiningFactory extends TileEntityItemToItemFactory<Comb
         if (extra.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack, extra));
+        return findFirstRecipe(RecipeInputs.COMBINER_MAIN, stack, recipe -> recipe.test(stack, extra));
     }
 
     @Override
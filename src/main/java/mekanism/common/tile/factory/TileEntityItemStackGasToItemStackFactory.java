@@ -25,6 +25,7 @@ import mekanism.common.capabilities.holder.slot.InventorySlotHelper;
 import mekanism.common.inventory.slot.chemical.GasInventorySlot;
 import mekanism.common.lib.transmitter.TransmissionType;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.RecipeInputs;
 import mekanism.common.tile.interfaces.IHasDumpButton;
 import mekanism.common.tile.prefab.TileEntityAdvancedElectricMachine;
 import mekanism.common.upgrade.AdvancedMachineUpgradeData;
@@ -57,7 +58,7 @@ public class TileEntityItemStackGasToItemStackFactory extends TileEntityItemToIt
         //If the tank's contents change make sure to call our extended content listener that also marks sorting as being needed
         // as maybe the valid recipes have changed and we need to sort again
         builder.addTank(gasTank = ChemicalTankBuilder.GAS.input(TileEntityAdvancedElectricMachine.MAX_GAS * tier.processes,
-              gas -> containsRecipe(recipe -> recipe.getChemicalInput().testType(gas)), this::onContentsChangedUpdateSorting));
+              gas -> containsRecipe(RecipeInputs.ITEM_GAS_TO_ITEM_GAS, gas), this::onContentsChangedUpdateSorting));
         return builder.build();
     }
 
@@ -80,7 +81,7 @@ public class TileEntityItemStackGasToItemStackFactory extends TileEntityItemToIt
 
     @Override
     public boolean isValidInputItem(@Nonnull ItemStack stack) {
-        return containsRecipe(recipe -> recipe.getItemInput().testType(stack));
+        return containsRecipe(RecipeInputs.ITEM_GAS_TO_ITEM_ITEM, stack);
     }
 
     @Override
@@ -103,7 +104,7 @@ public class TileEntityItemStackGasToItemStackFactory extends TileEntityItemToIt
         GasStack gasStack = gasTank.getStack();
         Gas gas = gasStack.getType();
         ItemStack output = outputSlot.getStack();
-        return findFirstRecipe(recipe -> {
+        return findFirstRecipe(RecipeInputs.ITEM_GAS_TO_ITEM_ITEM, fallbackInput, recipe -> {
             if (recipe.getItemInput().testType(fallbackInput)) {
                 //If we don't have a gas stored ignore checking for a match
                 if (gasStack.isEmpty() || recipe.getChemicalInput().testType(gas)) {
@@ -146,7 +147,7 @@ public class TileEntityItemStackGasToItemStackFactory extends TileEntityItemToIt
         if (gasStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack, gasStack));
+        return findFirstRecipe(RecipeInputs.ITEM_GAS_TO_ITEM_ITEM, stack, recipe -> recipe.test(stack, gasStack));
     }
 
     @Override
@@ -9,6 +9,7 @@ import mekanism.api.recipes.ItemStackToItemStackRecipe;
 import mekanism.api.recipes.cache.CachedRecipe;
 import mekanism.api.recipes.cache.ItemStackToItemStackCachedRecipe;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.RecipeInputs;
 import mekanism.common.upgrade.MachineUpgradeData;
 import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.MekanismUtils;
@@ -23,7 +24,7 @@ public class TileEntityItemStackToItemStackFactory extends TileEntityItemToItemF
 
     @Override
     public boolean isValidInputItem(@Nonnull ItemStack stack) {
-        return containsRecipe(recipe -> recipe.getInput().testType(stack));
+        return containsRecipe(RecipeInputs.ITEM_TO_ITEM, stack);
     }
 
     @Override
@@ -40,7 +41,8 @@ public class TileEntityItemStackToItemStackFactory extends TileEntityItemToItemF
     protected ItemStackToItemStackRecipe findRecipe(int process, @Nonnull ItemStack fallbackInput, @Nonnull IInventorySlot outputSlot,
           @Nullable IInventorySlot secondaryOutputSlot) {
         ItemStack output = outputSlot.getStack();
-        return findFirstRecipe(recipe -> recipe.getInput().testType(fallbackInput) && InventoryUtils.areItemsStackable(recipe.getOutput(fallbackInput), output));
+        return findFirstRecipe(RecipeInputs.ITEM_TO_ITEM, fallbackInput,
+              recipe -> recipe.getInput().testType(fallbackInput) && InventoryUtils.areItemsStackable(recipe.getOutput(fallbackInput), output));
     }
 
     @Nonnull
@@ -65,7 +67,7 @@ public class TileEntityItemStackToItemStackFactory extends TileEntityItemToItemF
         if (stack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack));
+        return findFirstRecipe(RecipeInputs.ITEM_TO_ITEM, stack, recipe -> recipe.test(stack));
     }
 
     @Override
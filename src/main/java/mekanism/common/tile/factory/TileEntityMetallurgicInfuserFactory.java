@@ -24,6 +24,7 @@ import mekanism.common.capabilities.holder.slot.InventorySlotHelper;
 import mekanism.common.inventory.slot.chemical.InfusionInventorySlot;
 import mekanism.common.lib.transmitter.TransmissionType;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.RecipeInputs;
 import mekanism.common.tile.interfaces.IHasDumpButton;
 import mekanism.common.tile.machine.TileEntityMetallurgicInfuser;
 import mekanism.common.upgrade.IUpgradeData;
@@ -53,7 +54,7 @@ public class TileEntityMetallurgicInfuserFactory extends TileEntityItemToItemFac
         //If the tank's contents change make sure to call our extended content listener that also marks sorting as being needed
         // as maybe the valid recipes have changed and we need to sort again
         builder.addTank(infusionTank = ChemicalTankBuilder.INFUSION.create(TileEntityMetallurgicInfuser.MAX_INFUSE * tier.processes,
-              type -> containsRecipe(recipe -> recipe.getInfusionInput().testType(type)), this::onContentsChangedUpdateSorting));
+              type -> containsRecipe(RecipeInputs.METALLURGIC_INFUSER_INFUSE_TYPE, type), this::onContentsChangedUpdateSorting));
         return builder.build();
     }
 
@@ -76,7 +77,7 @@ public class TileEntityMetallurgicInfuserFactory extends TileEntityItemToItemFac
 
     @Override
     public boolean isValidInputItem(@Nonnull ItemStack stack) {
-        return containsRecipe(recipe -> recipe.getItemInput().testType(stack));
+        return containsRecipe(RecipeInputs.METALLURGIC_INFUSER_ITEM, stack);
     }
 
     @Override
@@ -99,7 +100,7 @@ public class TileEntityMetallurgicInfuserFactory extends TileEntityItemToItemFac
         long stored = infusionTank.getStored();
         InfuseType type = infusionTank.getType();
         ItemStack output = outputSlot.getStack();
-        return findFirstRecipe(recipe -> {
+        return findFirstRecipe(RecipeInputs.METALLURGIC_INFUSER_ITEM, fallbackInput, recipe -> {
             //Check the infusion type before the ItemStack type as it a quicker easier compare check
             if (stored == 0 || recipe.getInfusionInput().testType(type)) {
                 return recipe.getItemInput().testType(fallbackInput) && InventoryUtils.areItemsStackable(recipe.getOutput(infusionTank.getStack(), fallbackInput), output);
@@ -135,7 +136,7 @@ public class TileEntityMetallurgicInfuserFactory extends TileEntityItemToItemFac
         if (infusionStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(infusionStack, stack));
+        return findFirstRecipe(RecipeInputs.METALLURGIC_INFUSER_ITEM, stack, recipe -> recipe.test(infusionStack, stack));
     }
 
     @Override
@@ -21,6 +21,7 @@ import mekanism.common.capabilities.holder.slot.InventorySlotHelper;
 import mekanism.common.inventory.slot.FactoryInputInventorySlot;
 import mekanism.common.inventory.slot.OutputInventorySlot;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.RecipeInputs;
 import mekanism.common.tier.FactoryTier;
 import mekanism.common.upgrade.IUpgradeData;
 import mekanism.common.upgrade.SawmillUpgradeData;
@@ -61,7 +62,7 @@ public class TileEntitySawingFactory extends TileEntityFactory<SawmillRecipe> {
 
     @Override
     public boolean isValidInputItem(@Nonnull ItemStack stack) {
-        return containsRecipe(recipe -> recipe.getInput().testType(stack));
+        return containsRecipe(RecipeInputs.SAWMILL, stack);
     }
 
     @Override
@@ -78,7 +79,7 @@ public class TileEntitySawingFactory extends TileEntityFactory<SawmillRecipe> {
     protected SawmillRecipe findRecipe(int process, @Nonnull ItemStack fallbackInput, @Nonnull IInventorySlot outputSlot, @Nullable IInventorySlot secondaryOutputSlot) {
         ItemStack output = outputSlot.getStack();
         ItemStack extra = secondaryOutputSlot == null ? ItemStack.EMPTY : secondaryOutputSlot.getStack();
-        return findFirstRecipe(recipe -> {
+        return findFirstRecipe(RecipeInputs.SAWMILL, fallbackInput, recipe -> {
             if (recipe.getInput().testType(fallbackInput)) {
                 ChanceOutput chanceOutput = recipe.getOutput(fallbackInput);
                 if (InventoryUtils.areItemsStackable(chanceOutput.getMainOutput(), output)) {
@@ -108,7 +109,7 @@ public class TileEntitySawingFactory extends TileEntityFactory<SawmillRecipe> {
         if (stack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack));
+        return findFirstRecipe(RecipeInputs.SAWMILL, stack, recipe -> recipe.test(stack));
     }
 
     @Override
@@ -7,6 +7,7 @@ import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.cache.ICachedRecipeHolder;
 import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.RecipeInput;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
 
@@ -35,6 +36,19 @@ public interface ITileCachedRecipeHolder<RECIPE extends MekanismRecipe> extends
         return getRecipeType().findFirst(getTileWorld(), matchCriteria);
     }
 
+    default <INPUT> boolean containsRecipe(@Nonnull RecipeInput<? super RECIPE, INPUT> input, @Nonnull INPUT value) {
+        return getRecipeType().contains(getTileWorld(), input, value);
+    }
+
+    default <INPUT> boolean containsRecipe(@Nonnull RecipeInput<? super RECIPE, INPUT> input, @Nonnull INPUT value, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().contains(getTileWorld(), input, value, matchCriteria);
+    }
+
+    @Nullable
+    default <INPUT> RECIPE findFirstRecipe(@Nonnull RecipeInput<? super RECIPE, INPUT> input, @Nonnull INPUT value, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().findFirst(getTileWorld(), input, value, matchCriteria);
+    }
+
     @Override
     default boolean invalidateCache() {
         return CommonWorldTickHandler.flushTagAndRecipeCaches;
@@ -32,6 +32,7 @@ import mekanism.common.inventory.slot.OutputInventorySlot;
 import mekanism.common.inventory.slot.chemical.GasInventorySlot;
 import mekanism.common.lib.transmitter.TransmissionType;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.RecipeInputs;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tile.component.TileComponentConfig;
 import mekanism.common.tile.component.TileComponentEjector;
@@ -77,7 +78,7 @@ public class TileEntityAntiprotonicNucleosynthesizer extends TileEntityProgressM
     @Override
     public IChemicalTankHolder<Gas, GasStack, IGasTank> getInitialGasTanks() {
         ChemicalTankHelper<Gas, GasStack, IGasTank> builder = ChemicalTankHelper.forSideGasWithConfig(this::getDirection, this::getConfig);
-        builder.addTank(gasTank = ChemicalTankBuilder.GAS.input(MAX_GAS, gas -> containsRecipe(recipe -> recipe.getChemicalInput().testType(gas)), this));
+        builder.addTank(gasTank = ChemicalTankBuilder.GAS.input(MAX_GAS, gas -> containsRecipe(RecipeInputs.ITEM_GAS_TO_ITEM_GAS, gas), this));
         return builder.build();
     }
 
@@ -94,7 +95,7 @@ public class TileEntityAntiprotonicNucleosynthesizer extends TileEntityProgressM
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
         builder.addSlot(gasInputSlot = GasInventorySlot.fillOrConvert(gasTank, this::getWorld, this, 6, 69));
-        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getItemInput().testType(item)), this, 26, 40));
+        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(RecipeInputs.ITEM_GAS_TO_ITEM_ITEM, item), this, 26, 40));
         builder.addSlot(outputSlot = OutputInventorySlot.at(this, 152, 40));
         builder.addSlot(energySlot = EnergyInventorySlot.fillOrConvert(energyContainer, this::getWorld, this, 173, 69));
         gasInputSlot.setSlotOverlay(SlotOverlay.MINUS);
@@ -140,7 +141,7 @@ public class TileEntityAntiprotonicNucleosynthesizer extends TileEntityProgressM
         if (gasStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack, gasStack));
+        return findFirstRecipe(RecipeInputs.ITEM_GAS_TO_ITEM_ITEM, stack, recipe -> recipe.test(stack, gasStack));
     }
 
     @Nullable
@@ -37,6 +37,7 @@ import mekanism.common.inventory.slot.chemical.GasInventorySlot;
 import mekanism.common.inventory.slot.chemical.MergedChemicalInventorySlot;
 import mekanism.common.lib.transmitter.TransmissionType;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.RecipeInputs;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tile.component.TileComponentConfig;
 import mekanism.common.tile.component.TileComponentEjector;
@@ -98,7 +99,7 @@ public class TileEntityChemicalDissolutionChamber extends TileEntityProgressMach
     @Override
     public IChemicalTankHolder<Gas, GasStack, IGasTank> getInitialGasTanks() {
         ChemicalTankHelper<Gas, GasStack, IGasTank> builder = ChemicalTankHelper.forSideGasWithConfig(this::getDirection, this::getConfig);
-        builder.addTank(injectTank = ChemicalTankBuilder.GAS.input(MAX_CHEMICAL, gas -> containsRecipe(recipe -> recipe.getGasInput().testType(gas)), this));
+        builder.addTank(injectTank = ChemicalTankBuilder.GAS.input(MAX_CHEMICAL, gas -> containsRecipe(RecipeInputs.DISSOLUTION_GAS, gas), this));
         builder.addTank(outputTank.getGasTank());
         return builder.build();
     }
@@ -140,7 +141,7 @@ public class TileEntityChemicalDissolutionChamber extends TileEntityProgressMach
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
         builder.addSlot(gasInputSlot = GasInventorySlot.fillOrConvert(injectTank, this::getWorld, this, 8, 65));
-        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getItemInput().testType(item)), this, 28, 36));
+        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(RecipeInputs.DISSOLUTION_ITEM, item), this, 28, 36));
         builder.addSlot(outputSlot = MergedChemicalInventorySlot.drain(outputTank, this, 152, 25));
         builder.addSlot(energySlot = EnergyInventorySlot.fillOrConvert(energyContainer, this::getWorld, this, 152, 5));
         gasInputSlot.setSlotOverlay(SlotOverlay.MINUS);
@@ -177,7 +178,7 @@ public class TileEntityChemicalDissolutionChamber extends TileEntityProgressMach
         if (gasStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack, gasStack));
+        return findFirstRecipe(RecipeInputs.DISSOLUTION_ITEM, stack, recipe -> recipe.test(stack, gasStack));
     }
 
     @Nullable
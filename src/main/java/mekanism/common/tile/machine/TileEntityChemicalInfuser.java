@@ -15,7 +15,6 @@ import mekanism.api.recipes.cache.CachedRecipe;
 import mekanism.api.recipes.cache.ChemicalInfuserCachedRecipe;
 import mekanism.api.recipes.inputs.IInputHandler;
 import mekanism.api.recipes.inputs.InputHelper;
-import mekanism.api.recipes.inputs.chemical.GasStackIngredient;
 import mekanism.api.recipes.outputs.IOutputHandler;
 import mekanism.api.recipes.outputs.OutputHelper;
 import mekanism.common.capabilities.energy.MachineEnergyContainer;
@@ -33,6 +32,7 @@ import mekanism.common.inventory.slot.EnergyInventorySlot;
 import mekanism.common.inventory.slot.chemical.GasInventorySlot;
 import mekanism.common.lib.transmitter.TransmissionType;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.RecipeInputs;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tile.component.TileComponentConfig;
 import mekanism.common.tile.component.TileComponentEjector;
@@ -113,7 +113,7 @@ public class TileEntityChemicalInfuser extends TileEntityRecipeMachine<ChemicalI
     }
 
     private boolean isValidGas(@Nonnull Gas gas) {
-        return containsRecipe(recipe -> recipe.getLeftInput().testType(gas) || recipe.getRightInput().testType(gas));
+        return containsRecipe(RecipeInputs.CHEMICAL_INFUSER_LEFT, gas) || containsRecipe(RecipeInputs.CHEMICAL_INFUSER_RIGHT, gas);
     }
 
     private boolean isValidGas(@Nonnull Gas gas, IGasTank otherTank) {
@@ -122,11 +122,8 @@ public class TileEntityChemicalInfuser extends TileEntityRecipeMachine<ChemicalI
             return true;
         }
         GasStack stack = otherTank.getStack();
-        return containsRecipe(recipe -> {
-            GasStackIngredient leftInput = recipe.getLeftInput();
-            GasStackIngredient rightInput = recipe.getRightInput();
-            return rightInput.testType(gas) && leftInput.testType(stack) || leftInput.testType(gas) && rightInput.testType(stack);
-        });
+        return containsRecipe(RecipeInputs.CHEMICAL_INFUSER_LEFT, gas, recipe -> recipe.getLeftInput().testType(gas) && recipe.getRightInput().testType(stack)) ||
+               containsRecipe(RecipeInputs.CHEMICAL_INFUSER_RIGHT, gas, recipe -> recipe.getRightInput().testType(gas) && recipe.getLeftInput().testType(stack));
     }
 
     @Nonnull
@@ -188,7 +185,12 @@ public class TileEntityChemicalInfuser extends TileEntityRecipeMachine<ChemicalI
         if (rightGas.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(leftGas, rightGas));
+        ChemicalInfuserRecipe found = findFirstRecipe(RecipeInputs.CHEMICAL_INFUSER_LEFT, leftGas.getType(), recipe -> recipe.test(leftGas, rightGas));
+        if (found == null) {
+            //Recipes accept the gases in either tank, so if our left gas isn't a recipe's left input check if it is the right input of one
+            found = findFirstRecipe(RecipeInputs.CHEMICAL_INFUSER_RIGHT, leftGas.getType(), recipe -> recipe.test(leftGas, rightGas));
+        }
+        return found;
     }
 
     @Nullable
@@ -28,6 +28,7 @@ import mekanism.common.inventory.slot.InputInventorySlot;
 import mekanism.common.inventory.slot.chemical.GasInventorySlot;
 import mekanism.common.lib.transmitter.TransmissionType;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.RecipeInputs;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tile.component.TileComponentConfig;
 import mekanism.common.tile.component.TileComponentEjector;
@@ -82,7 +83,7 @@ public class TileEntityChemicalOxidizer extends TileEntityProgressMachine<ItemSt
     @Override
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
-        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getInput().testType(item)), this, 26, 36));
+        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(RecipeInputs.ITEM_TO_CHEMICAL, item), this, 26, 36));
         builder.addSlot(outputSlot = GasInventorySlot.drain(gasTank, this, 155, 25));
         builder.addSlot(energySlot = EnergyInventorySlot.fillOrConvert(energyContainer, this::getWorld, this, 155, 5));
         outputSlot.setSlotOverlay(SlotOverlay.PLUS);
@@ -113,7 +114,7 @@ public class TileEntityChemicalOxidizer extends TileEntityProgressMachine<ItemSt
         if (stack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack));
+        return findFirstRecipe(RecipeInputs.ITEM_TO_CHEMICAL, stack, recipe -> recipe.test(stack));
     }
 
     @Nullable
@@ -21,6 +21,7 @@ import mekanism.common.inventory.slot.InputInventorySlot;
 import mekanism.common.inventory.slot.OutputInventorySlot;
 import mekanism.common.lib.transmitter.TransmissionType;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.RecipeInputs;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tile.component.TileComponentConfig;
 import mekanism.common.tile.component.TileComponentEjector;
@@ -68,8 +69,8 @@ public class TileEntityCombiner extends TileEntityProgressMachine<CombinerRecipe
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
         //TODO: Should we limit ACTUAL insertion to be based on the other slot's contents?
-        builder.addSlot(mainInputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getMainInput().testType(item)), this, 64, 17));
-        builder.addSlot(extraInputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getExtraInput().testType(item)), this, 64, 53));
+        builder.addSlot(mainInputSlot = InputInventorySlot.at(item -> containsRecipe(RecipeInputs.COMBINER_MAIN, item), this, 64, 17));
+        builder.addSlot(extraInputSlot = InputInventorySlot.at(item -> containsRecipe(RecipeInputs.COMBINER_EXTRA, item), this, 64, 53));
         builder.addSlot(outputSlot = OutputInventorySlot.at(this, 116, 35));
         builder.addSlot(energySlot = EnergyInventorySlot.fillOrConvert(energyContainer, this::getWorld, this, 39, 35));
         extraInputSlot.setSlotType(ContainerSlotType.EXTRA);
@@ -103,7 +104,7 @@ public class TileEntityCombiner extends TileEntityProgressMachine<CombinerRecipe
         if (extraStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack, extraStack));
+        return findFirstRecipe(RecipeInputs.COMBINER_MAIN, stack, recipe -> recipe.test(stack, extraStack));
     }
 
     @Nullable
@@ -84,7 +84,6 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.vector.Vector3d;
 import net.minecraft.util.math.vector.Vector3i;
-import net.minecraft.world.Region;
 import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.capabilities.Capability;
@@ -584,8 +583,6 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
             return;
         }
         if (searcher.state == State.IDLE) {
-            BlockPos startingPos = getStartingPos();
-            searcher.setChunkCache(new Region(getWorld(), startingPos, startingPos.add(getDiameter(), getMaxY() - getMinY() + 1, getDiameter())));
             searcher.start();
         }
         running = true;
@@ -594,7 +591,6 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
 
     public void stop() {
         if (searcher.state == State.SEARCHING) {
-            searcher.interrupt();
             reset();
             return;
         } else if (searcher.state == State.FINISHED) {
@@ -604,6 +600,8 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     }
 
     public void reset() {
+        //Make sure a search that is still running doesn't overwrite what we are resetting once it finishes
+        searcher.cancel();
         searcher = new ThreadMinerSearch(this);
         running = false;
         cachedToMine = 0;
@@ -945,7 +943,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         container.track(SyncableBoolean.create(() -> running, value -> running = value));
         container.track(SyncableBoolean.create(this::getSilkTouch, this::setSilkTouch));
         container.track(SyncableEnum.create(State::byIndexStatic, State.IDLE, () -> searcher.state, value -> searcher.state = value));
-        container.track(SyncableInt.create(() -> !isRemote() && searcher.state == State.SEARCHING ? searcher.found : cachedToMine, value -> cachedToMine = value));
+        container.track(SyncableInt.create(() -> !isRemote() && searcher.state == State.SEARCHING ? searcher.getFound() : cachedToMine, value -> cachedToMine = value));
         container.track(SyncableItemStack.create(() -> missingStack, value -> missingStack = value));
     }
 
@@ -39,6 +39,7 @@ import mekanism.common.inventory.slot.FluidInventorySlot;
 import mekanism.common.inventory.slot.chemical.GasInventorySlot;
 import mekanism.common.lib.transmitter.TransmissionType;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.RecipeInputs;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tile.TileEntityChemicalTank.GasMode;
 import mekanism.common.tile.component.TileComponentConfig;
@@ -136,7 +137,7 @@ public class TileEntityElectrolyticSeparator extends TileEntityRecipeMachine<Ele
     @Override
     protected IFluidTankHolder getInitialFluidTanks() {
         FluidTankHelper builder = FluidTankHelper.forSideWithConfig(this::getDirection, this::getConfig);
-        builder.addTank(fluidTank = BasicFluidTank.input(24_000, fluid -> containsRecipe(recipe -> recipe.getInput().testType(fluid)), this));
+        builder.addTank(fluidTank = BasicFluidTank.input(24_000, fluid -> containsRecipe(RecipeInputs.ELECTROLYSIS, fluid), this));
         return builder.build();
     }
 
@@ -230,7 +231,7 @@ public class TileEntityElectrolyticSeparator extends TileEntityRecipeMachine<Ele
         if (fluid.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(fluid));
+        return findFirstRecipe(RecipeInputs.ELECTROLYSIS, fluid, recipe -> recipe.test(fluid));
     }
 
     @Nullable
@@ -33,6 +33,7 @@ import mekanism.common.inventory.slot.EnergyInventorySlot;
 import mekanism.common.inventory.slot.chemical.GasInventorySlot;
 import mekanism.common.lib.transmitter.TransmissionType;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.RecipeInputs;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tile.component.TileComponentConfig;
 import mekanism.common.tile.component.TileComponentEjector;
@@ -80,7 +81,7 @@ public class TileEntityIsotopicCentrifuge extends TileEntityRecipeMachine<GasToG
     public IChemicalTankHolder<Gas, GasStack, IGasTank> getInitialGasTanks() {
         ChemicalTankHelper<Gas, GasStack, IGasTank> builder = ChemicalTankHelper.forSideGasWithConfig(this::getDirection, this::getConfig);
         builder.addTank(inputTank = ChemicalTankBuilder.GAS.create(MAX_GAS, ChemicalTankBuilder.GAS.notExternal, ChemicalTankBuilder.GAS.alwaysTrueBi,
-              gas -> containsRecipe(recipe -> recipe.getInput().testType(gas)), ChemicalAttributeValidator.ALWAYS_ALLOW, this));
+              gas -> containsRecipe(RecipeInputs.GAS_TO_GAS, gas), ChemicalAttributeValidator.ALWAYS_ALLOW, this));
         builder.addTank(outputTank = ChemicalTankBuilder.GAS.output(MAX_GAS, this));
         return builder.build();
     }
@@ -135,7 +136,7 @@ public class TileEntityIsotopicCentrifuge extends TileEntityRecipeMachine<GasToG
         if (gas.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(gas));
+        return findFirstRecipe(RecipeInputs.GAS_TO_GAS, gas.getType(), recipe -> recipe.test(gas));
     }
 
     @Nullable
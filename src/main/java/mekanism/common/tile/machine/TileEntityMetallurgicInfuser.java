@@ -28,6 +28,7 @@ import mekanism.common.inventory.slot.OutputInventorySlot;
 import mekanism.common.inventory.slot.chemical.InfusionInventorySlot;
 import mekanism.common.lib.transmitter.TransmissionType;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.RecipeInputs;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tile.component.TileComponentConfig;
 import mekanism.common.tile.component.TileComponentEjector;
@@ -74,11 +75,12 @@ public class TileEntityMetallurgicInfuser extends TileEntityProgressMachine<Meta
         builder.addTank(infusionTank = ChemicalTankBuilder.INFUSION.create(MAX_INFUSE, ChemicalTankBuilder.INFUSION.alwaysTrueBi, (type, automationType) -> {
             if (!inputSlot.isEmpty()) {
                 ItemStack stack = inputSlot.getStack();
-                return containsRecipe(recipe -> recipe.getItemInput().testType(stack) && recipe.getInfusionInput().testType(type));
+                return containsRecipe(RecipeInputs.METALLURGIC_INFUSER_INFUSE_TYPE, type,
+                      recipe -> recipe.getItemInput().testType(stack) && recipe.getInfusionInput().testType(type));
             }
             //Otherwise return true, as we already validated the type was valid
             return true;
-        }, type -> containsRecipe(recipe -> recipe.getInfusionInput().testType(type)), this));
+        }, type -> containsRecipe(RecipeInputs.METALLURGIC_INFUSER_INFUSE_TYPE, type), this));
         return builder.build();
     }
 
@@ -97,11 +99,12 @@ public class TileEntityMetallurgicInfuser extends TileEntityProgressMachine<Meta
         builder.addSlot(infusionSlot = InfusionInventorySlot.fillOrConvert(infusionTank, this::getWorld, this, 17, 35));
         builder.addSlot(inputSlot = InputInventorySlot.at(stack -> {
             if (!infusionTank.isEmpty()) {
-                return containsRecipe(recipe -> recipe.getInfusionInput().testType(infusionTank.getType()) && recipe.getItemInput().testType(stack));
+                return containsRecipe(RecipeInputs.METALLURGIC_INFUSER_ITEM, stack,
+                      recipe -> recipe.getInfusionInput().testType(infusionTank.getType()) && recipe.getItemInput().testType(stack));
             }
             //Otherwise return true, as we already validated the type was valid
             return true;
-        }, stack -> containsRecipe(recipe -> recipe.getItemInput().testType(stack)), this, 51, 43));
+        }, stack -> containsRecipe(RecipeInputs.METALLURGIC_INFUSER_ITEM, stack), this, 51, 43));
         builder.addSlot(outputSlot = OutputInventorySlot.at(this, 109, 43));
         builder.addSlot(energySlot = EnergyInventorySlot.fillOrConvert(energyContainer, this::getWorld, this, 143, 35));
         return builder.build();
@@ -135,7 +138,7 @@ public class TileEntityMetallurgicInfuser extends TileEntityProgressMachine<Meta
         if (infusionStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(infusionStack, stack));
+        return findFirstRecipe(RecipeInputs.METALLURGIC_INFUSER_ITEM, stack, recipe -> recipe.test(infusionStack, stack));
     }
 
     @Nullable
@@ -23,6 +23,7 @@ import mekanism.common.inventory.slot.InputInventorySlot;
 import mekanism.common.inventory.slot.OutputInventorySlot;
 import mekanism.common.lib.transmitter.TransmissionType;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.RecipeInputs;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tile.component.TileComponentConfig;
 import mekanism.common.tile.component.TileComponentEjector;
@@ -67,7 +68,7 @@ public class TileEntityPrecisionSawmill extends TileEntityProgressMachine<Sawmil
     @Override
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
-        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getInput().testType(item)), this, 56, 17));
+        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(RecipeInputs.SAWMILL, item), this, 56, 17));
         builder.addSlot(outputSlot = OutputInventorySlot.at(this, 116, 35));
         builder.addSlot(secondaryOutputSlot = OutputInventorySlot.at(this, 132, 35));
         builder.addSlot(energySlot = EnergyInventorySlot.fillOrConvert(energyContainer, this::getWorld, this, 56, 53));
@@ -97,7 +98,7 @@ public class TileEntityPrecisionSawmill extends TileEntityProgressMachine<Sawmil
         if (stack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack));
+        return findFirstRecipe(RecipeInputs.SAWMILL, stack, recipe -> recipe.test(stack));
     }
 
     @Nullable
@@ -32,6 +32,7 @@ import mekanism.common.inventory.slot.InputInventorySlot;
 import mekanism.common.inventory.slot.OutputInventorySlot;
 import mekanism.common.lib.transmitter.TransmissionType;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.RecipeInputs;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tile.component.TileComponentConfig;
 import mekanism.common.tile.component.TileComponentEjector;
@@ -82,7 +83,7 @@ public class TileEntityPressurizedReactionChamber extends TileEntityProgressMach
     public IChemicalTankHolder<Gas, GasStack, IGasTank> getInitialGasTanks() {
         ChemicalTankHelper<Gas, GasStack, IGasTank> builder = ChemicalTankHelper.forSideGasWithConfig(this::getDirection, this::getConfig);
         builder.addTank(inputGasTank = ChemicalTankBuilder.GAS.create(MAX_GAS, ChemicalTankBuilder.GAS.notExternal, ChemicalTankBuilder.GAS.alwaysTrueBi,
-              gas -> containsRecipe(recipe -> recipe.getInputGas().testType(gas)), ChemicalAttributeValidator.ALWAYS_ALLOW, this));
+              gas -> containsRecipe(RecipeInputs.REACTION_GAS, gas), ChemicalAttributeValidator.ALWAYS_ALLOW, this));
         builder.addTank(outputGasTank = ChemicalTankBuilder.GAS.output(MAX_GAS, this));
         return builder.build();
     }
@@ -91,7 +92,7 @@ public class TileEntityPressurizedReactionChamber extends TileEntityProgressMach
     @Override
     protected IFluidTankHolder getInitialFluidTanks() {
         FluidTankHelper builder = FluidTankHelper.forSideWithConfig(this::getDirection, this::getConfig);
-        builder.addTank(inputFluidTank = BasicFluidTank.input(10_000, fluid -> containsRecipe(recipe -> recipe.getInputFluid().testType(fluid)), this));
+        builder.addTank(inputFluidTank = BasicFluidTank.input(10_000, fluid -> containsRecipe(RecipeInputs.REACTION_FLUID, fluid), this));
         return builder.build();
     }
 
@@ -107,7 +108,7 @@ public class TileEntityPressurizedReactionChamber extends TileEntityProgressMach
     @Override
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
-        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getInputSolid().testType(item)), this, 54, 35));
+        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(RecipeInputs.REACTION_ITEM, item), this, 54, 35));
         builder.addSlot(outputSlot = OutputInventorySlot.at(this, 116, 35));
         builder.addSlot(energySlot = EnergyInventorySlot.fillOrConvert(energyContainer, this::getWorld, this, 141, 17));
         return builder.build();
@@ -156,7 +157,7 @@ public class TileEntityPressurizedReactionChamber extends TileEntityProgressMach
         if (gas.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack, fluid, gas));
+        return findFirstRecipe(RecipeInputs.REACTION_ITEM, stack, recipe -> recipe.test(stack, fluid, gas));
     }
 
     @Nullable
@@ -44,6 +44,7 @@ import mekanism.common.inventory.slot.OutputInventorySlot;
 import mekanism.common.inventory.slot.chemical.GasInventorySlot;
 import mekanism.common.lib.transmitter.TransmissionType;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.RecipeInputs;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tile.component.TileComponentConfig;
 import mekanism.common.tile.component.TileComponentEjector;
@@ -112,7 +113,7 @@ public class TileEntityRotaryCondensentrator extends TileEntityRecipeMachine<Rot
     }
 
     private boolean isValidGas(@Nonnull Gas gas) {
-        return containsRecipe(recipe -> recipe.hasGasToFluid() && recipe.getGasInput().testType(gas));
+        return containsRecipe(RecipeInputs.ROTARY_GAS, gas, recipe -> recipe.hasGasToFluid() && recipe.getGasInput().testType(gas));
     }
 
     @Nonnull
@@ -125,7 +126,7 @@ public class TileEntityRotaryCondensentrator extends TileEntityRecipeMachine<Rot
     }
 
     private boolean isValidFluid(@Nonnull FluidStack fluidStack) {
-        return containsRecipe(recipe -> recipe.hasFluidToGas() && recipe.getFluidInput().testType(fluidStack));
+        return containsRecipe(RecipeInputs.ROTARY_FLUID, fluidStack, recipe -> recipe.hasFluidToGas() && recipe.getFluidInput().testType(fluidStack));
     }
 
     @Nonnull
@@ -226,14 +227,14 @@ public class TileEntityRotaryCondensentrator extends TileEntityRecipeMachine<Rot
             if (fluid.isEmpty()) {
                 return null;
             }
-            return findFirstRecipe(recipe -> recipe.test(fluid));
+            return findFirstRecipe(RecipeInputs.ROTARY_FLUID, fluid, recipe -> recipe.test(fluid));
         }
         //Gas to Fluid
         GasStack gas = gasInputHandler.getInput();
         if (gas.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(gas));
+        return findFirstRecipe(RecipeInputs.ROTARY_GAS, gas.getType(), recipe -> recipe.test(gas));
     }
 
     public MachineEnergyContainer<TileEntityRotaryCondensentrator> getEnergyContainer() {
@@ -26,6 +26,7 @@ import mekanism.common.inventory.container.slot.ContainerSlotType;
 import mekanism.common.inventory.container.slot.SlotOverlay;
 import mekanism.common.inventory.slot.chemical.GasInventorySlot;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.RecipeInputs;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.tile.interfaces.IBoundingBlock;
@@ -70,7 +71,7 @@ public class TileEntitySolarNeutronActivator extends TileEntityMekanism implemen
     public IChemicalTankHolder<Gas, GasStack, IGasTank> getInitialGasTanks() {
         ChemicalTankHelper<Gas, GasStack, IGasTank> builder = ChemicalTankHelper.forSide(this::getDirection);
         builder.addTank(inputTank = ChemicalTankBuilder.GAS.create(MAX_GAS, ChemicalTankBuilder.GAS.notExternal, ChemicalTankBuilder.GAS.alwaysTrueBi,
-              gas -> containsRecipe(recipe -> recipe.getInput().testType(gas)), ChemicalAttributeValidator.ALWAYS_ALLOW, this), RelativeSide.BOTTOM);
+              gas -> containsRecipe(RecipeInputs.GAS_TO_GAS, gas), ChemicalAttributeValidator.ALWAYS_ALLOW, this), RelativeSide.BOTTOM);
         builder.addTank(outputTank = ChemicalTankBuilder.GAS.output(MAX_GAS, this), RelativeSide.FRONT);
         return builder.build();
     }
@@ -145,7 +146,7 @@ public class TileEntitySolarNeutronActivator extends TileEntityMekanism implemen
         if (gas.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(gas));
+        return findFirstRecipe(RecipeInputs.GAS_TO_GAS, gas.getType(), recipe -> recipe.test(gas));
     }
 
     private boolean canFunction() {
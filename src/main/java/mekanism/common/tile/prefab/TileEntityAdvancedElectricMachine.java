@@ -31,6 +31,7 @@ import mekanism.common.inventory.slot.InputInventorySlot;
 import mekanism.common.inventory.slot.OutputInventorySlot;
 import mekanism.common.inventory.slot.chemical.GasInventorySlot;
 import mekanism.common.lib.transmitter.TransmissionType;
+import mekanism.common.recipe.lookup.RecipeInputs;
 import mekanism.common.tile.component.TileComponentConfig;
 import mekanism.common.tile.component.TileComponentEjector;
 import mekanism.common.upgrade.AdvancedMachineUpgradeData;
@@ -75,7 +76,7 @@ public abstract class TileEntityAdvancedElectricMachine extends TileEntityProgre
     @Override
     public IChemicalTankHolder<Gas, GasStack, IGasTank> getInitialGasTanks() {
         ChemicalTankHelper<Gas, GasStack, IGasTank> builder = ChemicalTankHelper.forSideGasWithConfig(this::getDirection, this::getConfig);
-        builder.addTank(gasTank = ChemicalTankBuilder.GAS.input(MAX_GAS, gas -> containsRecipe(recipe -> recipe.getChemicalInput().testType(gas)), this));
+        builder.addTank(gasTank = ChemicalTankBuilder.GAS.input(MAX_GAS, gas -> containsRecipe(RecipeInputs.ITEM_GAS_TO_ITEM_GAS, gas), this));
         return builder.build();
     }
 
@@ -91,7 +92,7 @@ public abstract class TileEntityAdvancedElectricMachine extends TileEntityProgre
     @Override
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
-        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getItemInput().testType(item)), this, 64, 17));
+        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(RecipeInputs.ITEM_GAS_TO_ITEM_ITEM, item), this, 64, 17));
         builder.addSlot(secondarySlot = GasInventorySlot.fillOrConvert(gasTank, this::getWorld, this, 64, 53));
         builder.addSlot(outputSlot = OutputInventorySlot.at(this, 116, 35));
         builder.addSlot(energySlot = EnergyInventorySlot.fillOrConvert(energyContainer, this::getWorld, this, 39, 35));
@@ -129,7 +130,7 @@ public abstract class TileEntityAdvancedElectricMachine extends TileEntityProgre
         if (gasStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack, gasStack));
+        return findFirstRecipe(RecipeInputs.ITEM_GAS_TO_ITEM_ITEM, stack, recipe -> recipe.test(stack, gasStack));
     }
 
     @Nullable
@@ -20,6 +20,7 @@ import mekanism.common.inventory.slot.EnergyInventorySlot;
 import mekanism.common.inventory.slot.InputInventorySlot;
 import mekanism.common.inventory.slot.OutputInventorySlot;
 import mekanism.common.lib.transmitter.TransmissionType;
+import mekanism.common.recipe.lookup.RecipeInputs;
 import mekanism.common.tile.component.TileComponentConfig;
 import mekanism.common.tile.component.TileComponentEjector;
 import mekanism.common.upgrade.MachineUpgradeData;
@@ -61,7 +62,7 @@ public abstract class TileEntityElectricMachine extends TileEntityProgressMachin
     @Override
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
-        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getInput().testType(item)), this, 64, 17));
+        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(RecipeInputs.ITEM_TO_ITEM, item), this, 64, 17));
         builder.addSlot(outputSlot = OutputInventorySlot.at(this, 116, 35));
         builder.addSlot(energySlot = EnergyInventorySlot.fillOrConvert(energyContainer, this::getWorld, this, 64, 53));
         return builder.build();
@@ -86,7 +87,7 @@ public abstract class TileEntityElectricMachine extends TileEntityProgressMachin
     @Override
     public ItemStackToItemStackRecipe getRecipe(int cacheIndex) {
         ItemStack stack = inputHandler.getInput();
-        return stack.isEmpty() ? null : findFirstRecipe(recipe -> recipe.test(stack));
+        return stack.isEmpty() ? null : findFirstRecipe(RecipeInputs.ITEM_TO_ITEM, stack, recipe -> recipe.test(stack));
     }
 
     @Nullable
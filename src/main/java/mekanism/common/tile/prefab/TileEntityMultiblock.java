@@ -379,8 +379,8 @@ public abstract class TileEntityMultiblock<T extends MultiblockData> extends Til
             T multiblock = getMultiblock();
             if (multiblock.isPositionInsideBounds(getStructure(), neighborPos)) {
                 //If the neighbor change happened from inside the bounds of the multiblock,
-                if (!multiblock.innerNodes.contains(neighborPos) || world.isAirBlock(neighborPos)) {
-                    //And we are not already an internal part of the structure, or we are changing an internal part to air
+                if (multiblock.needsRevalidation(world, neighborPos)) {
+                    //And a block got placed where there was air, or we are changing an internal part to air
                     // then we mark the structure as needing to be re-validated
                     //Note: This isn't a super accurate check as if a node gets replaced by command or mod with say dirt
                     // it won't know to invalidate it but oh well. (See java docs on innerNode for more caveats)
@@ -126,8 +126,8 @@ public abstract class TileEntityStructuralMultiblock extends TileEntityMekanism
                 if (s.getController() != null) {
                     MultiblockData multiblockData = getMultiblockData(s.getManager());
                     if (multiblockData.isPositionInsideBounds(s, neighborPos)) {
-                        if (!multiblockData.innerNodes.contains(neighborPos) || world.isAirBlock(neighborPos)) {
-                            //And we are not already an internal part of the structure, or we are changing an internal part to air
+                        if (multiblockData.needsRevalidation(world, neighborPos)) {
+                            //And a block got placed where there was air, or we are changing an internal part to air
                             // then we mark the structure as needing to be re-validated
                             //Note: This isn't a super accurate check as if a node gets replaced by command or mod with say dirt
                             // it won't know to invalidate it but oh well. (See java docs on innerNode for more caveats)
@@ -1,8 +1,9 @@
 package mekanism.common.util;
 
-import java.util.Set;
+import java.util.Collection;
 import java.util.function.BiConsumer;
 import mekanism.api.math.FloatingLong;
+import mekanism.common.lib.distribution.DistributionEngine;
 import mekanism.common.lib.distribution.FloatingLongSplitInfo;
 import mekanism.common.lib.distribution.IntegerSplitInfo;
 import mekanism.common.lib.distribution.LongSplitInfo;
@@ -31,27 +32,11 @@ public class EmitUtils {
      * @return The amount that actually got sent.
      */
     private static <HANDLER, TYPE extends Number & Comparable<TYPE>, EXTRA, TARGET extends Target<HANDLER, TYPE, EXTRA>> TYPE sendToAcceptors(
-          Set<TARGET> availableTargets, int totalTargets, SplitInfo<TYPE> splitInfo, EXTRA toSend) {
+          Collection<TARGET> availableTargets, int totalTargets, SplitInfo<TYPE> splitInfo, EXTRA toSend) {
         if (availableTargets.isEmpty() || totalTargets == 0) {
             return splitInfo.getTotalSent();
         }
-
-        //Simulate addition, sending when the requested amount is less than the amountPer
-        // splitInfo gets adjusted to account for how much is actually sent
-        availableTargets.forEach(target -> target.sendPossible(toSend, splitInfo));
-
-        //Only run this if we changed the amountPer from when we first/last ran things
-        while (splitInfo.amountPerChanged) {
-            splitInfo.amountPerChanged = false;
-            //splitInfo gets adjusted to account for how much is actually sent,
-            // and if amountPer got changed again and we need to rerun this
-            availableTargets.forEach(target -> target.shiftNeeded(splitInfo));
-        }
-
-        //Evenly distribute the remaining amount we have to give between all targets and handlers
-        // splitInfo gets adjusted to account for how much is actually sent
-        availableTargets.forEach(target -> target.sendRemainingSplit(splitInfo));
-        return splitInfo.getTotalSent();
+        return DistributionEngine.INDEXED.distribute(availableTargets, splitInfo, toSend);
     }
 
     /**
@@ -65,7 +50,7 @@ public class EmitUtils {
      *
      * @return The amount that actually got sent.
      */
-    public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, Integer, EXTRA>> int sendToAcceptors(Set<TARGET> availableTargets, int totalTargets, int amountToSplit,
+    public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, Integer, EXTRA>> int sendToAcceptors(Collection<TARGET> availableTargets, int totalTargets, int amountToSplit,
           EXTRA toSend) {
         return sendToAcceptors(availableTargets, totalTargets, new IntegerSplitInfo(amountToSplit, totalTargets), toSend);
     }
@@ -81,7 +66,7 @@ public class EmitUtils {
      *
      * @return The amount that actually got sent.
      */
-    public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, Long, EXTRA>> long sendToAcceptors(Set<TARGET> availableTargets, int totalTargets, long amountToSplit,
+    public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, Long, EXTRA>> long sendToAcceptors(Collection<TARGET> availableTargets, int totalTargets, long amountToSplit,
           EXTRA toSend) {
         return sendToAcceptors(availableTargets, totalTargets, new LongSplitInfo(amountToSplit, totalTargets), toSend);
     }
@@ -93,7 +78,7 @@ public class EmitUtils {
      *
      * @return The amount that actually got sent
      */
-    public static <HANDLER, TARGET extends Target<HANDLER, FloatingLong, FloatingLong>> FloatingLong sendToAcceptors(Set<TARGET> availableTargets, int totalTargets,
+    public static <HANDLER, TARGET extends Target<HANDLER, FloatingLong, FloatingLong>> FloatingLong sendToAcceptors(Collection<TARGET> availableTargets, int totalTargets,
           FloatingLong amountToSplit) {
         return sendToAcceptors(availableTargets, totalTargets, new FloatingLongSplitInfo(amountToSplit, totalTargets), amountToSplit);
     }
@@ -85,6 +85,10 @@ public final class ItemDataUtils {
         return hasDataTag(stack) ? getDataMap(stack).getList(key, NBT.TAG_COMPOUND) : new ListNBT();
     }
 
+    public static byte[] getByteArray(ItemStack stack, String key) {
+        return hasDataTag(stack) ? getDataMap(stack).getByteArray(key) : new byte[0];
+    }
+
     public static void setInt(ItemStack stack, String key, int i) {
         initStack(stack);
         getDataMap(stack).putInt(key, i);
@@ -125,6 +129,11 @@ public final class ItemDataUtils {
         getDataMap(stack).put(key, tag);
     }
 
+    public static void setByteArray(ItemStack stack, String key, byte[] bytes) {
+        initStack(stack);
+        getDataMap(stack).putByteArray(key, bytes);
+    }
+
     private static boolean hasDataTag(ItemStack stack) {
         return stack.getTag() != null && stack.getTag().contains(NBTConstants.MEK_DATA, NBT.TAG_COMPOUND);
     }
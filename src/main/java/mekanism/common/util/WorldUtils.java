@@ -19,15 +19,18 @@ import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.block.ILiquidContainer;
+import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.fluid.Fluid;
 import net.minecraft.fluid.FluidState;
 import net.minecraft.tags.FluidTags;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ClassInheritanceMultiMap;
 import net.minecraft.util.Direction;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.util.SoundEvents;
+import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.MathHelper;
@@ -36,6 +39,8 @@ import net.minecraft.world.IBlockReader;
 import net.minecraft.world.IWorld;
 import net.minecraft.world.IWorldReader;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.AbstractChunkProvider;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.ChunkStatus;
 import net.minecraft.world.chunk.IChunk;
 import net.minecraftforge.common.util.Constants.BlockFlags;
@@ -132,6 +137,43 @@ public class WorldUtils {
         return Optional.of(world.getBlockState(pos));
     }
 
+    /**
+     * Checks if there may be any entities within the given bounds by checking if the entity lists of the chunk sections the bounds are in are empty, without looking at
+     * any of the entities. This is a lot cheaper than {@link World#getEntitiesWithinAABB(Class, AxisAlignedBB)} for checking places that usually have no entities.
+     *
+     * @param world  world
+     * @param bounds bounds to check
+     *
+     * @return {@code false} if there are no entities within the bounds, {@code true} if there may be some.
+     */
+    public static boolean mayHaveEntitiesWithin(World world, AxisAlignedBB bounds) {
+        //Note: Expand the bounds the same way vanilla does when looking up entities, as entities are stored in the section their position is in
+        // and mods can raise the max entity radius for large entities
+        double radius = world.getMaxEntityRadius();
+        int minChunkX = MathHelper.floor((bounds.minX - radius) / 16);
+        int maxChunkX = MathHelper.ceil((bounds.maxX + radius) / 16);
+        int minChunkZ = MathHelper.floor((bounds.minZ - radius) / 16);
+        int maxChunkZ = MathHelper.ceil((bounds.maxZ + radius) / 16);
+        int minSection = MathHelper.floor((bounds.minY - radius) / 16);
+        int maxSection = MathHelper.floor((bounds.maxY + radius) / 16);
+        AbstractChunkProvider chunkProvider = world.getChunkProvider();
+        for (int chunkX = minChunkX; chunkX < maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ < maxChunkZ; chunkZ++) {
+                Chunk chunk = chunkProvider.getChunk(chunkX, chunkZ, false);
+                if (chunk != null) {
+                    ClassInheritanceMultiMap<Entity>[] entityLists = chunk.getEntityLists();
+                    int maxIndex = entityLists.length - 1;
+                    for (int section = MathHelper.clamp(minSection, 0, maxIndex), end = MathHelper.clamp(maxSection, 0, maxIndex); section <= end; section++) {
+                        if (!entityLists[section].isEmpty()) {
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Gets a fluidstate if the location is loaded by getting the chunk from the passed in cache of chunks rather than directly using the world. We then store our chunk
      * we found back in the cache so as to more quickly be able to lookup chunks if we are doing lots of lookups at once (For example multiblock structure validation)
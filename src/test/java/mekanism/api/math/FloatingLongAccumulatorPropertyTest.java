@@ -0,0 +1,85 @@
+package mekanism.api.math;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.quicktheories.QuickTheory;
+import org.quicktheories.WithQuickTheories;
+import org.quicktheories.core.Gen;
+import org.quicktheories.dsl.TheoryBuilder2;
+import org.quicktheories.impl.Constraint;
+
+@DisplayName("Test the implementation of FloatingLongAccumulator by checking it matches the results of FloatingLong")
+class FloatingLongAccumulatorPropertyTest implements WithQuickTheories {
+
+    /**
+     * Generator for all possible floating longs
+     */
+    private Gen<FloatingLong> allFloatingLongs() {
+        //Value constraint is any possible long
+        Constraint valueConstraint = Constraint.between(Long.MIN_VALUE, Long.MAX_VALUE).withShrinkPoint(0);
+        //Decimal constraint is any possible decimal
+        Constraint decimalConstraint = Constraint.between(0, 9_999).withShrinkPoint(0);
+        //Given random generator create floating long using the two constraints we defined above]
+        return prng -> FloatingLong.createConst(prng.next(valueConstraint), (short) prng.next(decimalConstraint));
+    }
+
+    private TheoryBuilder2<FloatingLong, FloatingLong> floatingLongPairTheory() {
+        return qt().forAll(allFloatingLongs(), allFloatingLongs());
+    }
+
+    @Override
+    public QuickTheory qt() {
+        //Force our example count to be higher than the default by 100x
+        return WithQuickTheories.super.qt().withExamples(100_000);
+    }
+
+    @Test
+    @DisplayName("Test addition matches FloatingLong")
+    void testAddition() {
+        floatingLongPairTheory().check((a, b) -> new FloatingLongAccumulator(a).plusEqual(b).valueEquals(a.add(b)));
+    }
+
+    @Test
+    @DisplayName("Test subtraction matches FloatingLong")
+    void testSubtraction() {
+        floatingLongPairTheory().check((a, b) -> new FloatingLongAccumulator(a).minusEqual(b).valueEquals(a.subtract(b)));
+    }
+
+    @Test
+    @DisplayName("Test multiplication matches FloatingLong")
+    void testMultiplying() {
+        floatingLongPairTheory().check((a, b) -> new FloatingLongAccumulator(a).timesEqual(b).valueEquals(a.multiply(b)));
+    }
+
+    @Test
+    @DisplayName("Test division matches FloatingLong")
+    void testDivision() {
+        floatingLongPairTheory().check((a, b) -> b.isZero() || new FloatingLongAccumulator(a).divideEquals(b).valueEquals(a.divide(b)));
+    }
+
+    @Test
+    @DisplayName("Test dividing by long matches FloatingLong")
+    void testDivisionByLong() {
+        qt().forAll(
+              allFloatingLongs(),
+              longs().all()
+        ).check((a, b) -> b == 0 || new FloatingLongAccumulator(a).divideEquals(b).valueEquals(a.divide(b)));
+    }
+
+    @Test
+    @DisplayName("Test comparing matches FloatingLong")
+    void testCompare() {
+        floatingLongPairTheory().check((a, b) -> new FloatingLongAccumulator(a).compareTo(b) == a.compareTo(b));
+    }
+
+    @Test
+    @DisplayName("Test multiply then divide then clamp matches chained FloatingLong operations")
+    void testTimesDivideClamp() {
+        qt().forAll(
+              allFloatingLongs(),
+              allFloatingLongs(),
+              allFloatingLongs(),
+              allFloatingLongs()
+        ).check((a, b, c, max) -> c.isZero() || new FloatingLongAccumulator(a).timesDivideEquals(b, c, max).valueEquals(a.multiply(b).divide(c).min(max)));
+    }
+}
@@ -0,0 +1,131 @@
+package mekanism.api.math;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.quicktheories.QuickTheory;
+import org.quicktheories.WithQuickTheories;
+import org.quicktheories.core.Gen;
+import org.quicktheories.dsl.TheoryBuilder2;
+import org.quicktheories.impl.Constraint;
+
+@DisplayName("Test the implementation of WideFloatingLongAccumulator by checking it matches the results of BigDecimal and FloatingLong")
+class WideFloatingLongAccumulatorPropertyTest implements WithQuickTheories {
+
+    private static BigDecimal toBigDecimal(Object value) {
+        return new BigDecimal(value.toString());
+    }
+
+    private static boolean matches(WideFloatingLongAccumulator accumulator, BigDecimal expected) {
+        //Note: Compare rather than use equals as the scale of the BigDecimals may differ
+        return toBigDecimal(accumulator).compareTo(expected) == 0;
+    }
+
+    /**
+     * Generator for all possible floating longs
+     */
+    private Gen<FloatingLong> allFloatingLongs() {
+        //Value constraint is any possible long
+        Constraint valueConstraint = Constraint.between(Long.MIN_VALUE, Long.MAX_VALUE).withShrinkPoint(0);
+        //Decimal constraint is any possible decimal
+        Constraint decimalConstraint = Constraint.between(0, 9_999).withShrinkPoint(0);
+        //Given random generator create floating long using the two constraints we defined above]
+        return prng -> FloatingLong.createConst(prng.next(valueConstraint), (short) prng.next(decimalConstraint));
+    }
+
+    private TheoryBuilder2<FloatingLong, FloatingLong> floatingLongPairTheory() {
+        return qt().forAll(allFloatingLongs(), allFloatingLongs());
+    }
+
+    @Override
+    public QuickTheory qt() {
+        //Force our example count to be higher than the default by 100x
+        return WithQuickTheories.super.qt().withExamples(100_000);
+    }
+
+    @Test
+    @DisplayName("Test addition matches BigDecimal")
+    void testAddition() {
+        floatingLongPairTheory().check((a, b) -> matches(new WideFloatingLongAccumulator(a).plusEqual(b), toBigDecimal(a).add(toBigDecimal(b))));
+    }
+
+    @Test
+    @DisplayName("Test addition of accumulators matches BigDecimal")
+    void testAccumulatorAddition() {
+        qt().forAll(
+              allFloatingLongs(),
+              allFloatingLongs(),
+              allFloatingLongs(),
+              allFloatingLongs()
+        ).check((a, b, c, d) -> {
+            WideFloatingLongAccumulator first = new WideFloatingLongAccumulator(a).plusEqual(b);
+            WideFloatingLongAccumulator second = new WideFloatingLongAccumulator(c).plusEqual(d);
+            return matches(first.plusEqual(second), toBigDecimal(a).add(toBigDecimal(b)).add(toBigDecimal(c)).add(toBigDecimal(d)));
+        });
+    }
+
+    @Test
+    @DisplayName("Test converting a sum matches FloatingLong")
+    void testClampedAddition() {
+        floatingLongPairTheory().check((a, b) -> new WideFloatingLongAccumulator(a).plusEqual(b).toFloatingLong().equals(a.add(b)));
+    }
+
+    @Test
+    @DisplayName("Test subtraction matches FloatingLong")
+    void testSubtraction() {
+        floatingLongPairTheory().check((a, b) -> new WideFloatingLongAccumulator(a).minusEqual(b).valueEquals(a.subtract(b)));
+    }
+
+    @Test
+    @DisplayName("Test subtracting from a sum that does not fit in a FloatingLong matches BigDecimal")
+    void testWideSubtraction() {
+        qt().forAll(
+              allFloatingLongs(),
+              allFloatingLongs(),
+              allFloatingLongs()
+        ).check((a, b, c) -> {
+            WideFloatingLongAccumulator sum = new WideFloatingLongAccumulator(a).plusEqual(b).plusEqual(FloatingLong.MAX_VALUE);
+            BigDecimal expected = toBigDecimal(a).add(toBigDecimal(b)).add(toBigDecimal(FloatingLong.MAX_VALUE)).subtract(toBigDecimal(c));
+            return matches(sum.minusEqual(c), expected);
+        });
+    }
+
+    @Test
+    @DisplayName("Test subtracting a larger accumulator clamps at zero")
+    void testSubtractionClamps() {
+        floatingLongPairTheory().check((a, b) -> {
+            WideFloatingLongAccumulator larger = new WideFloatingLongAccumulator(a).plusEqual(b).plusEqual(FloatingLong.ONE);
+            return new WideFloatingLongAccumulator(a).minusEqual(larger).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("Test comparing matches FloatingLong")
+    void testCompare() {
+        floatingLongPairTheory().check((a, b) -> new WideFloatingLongAccumulator(a).compareTo(b) == a.compareTo(b));
+    }
+
+    @Test
+    @DisplayName("Test comparing sums matches BigDecimal")
+    void testCompareSums() {
+        qt().forAll(
+              allFloatingLongs(),
+              allFloatingLongs(),
+              allFloatingLongs(),
+              allFloatingLongs()
+        ).check((a, b, c, d) -> {
+            int compare = new WideFloatingLongAccumulator(a).plusEqual(b).compareTo(new WideFloatingLongAccumulator(c).plusEqual(d));
+            int expected = toBigDecimal(a).add(toBigDecimal(b)).compareTo(toBigDecimal(c).add(toBigDecimal(d)));
+            return Integer.signum(compare) == expected;
+        });
+    }
+
+    @Test
+    @DisplayName("Test converting to double matches BigDecimal")
+    void testDoubleValue() {
+        floatingLongPairTheory().check((a, b) -> {
+            double expected = toBigDecimal(a).add(toBigDecimal(b)).doubleValue();
+            return Math.abs(new WideFloatingLongAccumulator(a).plusEqual(b).doubleValue() - expected) <= Math.ulp(expected) * 2;
+        });
+    }
+}
@@ -0,0 +1,246 @@
+package mekanism.common.content.network;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import mekanism.api.heat.HeatAPI;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test PackedHeatSolver against the serial conductor simulation")
+class PackedHeatSolverTest {
+
+    private static final double[] INVERSE_INSULATIONS = {10, 400, 8_000, 100_000};
+
+    /**
+     * Mirrors how HeatNetwork steps conductors when using ITileHeatHandler#simulate: each conductor in turn pushes heat to its neighbors and the environment based on
+     * its stored heat, and then has all the heat it has been handed so far applied.
+     */
+    private static class SerialNetwork {
+
+        private final double[] stored;
+        private final double[] pending;
+        private final double[] capacity;
+        private final double[] inverseConduction;
+        private final double[] inverseInsulation;
+        private final int[][] neighbors;
+
+        private SerialNetwork(double[] stored, double[] capacity, double[] inverseConduction, double[] inverseInsulation, int[][] neighbors) {
+            this.stored = stored.clone();
+            this.pending = new double[stored.length];
+            this.capacity = capacity;
+            this.inverseConduction = inverseConduction;
+            this.inverseInsulation = inverseInsulation;
+            this.neighbors = neighbors;
+        }
+
+        private void step() {
+            for (int i = 0; i < stored.length; i++) {
+                double temperature = stored[i] / capacity[i];
+                for (int neighbor : neighbors[i]) {
+                    double tempToTransfer = (temperature - HeatAPI.AMBIENT_TEMP) / (inverseConduction[neighbor] + inverseConduction[i]);
+                    pending[i] -= tempToTransfer * capacity[i];
+                    pending[neighbor] += tempToTransfer * capacity[i];
+                }
+                for (int side = 0; side < 6; side++) {
+                    double invConduction = HeatAPI.AIR_INVERSE_COEFFICIENT + inverseInsulation[i] + inverseConduction[i];
+                    pending[i] -= (temperature - HeatAPI.AMBIENT_TEMP) / invConduction * capacity[i];
+                }
+                stored[i] += pending[i];
+                pending[i] = 0;
+            }
+        }
+    }
+
+    private static class Network {
+
+        private final double[] heat;
+        private final double[] capacity;
+        private final double[] inverseConduction;
+        private final double[] inverseInsulation;
+        private final int[][] neighbors;
+
+        private Network(Random random, int size, int extraLinks) {
+            heat = new double[size];
+            capacity = new double[size];
+            inverseConduction = new double[size];
+            inverseInsulation = new double[size];
+            List<List<Integer>> links = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                capacity[i] = HeatAPI.DEFAULT_HEAT_CAPACITY + random.nextInt(3);
+                heat[i] = capacity[i] * (HeatAPI.AMBIENT_TEMP + random.nextDouble() * 5_000);
+                inverseConduction[i] = 1 + random.nextInt(5);
+                inverseInsulation[i] = INVERSE_INSULATIONS[random.nextInt(INVERSE_INSULATIONS.length)];
+                links.add(new ArrayList<>());
+            }
+            //Make sure everything is connected and then add some random extra connections
+            for (int i = 1; i < size; i++) {
+                link(links, i - 1, i);
+            }
+            for (int i = 0; i < extraLinks; i++) {
+                link(links, random.nextInt(size), random.nextInt(size));
+            }
+            neighbors = new int[size][];
+            for (int i = 0; i < size; i++) {
+                neighbors[i] = links.get(i).stream().mapToInt(Integer::intValue).toArray();
+            }
+        }
+
+        private static void link(List<List<Integer>> links, int a, int b) {
+            if (a != b && !links.get(a).contains(b) && links.get(a).size() < 6 && links.get(b).size() < 6) {
+                links.get(a).add(b);
+                links.get(b).add(a);
+            }
+        }
+
+        private PackedHeatSolver createSolver() {
+            PackedHeatSolver solver = new PackedHeatSolver(inverseConduction, inverseInsulation, neighbors);
+            load(solver, heat);
+            return solver;
+        }
+
+        private void load(PackedHeatSolver solver, double[] heat) {
+            for (int i = 0; i < heat.length; i++) {
+                solver.setHeat(i, heat[i], capacity[i]);
+            }
+        }
+
+        private SerialNetwork createSerial() {
+            return new SerialNetwork(heat, capacity, inverseConduction, inverseInsulation, neighbors);
+        }
+    }
+
+    private static void assertRelativelyEqual(double expected, double actual, double tolerance) {
+        Assertions.assertEquals(expected, actual, Math.max(1, Math.abs(expected)) * tolerance);
+    }
+
+    @Test
+    @DisplayName("Test a single step transfers the same heat as the serial simulation")
+    void testSingleStep() {
+        Random random = new Random(42);
+        for (int run = 0; run < 20; run++) {
+            Network network = new Network(random, 1 + random.nextInt(200), random.nextInt(300));
+            PackedHeatSolver solver = network.createSolver();
+            solver.step(null);
+            SerialNetwork serial = network.createSerial();
+            serial.step();
+            for (int i = 0; i < network.heat.length; i++) {
+                //The serial simulation applies heat handed to conductors it already stepped in the next step, so include what is still pending
+                assertRelativelyEqual(serial.stored[i] + serial.pending[i], network.heat[i] + solver.getHeatChange(i), 1E-12);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test heat that is constantly added settles at the same temperatures as in the serial simulation")
+    void testSteadyState() {
+        Network network = new Network(new Random(7), 32, 20);
+        double input = 1_000;
+        PackedHeatSolver solver = network.createSolver();
+        SerialNetwork serial = network.createSerial();
+        double[] heat = network.heat.clone();
+        for (int tick = 0; tick < 100_000; tick++) {
+            //Heat gets handed to the first conductor before the network ticks, like a heat generator adjacent to it would, and only gets applied when the
+            // network ticks
+            network.load(solver, heat);
+            solver.step(null);
+            for (int i = 0; i < heat.length; i++) {
+                heat[i] += solver.getHeatChange(i);
+            }
+            heat[0] += input;
+            serial.pending[0] += input;
+            serial.step();
+        }
+        for (int i = 0; i < heat.length; i++) {
+            //Note: Once settled, heat handed to conductors the serial simulation already stepped is the same every step, so the stored heat is what both use
+            assertRelativelyEqual(serial.stored[i] / network.capacity[i], heat[i] / network.capacity[i], 1E-6);
+        }
+    }
+
+    @Test
+    @DisplayName("Test the order of the conductors does not affect the result")
+    void testOrderIndependence() {
+        Network network = new Network(new Random(1234), 150, 200);
+        PackedHeatSolver solver = network.createSolver();
+        solver.step(null);
+
+        int size = network.heat.length;
+        List<Integer> order = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            order.add(i);
+        }
+        Collections.shuffle(order, new Random(99));
+        int[] newIndex = new int[size];
+        for (int i = 0; i < size; i++) {
+            newIndex[order.get(i)] = i;
+        }
+        double[] inverseConduction = new double[size];
+        double[] inverseInsulation = new double[size];
+        int[][] neighbors = new int[size][];
+        for (int i = 0; i < size; i++) {
+            int old = order.get(i);
+            inverseConduction[i] = network.inverseConduction[old];
+            inverseInsulation[i] = network.inverseInsulation[old];
+            neighbors[i] = new int[network.neighbors[old].length];
+            for (int n = 0; n < neighbors[i].length; n++) {
+                neighbors[i][n] = newIndex[network.neighbors[old][n]];
+            }
+        }
+        PackedHeatSolver shuffled = new PackedHeatSolver(inverseConduction, inverseInsulation, neighbors);
+        for (int i = 0; i < size; i++) {
+            int old = order.get(i);
+            shuffled.setHeat(i, network.heat[old], network.capacity[old]);
+        }
+        shuffled.step(null);
+        for (int i = 0; i < size; i++) {
+            Assertions.assertEquals(solver.getHeatChange(order.get(i)), shuffled.getHeatChange(i));
+        }
+        assertRelativelyEqual(solver.getEnvironmentTransfer(), shuffled.getEnvironmentTransfer(), 1E-12);
+        assertRelativelyEqual(solver.getLinkTransfer(), shuffled.getLinkTransfer(), 1E-12);
+    }
+
+    @Test
+    @DisplayName("Test solving in parallel gives the same result as solving serially")
+    void testParallel() {
+        Network network = new Network(new Random(5), 10_000, 10_000);
+        PackedHeatSolver serial = network.createSolver();
+        serial.step(null);
+        PackedHeatSolver parallel = network.createSolver();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            parallel.step(pool);
+        } finally {
+            pool.shutdown();
+        }
+        for (int i = 0; i < network.heat.length; i++) {
+            Assertions.assertEquals(serial.getHeatChange(i), parallel.getHeatChange(i));
+        }
+        Assertions.assertEquals(serial.getEnvironmentTransfer(), parallel.getEnvironmentTransfer());
+        Assertions.assertEquals(serial.getLinkTransfer(), parallel.getLinkTransfer());
+    }
+
+    @Test
+    @DisplayName("Test heat is only lost to the environment")
+    void testConservation() {
+        Random random = new Random(11);
+        Network network = new Network(random, 100, 100);
+        PackedHeatSolver solver = network.createSolver();
+        solver.step(null);
+        double totalChange = 0;
+        double environmentLoss = 0;
+        double linkTransfer = 0;
+        for (int i = 0; i < network.heat.length; i++) {
+            totalChange += solver.getHeatChange(i);
+            double excess = network.heat[i] - network.capacity[i] * HeatAPI.AMBIENT_TEMP;
+            environmentLoss += 6 * excess / (HeatAPI.AIR_INVERSE_COEFFICIENT + network.inverseInsulation[i] + network.inverseConduction[i]);
+            for (int neighbor : network.neighbors[i]) {
+                linkTransfer += excess / network.capacity[i] / (network.inverseConduction[i] + network.inverseConduction[neighbor]);
+            }
+        }
+        assertRelativelyEqual(-environmentLoss, totalChange, 1E-9);
+        assertRelativelyEqual(linkTransfer, solver.getLinkTransfer(), 1E-12);
+    }
+}
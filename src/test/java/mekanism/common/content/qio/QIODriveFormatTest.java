@@ -0,0 +1,67 @@
+package mekanism.common.content.qio;
+
+import java.util.Arrays;
+import mekanism.api.NBTConstants;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.ListNBT;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.quicktheories.WithQuickTheories;
+
+@DisplayName("Test QIO drive format")
+class QIODriveFormatTest implements WithQuickTheories {
+
+    @Test
+    @DisplayName("Test encoded counts decode to the same values")
+    void testRoundTrip() {
+        qt().forAll(longs().between(0, Long.MAX_VALUE), longs().between(0, Long.MAX_VALUE), longs().between(0, 1_000))
+              .check((a, b, c) -> {
+                  long[] counts = {a, b, c};
+                  return Arrays.equals(counts, QIODriveFormat.decodeCounts(QIODriveFormat.encodeCounts(counts), counts.length));
+              });
+    }
+
+    @Test
+    @DisplayName("Test encoded size of counts")
+    void testEncodedSize() {
+        Assertions.assertEquals(0, QIODriveFormat.encodeCounts(new long[0]).length);
+        Assertions.assertEquals(1, QIODriveFormat.encodeCounts(new long[]{0}).length);
+        Assertions.assertEquals(1, QIODriveFormat.encodeCounts(new long[]{127}).length);
+        Assertions.assertEquals(2, QIODriveFormat.encodeCounts(new long[]{128}).length);
+        Assertions.assertEquals(9, QIODriveFormat.encodeCounts(new long[]{Long.MAX_VALUE}).length);
+        //Typical drive contents take far less space than a long per type
+        long[] counts = new long[1_000];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = i * 64L;
+        }
+        Assertions.assertTrue(QIODriveFormat.encodeCounts(counts).length <= 3 * counts.length);
+    }
+
+    @Test
+    @DisplayName("Test missing counts decode as zero")
+    void testTruncated() {
+        byte[] encoded = QIODriveFormat.encodeCounts(new long[]{5, 300});
+        Assertions.assertArrayEquals(new long[]{5, 300, 0, 0}, QIODriveFormat.decodeCounts(encoded, 4));
+        Assertions.assertArrayEquals(new long[]{5}, QIODriveFormat.decodeCounts(encoded, 1));
+    }
+
+    @Test
+    @DisplayName("Test drives saved in an unknown format are read only")
+    void testUnknownFormat() {
+        CompoundNBT dataMap = new CompoundNBT();
+        Assertions.assertTrue(QIODriveFormat.isKnownFormat(dataMap), "Drives without stored items should be writable");
+        dataMap.put(NBTConstants.QIO_ITEM_MAP, new ListNBT());
+        Assertions.assertTrue(QIODriveFormat.isKnownFormat(dataMap), "Drives in the legacy format should be readable");
+        dataMap.putInt(NBTConstants.QIO_ITEM_FORMAT, QIODriveFormat.VERSION);
+        dataMap.put(NBTConstants.QIO_ITEM_TYPES, new ListNBT());
+        Assertions.assertTrue(QIODriveFormat.isKnownFormat(dataMap));
+        dataMap.putInt(NBTConstants.QIO_ITEM_FORMAT, QIODriveFormat.VERSION + 1);
+        Assertions.assertFalse(QIODriveFormat.isKnownFormat(dataMap), "Drives from a newer version should not be readable");
+        dataMap.remove(NBTConstants.QIO_ITEM_FORMAT);
+        Assertions.assertFalse(QIODriveFormat.isKnownFormat(dataMap), "Drives with a type table but no format should not be readable");
+        dataMap.remove(NBTConstants.QIO_ITEM_TYPES);
+        dataMap.putInt(NBTConstants.QIO_ITEM_FORMAT, QIODriveFormat.VERSION + 1);
+        Assertions.assertFalse(QIODriveFormat.isKnownFormat(dataMap), "Drives from a newer version without a type table should not be readable");
+    }
+}
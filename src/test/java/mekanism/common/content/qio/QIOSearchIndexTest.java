@@ -0,0 +1,53 @@
+package mekanism.common.content.qio;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test QIOSearchIndex query refinement")
+class QIOSearchIndexTest {
+
+    @Test
+    @DisplayName("Test typing more characters narrows the query")
+    void testAppend() {
+        assertNarrowing("", "test");
+        assertNarrowing("te", "test");
+        assertNarrowing("test", "test name");
+        assertNarrowing("@mod", "@mod test");
+        assertNarrowing("#tag", "#tag2");
+        assertNarrowing("$tool", "$tooltip");
+    }
+
+    @Test
+    @DisplayName("Test key lists")
+    void testLists() {
+        assertNarrowing("(test | other)", "(test2 | other2)");
+        assertNarrowing("test | other", "test2");
+        assertNotNarrowing("test", "test | other");
+        assertNotNarrowing("(test | other)", "(test | something)");
+    }
+
+    @Test
+    @DisplayName("Test queries that match more")
+    void testNotNarrowing() {
+        assertNotNarrowing("test", "tes");
+        assertNotNarrowing("test", "");
+        assertNotNarrowing("@mod test", "test");
+        assertNotNarrowing("test", "@test");
+        assertNotNarrowing("\"no end quote", "\"no end quote\"");
+    }
+
+    @Test
+    @DisplayName("Test keys are compared ignoring case")
+    void testCase() {
+        assertNarrowing("Test", "tESTs");
+    }
+
+    private static void assertNarrowing(String previous, String query) {
+        Assertions.assertTrue(QIOSearchIndex.isNarrowing(SearchQueryParser.parse(previous), SearchQueryParser.parse(query)));
+    }
+
+    private static void assertNotNarrowing(String previous, String query) {
+        Assertions.assertFalse(QIOSearchIndex.isNarrowing(SearchQueryParser.parse(previous), SearchQueryParser.parse(query)));
+    }
+}
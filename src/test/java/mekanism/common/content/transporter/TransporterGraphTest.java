@@ -0,0 +1,87 @@
+package mekanism.common.content.transporter;
+
+import javax.annotation.Nullable;
+import mekanism.api.text.EnumColor;
+import mekanism.common.content.transporter.TransporterGraph.NodeChange;
+import mekanism.common.content.transporter.TransporterPathfinder.ShortestPaths;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test routing stacks through a TransporterGraph")
+class TransporterGraphTest {
+
+    private static final byte EAST_WEST = (byte) (1 << Direction.EAST.ordinal() | 1 << Direction.WEST.ordinal());
+
+    /**
+     * Creates a straight line of transporters going east from the origin, that can connect and emit both east and west.
+     */
+    private static TransporterGraph createLine(int length) {
+        TransporterGraph graph = new TransporterGraph();
+        for (int i = 0; i < length; i++) {
+            setColor(graph, graph.addNode(new BlockPos(i, 0, 0), new Object()), null);
+        }
+        return graph;
+    }
+
+    private static NodeChange setColor(TransporterGraph graph, int node, @Nullable EnumColor color) {
+        return graph.setNode(node, color, EAST_WEST, EAST_WEST, 1);
+    }
+
+    private static boolean canRoute(TransporterGraph graph, BlockPos dest, @Nullable EnumColor color) {
+        return new ShortestPaths(graph, null, BlockPos.ZERO, color, Double.POSITIVE_INFINITY).isReachable(dest);
+    }
+
+    @Test
+    @DisplayName("Test colored stacks can pass through uncolored transporters")
+    void testUncolored() {
+        TransporterGraph graph = createLine(3);
+        Assertions.assertTrue(canRoute(graph, new BlockPos(2, 0, 0), null));
+        Assertions.assertTrue(canRoute(graph, new BlockPos(2, 0, 0), EnumColor.RED));
+    }
+
+    @Test
+    @DisplayName("Test routing uses the new color of a transporter after it changes")
+    void testColorChange() {
+        TransporterGraph graph = createLine(3);
+        BlockPos dest = new BlockPos(2, 0, 0);
+        int middle = graph.getNode(new BlockPos(1, 0, 0));
+        Assertions.assertEquals(NodeChange.NARROWED, setColor(graph, middle, EnumColor.DARK_BLUE), "Coloring a transporter should only restrict what can pass");
+        Assertions.assertFalse(canRoute(graph, dest, null));
+        Assertions.assertFalse(canRoute(graph, dest, EnumColor.RED));
+        Assertions.assertTrue(canRoute(graph, dest, EnumColor.DARK_BLUE));
+        Assertions.assertEquals(NodeChange.WIDENED, setColor(graph, middle, EnumColor.RED), "Changing the color should let the new color pass");
+        Assertions.assertFalse(canRoute(graph, dest, EnumColor.DARK_BLUE));
+        Assertions.assertTrue(canRoute(graph, dest, EnumColor.RED));
+        Assertions.assertEquals(NodeChange.NONE, setColor(graph, middle, EnumColor.RED), "Setting the same color should not be reported as a change");
+        Assertions.assertEquals(NodeChange.WIDENED, setColor(graph, middle, null), "Removing the color should let every color pass");
+        Assertions.assertTrue(canRoute(graph, dest, EnumColor.DARK_BLUE));
+        Assertions.assertTrue(canRoute(graph, dest, null));
+    }
+
+    @Test
+    @DisplayName("Test routing goes around transporters that stop connecting and through them again once they reconnect")
+    void testDisconnect() {
+        TransporterGraph graph = createLine(3);
+        BlockPos dest = new BlockPos(2, 0, 0);
+        int middle = graph.getNode(new BlockPos(1, 0, 0));
+        Assertions.assertEquals(NodeChange.NARROWED, graph.setNode(middle, null, (byte) 0, (byte) 0, 1));
+        Assertions.assertFalse(canRoute(graph, dest, null));
+        Assertions.assertEquals(NodeChange.WIDENED, graph.setNode(middle, null, EAST_WEST, EAST_WEST, 1), "Reconnecting should open up routes again");
+        Assertions.assertTrue(canRoute(graph, dest, null));
+    }
+
+    @Test
+    @DisplayName("Test routing does not search past the max search distance")
+    void testMaxSearchDistance() {
+        TransporterGraph graph = createLine(10);
+        ShortestPaths paths = new ShortestPaths(graph, null, BlockPos.ZERO, null, 4);
+        Assertions.assertTrue(paths.isReachable(new BlockPos(5, 0, 0)), "Transporters next to ones in range should be reachable");
+        Assertions.assertFalse(paths.isReachable(new BlockPos(6, 0, 0)), "Transporters out of range should not be searched past");
+        Assertions.assertTrue(paths.canSearchFrom(new BlockPos(2, 0, 0), new BlockPos(3, 0, 0)));
+        Assertions.assertFalse(paths.canSearchFrom(new BlockPos(3, 0, 0), new BlockPos(1, 0, 0)), "Transporters further than twice the destination's distance");
+        Assertions.assertFalse(paths.canSearchFrom(new BlockPos(5, 0, 0), new BlockPos(6, 0, 0)), "Transporters further than the max search distance");
+    }
+}
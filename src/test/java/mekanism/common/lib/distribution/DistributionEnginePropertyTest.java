@@ -0,0 +1,130 @@
+package mekanism.common.lib.distribution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import mekanism.common.lib.distribution.target.InfiniteIntegerTarget;
+import mekanism.common.lib.distribution.target.IntegerTarget;
+import mekanism.common.lib.distribution.target.PartialIntegerTarget;
+import mekanism.common.lib.distribution.target.SpecificAmountIntegerTarget;
+import net.minecraft.util.Direction;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.quicktheories.WithQuickTheories;
+
+@DisplayName("Property based testing that the indexed distribution engine matches the iterative distribution engine")
+class DistributionEnginePropertyTest implements WithQuickTheories {
+
+    private static void addTargets(List<IntegerTarget> targets, Supplier<IntegerTarget> targetSupplier, int count) {
+        for (int i = 0; i < count; i++) {
+            IntegerTarget target = targetSupplier.get();
+            //Give some targets more than one handler, so that we also check handlers of a single target get visited in the same order
+            int handlers = targets.size() % 3 + 1;
+            for (int side = 0; side < handlers; side++) {
+                target.addHandler(Direction.values()[side], targets.size() * 6 + side);
+            }
+            targets.add(target);
+        }
+    }
+
+    /**
+     * Creates a list of targets in a consistent order, so that we can create an identical copy of them for each engine. The specific targets want amounts spread
+     * between zero and maxSpecific, shared between all their handlers.
+     */
+    private static List<IntegerTarget> getTargets(int infinite, int some, int specific, int maxSpecific) {
+        List<IntegerTarget> targets = new ArrayList<>();
+        addTargets(targets, InfiniteIntegerTarget::new, infinite);
+        addTargets(targets, PartialIntegerTarget::new, some);
+        for (int i = 0; i < specific; i++) {
+            int amount = (int) ((long) i * 7_919 % (maxSpecific + 1));
+            addTargets(targets, () -> new SpecificAmountIntegerTarget(amount), 1);
+        }
+        return targets;
+    }
+
+    private static int distribute(DistributionEngine engine, List<IntegerTarget> targets, List<String> callLog, int toSend) {
+        for (IntegerTarget target : targets) {
+            target.setCallLog(callLog);
+        }
+        int handlers = targets.stream().mapToInt(target -> target.getHandlers().size()).sum();
+        return targets.isEmpty() ? 0 : engine.distribute(targets, new IntegerSplitInfo(toSend, handlers), toSend);
+    }
+
+    @Test
+    @DisplayName("Test indexed distribution makes the same calls and sends each target the same amount as iterative distribution")
+    void testIndexedMatchesIterative() {
+        qt().forAll(
+              integers().between(0, 100),
+              integers().between(0, 100),
+              integers().between(0, 100),
+              integers().between(0, 1_000)
+        ).checkAssert((infinite, some, specific, maxSpecific) -> {
+            for (int toSend : new int[]{1, 10, 1_000, 1_000_000, Integer.MAX_VALUE}) {
+                List<IntegerTarget> iterativeTargets = getTargets(infinite, some, specific, maxSpecific);
+                List<IntegerTarget> indexedTargets = getTargets(infinite, some, specific, maxSpecific);
+                List<String> iterativeCalls = new ArrayList<>();
+                List<String> indexedCalls = new ArrayList<>();
+                int iterative = distribute(DistributionEngine.ITERATIVE, iterativeTargets, iterativeCalls, toSend);
+                int indexed = distribute(DistributionEngine.INDEXED, indexedTargets, indexedCalls, toSend);
+                Assertions.assertEquals(iterativeCalls, indexedCalls, "Simulate and accept calls");
+                Assertions.assertEquals(iterative, indexed, "Total amount sent");
+                for (int i = 0; i < iterativeTargets.size(); i++) {
+                    int target = i;
+                    Assertions.assertEquals(iterativeTargets.get(i).getAccepted(), indexedTargets.get(i).getAccepted(), () -> "Amount sent to target " + target);
+                }
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Test indexed distribution matches iterative distribution when what handlers want is close to the share")
+    void testIndexedMatchesIterativeNearShare() {
+        //Handlers only end up visited in a different order in a small fraction of cases, so check more examples than the default
+        qt().withExamples(100_000).forAll(
+              lists().of(integers().between(0, 40)).ofSizeBetween(1, 12),
+              integers().between(0, 2),
+              integers().between(0, 40),
+              integers().between(0, 10)
+        ).checkAssert((amounts, infinite, share, extra) -> {
+            //Send about the given share to each handler, so that what they want is spread around the share
+            int toSend = share * (amounts.size() + infinite) + extra;
+            List<IntegerTarget> iterativeTargets = new ArrayList<>();
+            List<IntegerTarget> indexedTargets = new ArrayList<>();
+            for (List<IntegerTarget> targets : Arrays.asList(iterativeTargets, indexedTargets)) {
+                addTargets(targets, InfiniteIntegerTarget::new, infinite);
+                for (int amount : amounts) {
+                    addTargets(targets, () -> new SpecificAmountIntegerTarget(amount), 1);
+                }
+            }
+            assertSameCalls(iterativeTargets, indexedTargets, toSend);
+        });
+    }
+
+    @Test
+    @DisplayName("Test indexed distribution waits for the next pass to recheck handlers it already passed")
+    void testIndexedRecheckOrder() {
+        //When the share grows past what an earlier handler wants part way through a pass, the earlier handler only gets sent to in the next pass
+        int[] amounts = {29, 24, 18, 24, 1, -1, 8};
+        List<IntegerTarget> iterativeTargets = new ArrayList<>();
+        List<IntegerTarget> indexedTargets = new ArrayList<>();
+        for (List<IntegerTarget> targets : Arrays.asList(iterativeTargets, indexedTargets)) {
+            for (int amount : amounts) {
+                IntegerTarget target = amount == -1 ? new InfiniteIntegerTarget() : new SpecificAmountIntegerTarget(amount);
+                target.addHandler(Direction.NORTH, targets.size());
+                targets.add(target);
+            }
+        }
+        assertSameCalls(iterativeTargets, indexedTargets, 123);
+    }
+
+    private static void assertSameCalls(List<IntegerTarget> iterativeTargets, List<IntegerTarget> indexedTargets, int toSend) {
+        List<String> iterativeCalls = new ArrayList<>();
+        List<String> indexedCalls = new ArrayList<>();
+        int iterative = distribute(DistributionEngine.ITERATIVE, iterativeTargets, iterativeCalls, toSend);
+        int indexed = distribute(DistributionEngine.INDEXED, indexedTargets, indexedCalls, toSend);
+        Assertions.assertEquals(iterativeCalls, indexedCalls, "Simulate and accept calls");
+        Assertions.assertEquals(iterative, indexed, "Total amount sent");
+    }
+}
@@ -6,6 +6,7 @@ public class InfiniteIntegerTarget extends IntegerTarget {
 
     @Override
     protected void acceptAmount(Integer handler, SplitInfo<Integer> splitInfo, Integer amount) {
+        logCall("accept", handler, amount);
         //Mark that we accepted it all
         splitInfo.send(amount);
         accept(amount);
@@ -13,6 +14,7 @@ public class InfiniteIntegerTarget extends IntegerTarget {
 
     @Override
     protected Integer simulate(Integer handler, Integer toFill) {
+        logCall("simulate", handler, toFill);
         //Pretend we could accept it all
         return toFill;
     }
@@ -1,10 +1,27 @@
 package mekanism.common.lib.distribution.target;
 
+import java.util.List;
+import javax.annotation.Nullable;
 import mekanism.common.lib.distribution.Target;
 
 public abstract class IntegerTarget extends Target<Integer, Integer, Integer> {
 
     private int accepted;
+    @Nullable
+    private List<String> callLog;
+
+    /**
+     * Sets a log to record the simulate and accept calls made to this target in.
+     */
+    public void setCallLog(@Nullable List<String> callLog) {
+        this.callLog = callLog;
+    }
+
+    protected void logCall(String call, int handler, int amount) {
+        if (callLog != null) {
+            callLog.add(call + " " + handler + ": " + amount);
+        }
+    }
 
     protected void accept(int amount) {
         accepted += amount;
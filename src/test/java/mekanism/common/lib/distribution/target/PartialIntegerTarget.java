@@ -6,6 +6,7 @@ public class PartialIntegerTarget extends IntegerTarget {
 
     @Override
     protected void acceptAmount(Integer handler, SplitInfo<Integer> splitInfo, Integer amount) {
+        logCall("accept", handler, amount);
         //Mark that we accepted half of it
         splitInfo.send(amount / 2);
         accept(amount / 2);
@@ -13,6 +14,7 @@ public class PartialIntegerTarget extends IntegerTarget {
 
     @Override
     protected Integer simulate(Integer handler, Integer toFill) {
+        logCall("simulate", handler, toFill);
         //Pretend we could accept half of it
         return toFill / 2;
     }
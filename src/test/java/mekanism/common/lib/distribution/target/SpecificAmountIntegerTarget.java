@@ -12,6 +12,7 @@ public class SpecificAmountIntegerTarget extends IntegerTarget {
 
     @Override
     protected void acceptAmount(Integer handler, SplitInfo<Integer> splitInfo, Integer amount) {
+        logCall("accept", handler, amount);
         int accepting = Math.min(toAccept, amount);
         if (accepting > 0) {
             splitInfo.send(accepting);
@@ -22,6 +23,7 @@ public class SpecificAmountIntegerTarget extends IntegerTarget {
 
     @Override
     protected Integer simulate(Integer handler, Integer toFill) {
+        logCall("simulate", handler, toFill);
         return Math.min(toAccept, toFill);
     }
 }
\ No newline at end of file